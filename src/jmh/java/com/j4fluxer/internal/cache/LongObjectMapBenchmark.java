@@ -0,0 +1,137 @@
+package com.j4fluxer.internal.cache;
+
+import com.j4fluxer.internal.utils.Snowflake;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link LongObjectMap} entity caches with the {@code HashMap<String, ...>} caches they replaced.
+ *
+ * <p>The {@code lookup*} benchmarks report the throughput of cache hits, one operation per lookup. The
+ * {@code populate*} benchmarks report how long filling a cache with {@link #size} entries takes. After each
+ * trial, the retained memory per entry of both caches is measured with JOL and printed, including the string
+ * keys the old caches kept alive; the values are shared, so they are not part of that figure.</p>
+ *
+ * <pre>
+ * mvn -P benchmarks test-compile exec:exec -Djmh.args="LongObjectMapBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LongObjectMapBenchmark {
+
+    /** The number of cached entities, roughly a small and a large guild's member count. */
+    @Param({"1000", "100000"})
+    public int size;
+
+    private long[] ids;
+    private String[] stringIds;
+    private LongObjectMap<Object> longMap;
+    private Map<String, Object> stringMap;
+    private final Object value = new Object();
+
+    /** Where the next lookup batch starts, so large caches are walked through instead of hitting one hot range. */
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        // Snowflake-like IDs: a millisecond timestamp in the high bits, worker and sequence below
+        SplittableRandom random = new SplittableRandom(42);
+        ids = new long[size];
+        stringIds = new String[size];
+        longMap = new LongObjectMap<>();
+        stringMap = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            long id = ((1_400_000_000_000L + random.nextLong(300_000_000_000L)) << 22) | random.nextInt(1 << 22);
+            ids[i] = id;
+            stringIds[i] = Snowflake.toString(id);
+            longMap.put(id, value);
+            stringMap.put(stringIds[i], value);
+        }
+    }
+
+    /** Prints the retained bytes per entry of both caches, the footprint half of the comparison. */
+    @TearDown
+    public void reportFootprint() {
+        long shared = GraphLayout.parseInstance(value).totalSize();
+        long longBytes = GraphLayout.parseInstance(longMap).totalSize() - shared;
+        long stringBytes = GraphLayout.parseInstance(stringMap).totalSize() - shared;
+        System.out.printf("%n[footprint] size=%d  LongObjectMap: %.1f B/entry  HashMap<String, ?>: %.1f B/entry%n",
+                size, (double) longBytes / size, (double) stringBytes / size);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void lookupLongObjectMap(Blackhole blackhole) {
+        int index = cursor;
+        for (int i = 0; i < 1000; i++) {
+            blackhole.consume(longMap.get(ids[index]));
+            if (++index == size) index = 0;
+        }
+        cursor = index;
+    }
+
+    /** Callers holding a string ID from a payload parse it first, so this is the cost they actually see. */
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void lookupLongObjectMapFromString(Blackhole blackhole) {
+        int index = cursor;
+        for (int i = 0; i < 1000; i++) {
+            blackhole.consume(longMap.get(Snowflake.parse(stringIds[index])));
+            if (++index == size) index = 0;
+        }
+        cursor = index;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void lookupHashMap(Blackhole blackhole) {
+        int index = cursor;
+        for (int i = 0; i < 1000; i++) {
+            blackhole.consume(stringMap.get(stringIds[index]));
+            if (++index == size) index = 0;
+        }
+        cursor = index;
+    }
+
+    /** Strings are rebuilt per entry, like the IDs the old caches kept from each JSON payload. */
+    @Benchmark
+    public Object populateHashMap() {
+        Map<String, Object> map = new HashMap<>();
+        for (long id : ids) {
+            map.put(Snowflake.toString(id), value);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Object populateLongObjectMap() {
+        LongObjectMap<Object> map = new LongObjectMap<>();
+        for (long id : ids) {
+            map.put(id, value);
+        }
+        return map;
+    }
+}
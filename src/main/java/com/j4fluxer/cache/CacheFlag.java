@@ -0,0 +1,20 @@
+package com.j4fluxer.cache;
+
+/**
+ * Optional parts of the guild cache that can be turned on or off through
+ * {@link com.j4fluxer.fluxer.FluxerBuilder#enableCache(CacheFlag...)} and
+ * {@link com.j4fluxer.fluxer.FluxerBuilder#disableCache(CacheFlag...)}.
+ *
+ * <p>Disabling a flag means the gateway never stores the matching entities. Lookups such as
+ * {@code getTextChannelById} then fall back to minimal, ID-only instances, and lookups that cannot be
+ * answered without data (e.g., {@code getRoleById}) return {@code null}. Members are controlled separately
+ * through {@link MemberCachePolicy}.</p>
+ */
+public enum CacheFlag {
+
+    /** Caches the text channels, voice channels and categories of every guild. */
+    CHANNELS,
+
+    /** Caches the roles of every guild. */
+    ROLES
+}
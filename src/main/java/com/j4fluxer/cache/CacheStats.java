@@ -0,0 +1,220 @@
+package com.j4fluxer.cache;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A point-in-time snapshot of the library's caches: how many entities each cache holds, how often lookups were
+ * answered from it, how many entries were evicted, and roughly how much heap it retains.
+ *
+ * <p>Hit, miss and eviction counts are cumulative since the {@link com.j4fluxer.fluxer.Fluxer} instance was
+ * created; subtract two snapshots to get rates. Byte figures are estimates derived from field and string sizes
+ * on a 64-bit JVM with compressed references. They are meant for sizing heaps and comparing cache policies,
+ * not for exact accounting.</p>
+ *
+ * @see com.j4fluxer.fluxer.Fluxer#getCacheStats()
+ * @see CacheStatsReporter
+ */
+public final class CacheStats {
+
+    private final Instant timestamp;
+    private final Map<CacheType, TypeStats> types;
+    private final List<GuildStats> guilds;
+
+    /**
+     * Creates a statistics snapshot. Instances are normally obtained from
+     * {@link com.j4fluxer.fluxer.Fluxer#getCacheStats()}.
+     *
+     * @param timestamp When the snapshot was taken.
+     * @param types     The statistics of each cache type.
+     * @param guilds    The statistics of each cached guild.
+     */
+    public CacheStats(Instant timestamp, Map<CacheType, TypeStats> types, List<GuildStats> guilds) {
+        this.timestamp = timestamp;
+        this.types = Collections.unmodifiableMap(new EnumMap<>(types));
+        this.guilds = List.copyOf(guilds);
+    }
+
+    /** @return When this snapshot was taken. */
+    public Instant getTimestamp() { return timestamp; }
+
+    /**
+     * Returns the statistics of a single cache type.
+     *
+     * @param type The cache type.
+     * @return The statistics; all zero if nothing of that type is cached.
+     */
+    public TypeStats get(CacheType type) {
+        TypeStats stats = types.get(type);
+        return stats != null ? stats : new TypeStats(type, 0, 0, 0, 0, 0);
+    }
+
+    /** @return The number of cached entities of the given type. */
+    public long getEntryCount(CacheType type) { return get(type).getEntryCount(); }
+
+    /** @return The number of lookups of the given type answered from the cache. */
+    public long getHitCount(CacheType type) { return get(type).getHitCount(); }
+
+    /** @return The number of lookups of the given type that missed the cache. */
+    public long getMissCount(CacheType type) { return get(type).getMissCount(); }
+
+    /** @return The number of entities of the given type evicted by a cache policy or size limit. */
+    public long getEvictionCount(CacheType type) { return get(type).getEvictionCount(); }
+
+    /** @return The estimated heap retained by the cached entities of the given type, in bytes. */
+    public long getEstimatedBytes(CacheType type) { return get(type).getEstimatedBytes(); }
+
+    /**
+     * Returns the estimated heap retained by all caches together.
+     *
+     * @return The estimated size in bytes.
+     */
+    public long getEstimatedBytes() {
+        long total = 0;
+        for (TypeStats stats : types.values()) {
+            total += stats.getEstimatedBytes();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the statistics of every cached guild.
+     *
+     * @return An unmodifiable list, largest estimated size first.
+     */
+    public List<GuildStats> getGuilds() { return guilds; }
+
+    @Override
+    public String toString() {
+        return "CacheStats(" + timestamp + ", ~" + (getEstimatedBytes() / 1024) + " KiB)";
+    }
+
+    /**
+     * The statistics of one cache type across all guilds.
+     */
+    public static final class TypeStats {
+
+        private final CacheType type;
+        private final long entryCount;
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long estimatedBytes;
+
+        /**
+         * Creates the statistics of one cache type.
+         *
+         * @param type           The cache type.
+         * @param entryCount     The number of cached entities.
+         * @param hitCount       The number of lookups answered from the cache.
+         * @param missCount      The number of lookups that missed the cache.
+         * @param evictionCount  The number of evicted entities.
+         * @param estimatedBytes The estimated heap retained by the cached entities.
+         */
+        public TypeStats(CacheType type, long entryCount, long hitCount, long missCount, long evictionCount,
+                         long estimatedBytes) {
+            this.type = type;
+            this.entryCount = entryCount;
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.estimatedBytes = estimatedBytes;
+        }
+
+        /** @return The cache type. */
+        public CacheType getType() { return type; }
+
+        /** @return The number of cached entities. */
+        public long getEntryCount() { return entryCount; }
+
+        /** @return The number of lookups answered from the cache. */
+        public long getHitCount() { return hitCount; }
+
+        /** @return The number of lookups that missed the cache. */
+        public long getMissCount() { return missCount; }
+
+        /** @return The number of entities evicted by a cache policy or size limit. */
+        public long getEvictionCount() { return evictionCount; }
+
+        /** @return The estimated heap retained by the cached entities, in bytes. */
+        public long getEstimatedBytes() { return estimatedBytes; }
+
+        /**
+         * Returns the share of lookups that were answered from the cache.
+         *
+         * @return A value between {@code 0} and {@code 1}, or {@code NaN} if there were no lookups yet.
+         */
+        public double getHitRate() {
+            long lookups = hitCount + missCount;
+            return lookups == 0 ? Double.NaN : (double) hitCount / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return type + ": " + entryCount + " entries, ~" + (estimatedBytes / 1024) + " KiB, "
+                    + hitCount + " hits, " + missCount + " misses, " + evictionCount + " evictions";
+        }
+    }
+
+    /**
+     * The statistics of the caches of a single guild.
+     */
+    public static final class GuildStats {
+
+        private final long guildId;
+        private final String name;
+        private final Map<CacheType, Long> entryCounts;
+        private final Map<CacheType, Long> estimatedBytes;
+
+        /**
+         * Creates the statistics of one guild.
+         *
+         * @param guildId        The guild ID.
+         * @param name           The guild name.
+         * @param entryCounts    The number of cached roles, channels and members.
+         * @param estimatedBytes The estimated heap retained by the cached roles, channels and members.
+         */
+        public GuildStats(long guildId, String name, Map<CacheType, Long> entryCounts, Map<CacheType, Long> estimatedBytes) {
+            this.guildId = guildId;
+            this.name = name;
+            this.entryCounts = Collections.unmodifiableMap(new EnumMap<>(entryCounts));
+            this.estimatedBytes = Collections.unmodifiableMap(new EnumMap<>(estimatedBytes));
+        }
+
+        /** @return The guild ID. */
+        public String getGuildId() { return Long.toUnsignedString(guildId); }
+
+        /** @return The guild ID as an unsigned {@code long}. */
+        public long getGuildIdLong() { return guildId; }
+
+        /** @return The guild name. */
+        public String getName() { return name; }
+
+        /** @return The number of cached entities of the given type in this guild. */
+        public long getEntryCount(CacheType type) { return entryCounts.getOrDefault(type, 0L); }
+
+        /** @return The estimated heap retained by the cached entities of the given type in this guild, in bytes. */
+        public long getEstimatedBytes(CacheType type) { return estimatedBytes.getOrDefault(type, 0L); }
+
+        /**
+         * Returns the estimated heap retained by this guild and everything cached in it.
+         *
+         * @return The estimated size in bytes.
+         */
+        public long getEstimatedBytes() {
+            long total = 0;
+            for (long bytes : estimatedBytes.values()) {
+                total += bytes;
+            }
+            return total;
+        }
+
+        @Override
+        public String toString() {
+            return "GuildStats(" + name + ", ~" + (getEstimatedBytes() / 1024) + " KiB)";
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.j4fluxer.cache;
+
+/**
+ * Receives {@link CacheStats} periodically, e.g. to export them to a metrics system.
+ *
+ * <p>Reporters are registered through
+ * {@link com.j4fluxer.fluxer.FluxerBuilder#setCacheStatsReporter(CacheStatsReporter, java.time.Duration)} and
+ * called on a dedicated background thread, so they may block briefly without affecting event handling.</p>
+ *
+ * <pre>{@code
+ * FluxerBuilder.create(token)
+ *         .setCacheStatsReporter(stats -> registry.gauge("members", stats.getEntryCount(CacheType.MEMBER)),
+ *                 Duration.ofMinutes(1))
+ *         .build();
+ * }</pre>
+ */
+@FunctionalInterface
+public interface CacheStatsReporter {
+
+    /** Prints a one-line summary per cache type to the console. */
+    CacheStatsReporter CONSOLE = stats -> {
+        for (CacheType type : CacheType.values()) {
+            System.out.println("[CACHE] " + stats.get(type));
+        }
+    };
+
+    /**
+     * Handles a new statistics snapshot.
+     *
+     * @param stats The current cache statistics.
+     */
+    void report(CacheStats stats);
+}
@@ -0,0 +1,25 @@
+package com.j4fluxer.cache;
+
+/**
+ * The kinds of entities kept in the library's caches, as reported by {@link CacheStats}.
+ */
+public enum CacheType {
+
+    /** Guilds, keyed by guild ID. */
+    GUILD,
+
+    /** Roles, cached per guild. */
+    ROLE,
+
+    /** Text channels, voice channels and categories, cached per guild. */
+    CHANNEL,
+
+    /** Guild members, cached per guild according to the {@link MemberCachePolicy}. */
+    MEMBER,
+
+    /** Users, shared by every guild and held weakly while anything references them. */
+    USER,
+
+    /** Recent messages, cached only if the message cache is enabled. */
+    MESSAGE
+}
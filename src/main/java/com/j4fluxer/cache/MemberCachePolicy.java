@@ -0,0 +1,120 @@
+package com.j4fluxer.cache;
+
+import com.j4fluxer.entities.member.Member;
+
+import java.time.Duration;
+
+/**
+ * Decides which guild members are kept in the member cache.
+ *
+ * <p>The policy is consulted every time the gateway (or a member listing with caching enabled)
+ * delivers a member. Members that are rejected are never stored, so a restrictive policy keeps the heap
+ * small on bots that are in many large guilds. Policies with an {@link #getExpiry() expiry} are also
+ * asked periodically whether idle members should stay cached.</p>
+ *
+ * <pre>{@code
+ * FluxerBuilder.create(token)
+ *         .setMemberCachePolicy(MemberCachePolicy.OWNER.or(MemberCachePolicy.recentlyActive(Duration.ofMinutes(30))))
+ *         .build();
+ * }</pre>
+ */
+@FunctionalInterface
+public interface MemberCachePolicy {
+
+    /** Caches every member that is received. */
+    MemberCachePolicy ALL = member -> true;
+
+    /** Never caches members. */
+    MemberCachePolicy NONE = member -> false;
+
+    /** Only caches the owner of each guild. */
+    MemberCachePolicy OWNER = member -> member.getGuild() != null
+            && member.getUser().getIdLong() == member.getGuild().getOwnerIdLong();
+
+    /**
+     * Checks whether the given member should be stored in the cache.
+     *
+     * @param member The received member.
+     * @return {@code true} to cache the member.
+     */
+    boolean cacheMember(Member member);
+
+    /**
+     * Checks whether an already cached member should stay in the cache.
+     * <p>By default, a member is kept as long as {@link #cacheMember(Member)} still accepts it.</p>
+     *
+     * @param member The cached member.
+     * @param idle   The time since the member was last seen.
+     * @return {@code true} to keep the member cached.
+     */
+    default boolean keepMember(Member member, Duration idle) {
+        return cacheMember(member);
+    }
+
+    /**
+     * Returns the idle time after which this policy may start dropping members.
+     * <p>The cache is only swept for idle members if this returns a value.</p>
+     *
+     * @return The expiry time, or {@code null} if members are never dropped for being idle.
+     */
+    default Duration getExpiry() {
+        return null;
+    }
+
+    /**
+     * Caches members that are active, and drops them once they have not been seen for the given time.
+     *
+     * @param expiry How long a member stays cached after its last activity.
+     * @return A new {@link MemberCachePolicy}.
+     */
+    static MemberCachePolicy recentlyActive(Duration expiry) {
+        if (expiry == null || expiry.isNegative() || expiry.isZero()) {
+            throw new IllegalArgumentException("Expiry must be positive");
+        }
+        return new MemberCachePolicy() {
+            @Override
+            public boolean cacheMember(Member member) {
+                return true;
+            }
+
+            @Override
+            public boolean keepMember(Member member, Duration idle) {
+                return idle.compareTo(expiry) < 0;
+            }
+
+            @Override
+            public Duration getExpiry() {
+                return expiry;
+            }
+        };
+    }
+
+    /**
+     * Combines this policy with another one, caching a member if either policy accepts it.
+     *
+     * @param other The other policy.
+     * @return A new {@link MemberCachePolicy}.
+     */
+    default MemberCachePolicy or(MemberCachePolicy other) {
+        MemberCachePolicy self = this;
+        Duration a = self.getExpiry();
+        Duration b = other.getExpiry();
+        Duration expiry = a == null ? b : (b == null || a.compareTo(b) <= 0 ? a : b);
+        return new MemberCachePolicy() {
+            @Override
+            public boolean cacheMember(Member member) {
+                return self.cacheMember(member) || other.cacheMember(member);
+            }
+
+            @Override
+            public boolean keepMember(Member member, Duration idle) {
+                return self.keepMember(member, idle) || other.keepMember(member, idle);
+            }
+
+            @Override
+            public Duration getExpiry() {
+                return expiry;
+            }
+        };
+    }
+}
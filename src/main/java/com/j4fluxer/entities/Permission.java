@@ -123,6 +123,22 @@ public enum Permission {
     /** A placeholder for permissions that are not yet recognized by the library. */
     UNKNOWN(-1);
 
+    /** Every known permission combined; what the guild owner and administrators are granted. */
+    public static final long ALL_PERMISSIONS;
+
+    /** The permission of each bit offset, or {@code null} for bits unknown to the library. Built once. */
+    private static final Permission[] BY_OFFSET = new Permission[Long.SIZE];
+
+    static {
+        long all = 0;
+        for (Permission p : values()) {
+            if (p == UNKNOWN) continue;
+            all |= p.rawValue;
+            BY_OFFSET[Long.numberOfTrailingZeros(p.rawValue)] = p;
+        }
+        ALL_PERMISSIONS = all;
+    }
+
     /** The raw bitmask value of the permission. */
     private final long rawValue;
 
@@ -144,18 +160,31 @@ public enum Permission {
         return rawValue;
     }
 
+    /**
+     * Returns the permission stored at the given bit offset.
+     *
+     * @param offset The bit offset, between {@code 0} and {@code 63}.
+     * @return The permission, or {@link #UNKNOWN} if the library does not know that bit.
+     */
+    public static Permission fromOffset(int offset) {
+        Permission permission = offset >= 0 && offset < BY_OFFSET.length ? BY_OFFSET[offset] : null;
+        return permission != null ? permission : UNKNOWN;
+    }
+
     /**
      * Converts a raw bitfield (bitmask) from the Fluxer API into a set of {@code Permission} constants.
      *
      * @param bitfield The raw numeric value received from Fluxer.
      * @return An {@link EnumSet} containing all permissions present in the bitfield.
+     * @see PermissionSet#of(long)
      */
     public static EnumSet<Permission> getPermissions(long bitfield) {
         EnumSet<Permission> perms = EnumSet.noneOf(Permission.class);
-        for (Permission p : Permission.values()) {
-            if (p != UNKNOWN && (bitfield & p.rawValue) == p.rawValue) {
-                perms.add(p);
-            }
+        // Only visits the set bits, through the lookup table instead of a copy of values()
+        long bits = bitfield & ALL_PERMISSIONS;
+        while (bits != 0) {
+            perms.add(BY_OFFSET[Long.numberOfTrailingZeros(bits)]);
+            bits &= bits - 1;
         }
         return perms;
     }
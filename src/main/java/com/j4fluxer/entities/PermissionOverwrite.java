@@ -1,7 +1,10 @@
 package com.j4fluxer.entities;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.j4fluxer.internal.utils.Snowflake;
+
 import java.util.EnumSet;
+import java.util.Objects;
 
 /**
  * Represents a permission overwrite on the Fluxer platform.
@@ -13,7 +16,7 @@ import java.util.EnumSet;
 public class PermissionOverwrite {
 
     /** The unique ID of the target (Role or Member) for this overwrite. */
-    private final String id;
+    private final long id;
 
     /** The type of target this overwrite applies to. */
     private final Type type;
@@ -31,7 +34,7 @@ public class PermissionOverwrite {
      *             type, and permission bitmasks.
      */
     public PermissionOverwrite(JsonNode json) {
-        this.id = json.get("id").asText();
+        this.id = Snowflake.parse(json.get("id"));
 
         // Resolves the target type: 0 represents a ROLE, 1 represents a MEMBER
         int typeInt = json.get("type").asInt();
@@ -47,6 +50,15 @@ public class PermissionOverwrite {
      * @return The target ID as a {@link String}.
      */
     public String getId() {
+        return Snowflake.toString(id);
+    }
+
+    /**
+     * Returns the unique ID of the target (Role or Member) this overwrite is for.
+     *
+     * @return The target ID as an unsigned {@code long}.
+     */
+    public long getIdLong() {
         return id;
     }
 
@@ -77,6 +89,24 @@ public class PermissionOverwrite {
         return Permission.getPermissions(deny);
     }
 
+    /**
+     * Returns the permissions explicitly allowed by this overwrite as an immutable {@link PermissionSet}.
+     *
+     * @return The allowed permissions.
+     */
+    public PermissionSet getAllowedSet() {
+        return PermissionSet.of(allow);
+    }
+
+    /**
+     * Returns the permissions explicitly denied by this overwrite as an immutable {@link PermissionSet}.
+     *
+     * @return The denied permissions.
+     */
+    public PermissionSet getDeniedSet() {
+        return PermissionSet.of(deny);
+    }
+
     /**
      * Returns the raw bitmask value of allowed permissions.
      *
@@ -113,6 +143,19 @@ public class PermissionOverwrite {
         return type == Type.MEMBER;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PermissionOverwrite)) return false;
+        PermissionOverwrite other = (PermissionOverwrite) o;
+        return allow == other.allow && deny == other.deny && type == other.type && id == other.id;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, type, allow, deny);
+    }
+
     /**
      * Defines the target types for a {@link PermissionOverwrite}.
      */
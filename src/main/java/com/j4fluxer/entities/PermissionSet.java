@@ -0,0 +1,274 @@
+package com.j4fluxer.entities;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * An immutable set of {@link Permission}s backed by a single {@code long} bitmask.
+ *
+ * <p>Unlike an {@link EnumSet}, checking and combining permission sets never copies anything: {@link #contains},
+ * {@link #containsAll} and {@link #forEach} only test bits, and {@link #union}, {@link #minus} and
+ * {@link #intersect} return the receiver when the result would be equal to it. Bits that do not belong to a
+ * known permission are kept in {@link #getRaw()}, so raw values round-trip unchanged, but they are never
+ * reported as a {@link Permission}.</p>
+ *
+ * <pre>{@code
+ * PermissionSet moderation = PermissionSet.of(Permission.KICK_MEMBERS, Permission.BAN_MEMBERS);
+ * if (role.getPermissionSet().containsAll(moderation)) { ... }
+ * }</pre>
+ */
+public final class PermissionSet implements Iterable<Permission> {
+
+    /** The empty set. */
+    public static final PermissionSet NONE = new PermissionSet(0);
+
+    /** The set of every known permission. */
+    public static final PermissionSet ALL = new PermissionSet(Permission.ALL_PERMISSIONS);
+
+    private final long raw;
+
+    private PermissionSet(long raw) {
+        this.raw = raw;
+    }
+
+    /**
+     * Returns the set described by a raw bitmask.
+     *
+     * @param raw The bitmask, as sent by the Fluxer API.
+     * @return The permission set.
+     */
+    public static PermissionSet of(long raw) {
+        if (raw == 0) return NONE;
+        if (raw == Permission.ALL_PERMISSIONS) return ALL;
+        return new PermissionSet(raw);
+    }
+
+    /**
+     * Returns the set containing the given permissions.
+     *
+     * @param permissions The permissions; {@link Permission#UNKNOWN} is ignored.
+     * @return The permission set.
+     */
+    public static PermissionSet of(Permission... permissions) {
+        return of(rawOf(permissions));
+    }
+
+    /**
+     * Returns the set containing the given permissions.
+     *
+     * @param permissions The permissions; {@link Permission#UNKNOWN} is ignored.
+     * @return The permission set.
+     */
+    public static PermissionSet of(Collection<Permission> permissions) {
+        long raw = 0;
+        for (Permission permission : permissions) {
+            if (permission != Permission.UNKNOWN) raw |= permission.getRawValue();
+        }
+        return of(raw);
+    }
+
+    /**
+     * Returns the raw bitmask of this set, including bits of permissions unknown to the library.
+     *
+     * @return The bitmask.
+     */
+    public long getRaw() {
+        return raw;
+    }
+
+    /**
+     * Checks whether a permission is in this set.
+     *
+     * @param permission The permission.
+     * @return {@code true} if it is contained; always {@code false} for {@link Permission#UNKNOWN}.
+     */
+    public boolean contains(Permission permission) {
+        return permission != Permission.UNKNOWN && (raw & permission.getRawValue()) != 0;
+    }
+
+    /**
+     * Checks whether every given permission is in this set.
+     *
+     * @param permissions The permissions.
+     * @return {@code true} if all of them are contained.
+     */
+    public boolean containsAll(Permission... permissions) {
+        for (Permission permission : permissions) {
+            if (!contains(permission)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether every permission of another set is in this set.
+     *
+     * @param other The other set.
+     * @return {@code true} if {@code other} is a subset of this set.
+     */
+    public boolean containsAll(PermissionSet other) {
+        return (raw & other.raw) == other.raw;
+    }
+
+    /**
+     * Checks whether this set shares at least one permission with another set.
+     *
+     * @param other The other set.
+     * @return {@code true} if the sets intersect.
+     */
+    public boolean containsAny(PermissionSet other) {
+        return (raw & other.raw) != 0;
+    }
+
+    /**
+     * Returns the set of the permissions in this set or in the other set.
+     *
+     * @param other The other set.
+     * @return The union.
+     */
+    public PermissionSet union(PermissionSet other) {
+        return with(raw | other.raw);
+    }
+
+    /**
+     * Returns this set with the given permissions added.
+     *
+     * @param permissions The permissions to add.
+     * @return The union.
+     */
+    public PermissionSet union(Permission... permissions) {
+        return with(raw | rawOf(permissions));
+    }
+
+    /**
+     * Returns the set of the permissions in this set but not in the other set.
+     *
+     * @param other The other set.
+     * @return The difference.
+     */
+    public PermissionSet minus(PermissionSet other) {
+        return with(raw & ~other.raw);
+    }
+
+    /**
+     * Returns this set with the given permissions removed.
+     *
+     * @param permissions The permissions to remove.
+     * @return The difference.
+     */
+    public PermissionSet minus(Permission... permissions) {
+        return with(raw & ~rawOf(permissions));
+    }
+
+    /**
+     * Returns the set of the permissions in both this set and the other set.
+     *
+     * @param other The other set.
+     * @return The intersection.
+     */
+    public PermissionSet intersect(PermissionSet other) {
+        return with(raw & other.raw);
+    }
+
+    /**
+     * Checks whether this set contains no known permission.
+     *
+     * @return {@code true} if the set is empty.
+     */
+    public boolean isEmpty() {
+        return (raw & Permission.ALL_PERMISSIONS) == 0;
+    }
+
+    /**
+     * Returns the number of known permissions in this set.
+     *
+     * @return The size.
+     */
+    public int size() {
+        return Long.bitCount(raw & Permission.ALL_PERMISSIONS);
+    }
+
+    /**
+     * Passes every permission in this set to the given action, in the order of their bits.
+     * Unlike {@link #iterator()}, this does not allocate.
+     *
+     * @param action The action to run for each permission.
+     */
+    @Override
+    public void forEach(Consumer<? super Permission> action) {
+        long bits = raw & Permission.ALL_PERMISSIONS;
+        while (bits != 0) {
+            int offset = Long.numberOfTrailingZeros(bits);
+            action.accept(Permission.fromOffset(offset));
+            bits &= bits - 1;
+        }
+    }
+
+    /**
+     * Returns an iterator over the permissions in this set, in the order of their bits.
+     *
+     * @return The iterator.
+     */
+    @Override
+    public Iterator<Permission> iterator() {
+        return new Iterator<>() {
+            private long remaining = raw & Permission.ALL_PERMISSIONS;
+
+            @Override
+            public boolean hasNext() {
+                return remaining != 0;
+            }
+
+            @Override
+            public Permission next() {
+                if (remaining == 0) throw new NoSuchElementException();
+                int offset = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                return Permission.fromOffset(offset);
+            }
+        };
+    }
+
+    /**
+     * Copies this set into a new, mutable {@link EnumSet}.
+     *
+     * @return The permissions as an {@link EnumSet}.
+     */
+    public EnumSet<Permission> toEnumSet() {
+        return Permission.getPermissions(raw);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof PermissionSet other && raw == other.raw);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(raw);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("PermissionSet[");
+        forEach(permission -> {
+            if (builder.charAt(builder.length() - 1) != '[') builder.append(", ");
+            builder.append(permission.name());
+        });
+        return builder.append(']').toString();
+    }
+
+    private PermissionSet with(long newRaw) {
+        return newRaw == raw ? this : of(newRaw);
+    }
+
+    private static long rawOf(Permission... permissions) {
+        long raw = 0;
+        for (Permission permission : permissions) {
+            if (permission != Permission.UNKNOWN) raw |= permission.getRawValue();
+        }
+        return raw;
+    }
+}
@@ -4,13 +4,16 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.j4fluxer.entities.Permission;
 import com.j4fluxer.entities.PermissionOverwrite;
 import com.j4fluxer.entities.guild.Guild;
+import com.j4fluxer.entities.guild.GuildImpl;
 import com.j4fluxer.internal.requests.Requester;
 import com.j4fluxer.internal.requests.RestAction;
 import com.j4fluxer.internal.requests.Route;
+import com.j4fluxer.internal.utils.Snowflake;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -25,10 +28,7 @@ import java.util.HashMap;
 public abstract class AbstractChannel implements GuildChannel {
 
     /** The unique identifier of the channel. */
-    protected final String id;
-
-    /** The name of the channel. */
-    protected final String name;
+    protected final long id;
 
     /** The {@link Guild} that this channel belongs to. */
     protected final Guild guild;
@@ -36,32 +36,85 @@ public abstract class AbstractChannel implements GuildChannel {
     /** The requester used to perform API operations. */
     protected final Requester requester;
 
-    /** The raw JSON data received from the Fluxer API. */
-    protected final JsonNode json;
+    /** The current state of the channel. Never modified once published; updates replace it as a whole. */
+    protected volatile State state;
+
+    /**
+     * The updatable fields of a channel, decoded from its payload.
+     * <p>Subclasses extend this with their own fields. An instance is only written before it is assigned to
+     * {@link #state}, so a reader always sees one consistent version of the channel.</p>
+     */
+    protected static class State implements Cloneable {
+
+        /** The name of the channel. */
+        String name;
+
+        /** The ID of the parent category, or {@link Snowflake#NONE} if the channel is not in a category. */
+        long parentId;
+
+        /** The sorting position of the channel. */
+        int position;
+
+        /** An unmodifiable list of permission overrides specific to this channel. */
+        List<PermissionOverwrite> permissionOverwrites;
+
+        /** Creates the empty state of a channel that is only known by its ID. */
+        protected State() {
+            this.name = "";
+            this.permissionOverwrites = List.of();
+        }
 
-    /** A list of permission overrides specific to this channel. */
-    protected final List<PermissionOverwrite> permissionOverwrites;
+        /**
+         * Decodes the state from a channel payload.
+         *
+         * @param json The {@link JsonNode} containing the channel data.
+         */
+        protected State(JsonNode json) {
+            this.name = json.get("name").asText();
+            this.parentId = Snowflake.parse(json.get("parent_id"));
+            this.position = json.has("position") ? json.get("position").asInt() : 0;
+            this.permissionOverwrites = parseOverwrites(json.get("permission_overwrites"));
+        }
+
+        /**
+         * Creates a copy for the next update to modify.
+         *
+         * @return A shallow copy of this state, of the same class.
+         */
+        protected State copy() {
+            try {
+                return (State) clone();
+            } catch (CloneNotSupportedException e) {
+                throw new AssertionError(e);
+            }
+        }
+    }
 
     /**
      * Constructs a new {@code AbstractChannel} from a JSON payload.
+     * <p>The payload is decoded into typed fields and not retained.</p>
      *
      * @param json      The {@link JsonNode} containing the channel data.
      * @param guild     The guild associated with this channel.
      * @param requester The requester for performing API actions.
      */
     public AbstractChannel(JsonNode json, Guild guild, Requester requester) {
-        this.json = json;
-        this.id = json.get("id").asText();
-        this.name = json.get("name").asText();
+        this(json, new State(json), guild, requester);
+    }
+
+    /**
+     * Constructs a new {@code AbstractChannel} from a JSON payload and its already decoded state.
+     *
+     * @param json      The {@link JsonNode} containing the channel data.
+     * @param state     The state decoded from {@code json}.
+     * @param guild     The guild associated with this channel.
+     * @param requester The requester for performing API actions.
+     */
+    protected AbstractChannel(JsonNode json, State state, Guild guild, Requester requester) {
+        this.id = Snowflake.parse(json.get("id"));
         this.guild = guild;
         this.requester = requester;
-
-        this.permissionOverwrites = new ArrayList<>();
-        if (json.has("permission_overwrites") && json.get("permission_overwrites").isArray()) {
-            for (JsonNode node : json.get("permission_overwrites")) {
-                this.permissionOverwrites.add(new PermissionOverwrite(node));
-            }
-        }
+        this.state = state;
     }
 
     /**
@@ -72,16 +125,100 @@ public abstract class AbstractChannel implements GuildChannel {
      * @param requester The requester for performing API actions.
      */
     public AbstractChannel(String id, Guild guild, Requester requester) {
-        this.id = id;
+        this(id, new State(), guild, requester);
+    }
+
+    /**
+     * Constructs a minimal {@code AbstractChannel} with only an ID and an empty state.
+     *
+     * @param id        The unique ID of the channel.
+     * @param state     The empty state of the channel.
+     * @param guild     The guild associated with this channel.
+     * @param requester The requester for performing API actions.
+     */
+    protected AbstractChannel(String id, State state, Guild guild, Requester requester) {
+        this.id = Snowflake.parse(id);
         this.guild = guild;
         this.requester = requester;
-        this.json = null;
-        this.name = "";
-        this.permissionOverwrites = new ArrayList<>();
+        this.state = state;
+    }
+
+    private static List<PermissionOverwrite> parseOverwrites(JsonNode array) {
+        if (array == null || !array.isArray()) {
+            return List.of();
+        }
+        List<PermissionOverwrite> overwrites = new ArrayList<>(array.size());
+        for (JsonNode node : array) {
+            overwrites.add(new PermissionOverwrite(node));
+        }
+        return Collections.unmodifiableList(overwrites);
+    }
+
+    /**
+     * Applies a channel update to this instance in place, so every holder of the channel sees the new state.
+     * <p>Only the fields present in the payload are changed; everything else keeps its current value. The
+     * changes are made on a copy of the current state, which then replaces it in one step, so readers see
+     * either the old channel or the new one, never a mix.</p>
+     *
+     * @param delta The channel payload of a {@code CHANNEL_UPDATE} event.
+     * @return The previous values of the fields that changed, keyed by their payload name.
+     */
+    public synchronized Map<String, Object> update(JsonNode delta) {
+        State next = state.copy();
+        Map<String, Object> oldValues = new LinkedHashMap<>();
+        delta.properties().forEach(entry -> patch(next, entry.getKey(), entry.getValue(), oldValues));
+        if (!oldValues.isEmpty()) {
+            this.state = next;
+        }
+        return oldValues;
     }
 
-    @Override public String getId() { return id; }
-    @Override public String getName() { return name; }
+    /**
+     * Applies a single field of an update payload to the next state. Subclasses handle their own fields and
+     * pass everything else on to this implementation; unknown fields are ignored.
+     *
+     * @param next      The unpublished copy of the state being updated.
+     * @param field     The payload name of the field.
+     * @param value     The new value.
+     * @param oldValues Receives the previous value if the field changed.
+     */
+    protected void patch(State next, String field, JsonNode value, Map<String, Object> oldValues) {
+        switch (field) {
+            case "name" -> {
+                String newName = value.asText();
+                if (!newName.equals(next.name)) {
+                    oldValues.put(field, next.name);
+                    next.name = newName;
+                }
+            }
+            case "position" -> {
+                int newPosition = value.asInt();
+                if (newPosition != next.position) {
+                    oldValues.put(field, next.position);
+                    next.position = newPosition;
+                }
+            }
+            case "parent_id" -> {
+                long newParentId = Snowflake.parse(value);
+                if (newParentId != next.parentId) {
+                    oldValues.put(field, next.parentId != Snowflake.NONE ? Snowflake.toString(next.parentId) : null);
+                    next.parentId = newParentId;
+                }
+            }
+            case "permission_overwrites" -> {
+                List<PermissionOverwrite> newOverwrites = parseOverwrites(value);
+                if (!newOverwrites.equals(next.permissionOverwrites)) {
+                    oldValues.put(field, next.permissionOverwrites);
+                    next.permissionOverwrites = newOverwrites;
+                }
+            }
+            default -> { }
+        }
+    }
+
+    @Override public String getId() { return Snowflake.toString(id); }
+    @Override public long getIdLong() { return id; }
+    @Override public String getName() { return state.name; }
     @Override public Guild getGuild() { return guild; }
 
     /**
@@ -91,20 +228,18 @@ public abstract class AbstractChannel implements GuildChannel {
      */
     @Override
     public List<PermissionOverwrite> getPermissionOverwrites() {
-        return Collections.unmodifiableList(permissionOverwrites);
+        return state.permissionOverwrites;
     }
 
     @Override
     public String getParentId() {
-        if (json == null) return null;
-        return json.has("parent_id") && !json.get("parent_id").isNull()
-                ? json.get("parent_id").asText() : null;
+        long parentId = state.parentId;
+        return parentId != Snowflake.NONE ? Snowflake.toString(parentId) : null;
     }
 
     @Override
     public int getPosition() {
-        if (json == null) return 0;
-        return json.has("position") ? json.get("position").asInt() : 0;
+        return state.position;
     }
 
     /**
@@ -114,7 +249,8 @@ public abstract class AbstractChannel implements GuildChannel {
      */
     @Override
     public RestAction<Void> delete() {
-        Route.CompiledRoute route = Route.DELETE_CHANNEL.compile(this.id);
+        checkPermission(Permission.MANAGE_CHANNELS);
+        Route.CompiledRoute route = Route.DELETE_CHANNEL.compile(getId());
         return new RestAction<Void>(requester, route) {
             @Override protected Void handleResponse(String json) { return null; }
         };
@@ -131,15 +267,29 @@ public abstract class AbstractChannel implements GuildChannel {
      */
     @Override
     public RestAction<Void> upsertPermissionOverride(String targetId, int type, EnumSet<Permission> allow, EnumSet<Permission> deny) {
-        Route.CompiledRoute route = Route.MANAGE_PERMISSION.compile(this.id, targetId);
-
         long allowRaw = (allow != null) ? Permission.getRaw(allow) : 0;
         long denyRaw = (deny != null) ? Permission.getRaw(deny) : 0;
+        return upsertPermissionOverride(targetId, type, allowRaw, denyRaw);
+    }
+
+    /**
+     * Updates or inserts a permission override for a member or role in this channel, using raw bitmasks.
+     *
+     * @param targetId The ID of the member or role.
+     * @param type     The type of target (e.g., 0 for role, 1 for member).
+     * @param allow    The bitmask of permissions to allow.
+     * @param deny     The bitmask of permissions to deny.
+     * @return A {@link RestAction} representing the API request.
+     */
+    @Override
+    public RestAction<Void> upsertPermissionOverride(String targetId, int type, long allow, long deny) {
+        checkPermission(Permission.MANAGE_ROLES);
+        Route.CompiledRoute route = Route.MANAGE_PERMISSION.compile(getId(), targetId);
 
         PermissionOverridePayload payload = new PermissionOverridePayload(
                 type,
-                String.valueOf(allowRaw),
-                String.valueOf(denyRaw)
+                Long.toUnsignedString(allow),
+                Long.toUnsignedString(deny)
         );
 
         return new RestAction<Void>(requester, route) {
@@ -173,12 +323,25 @@ public abstract class AbstractChannel implements GuildChannel {
      */
     @Override
     public RestAction<Void> deletePermissionOverride(String targetId) {
-        Route.CompiledRoute route = Route.DELETE_PERMISSION.compile(this.id, targetId);
+        checkPermission(Permission.MANAGE_ROLES);
+        Route.CompiledRoute route = Route.DELETE_PERMISSION.compile(getId(), targetId);
         return new RestAction<Void>(requester, route) {
             @Override protected Void handleResponse(String json) { return null; }
         };
     }
 
+    /**
+     * Fails fast if the cached permissions show that the bot lacks a permission in this channel.
+     *
+     * @param permission The required permission.
+     * @throws com.j4fluxer.exceptions.InsufficientPermissionException If the bot lacks the permission.
+     */
+    protected void checkPermission(Permission permission) {
+        if (guild instanceof GuildImpl impl) {
+            impl.checkPermission(this, permission);
+        }
+    }
+
     /**
      * Internal helper method to modify channel properties via a PATCH request.
      *
@@ -187,7 +350,8 @@ public abstract class AbstractChannel implements GuildChannel {
      * @return A {@link RestAction} representing the modification.
      */
     protected RestAction<Void> modifyChannel(String key, Object value) {
-        Route.CompiledRoute route = Route.MODIFY_CHANNEL.compile(this.id);
+        checkPermission(Permission.MANAGE_CHANNELS);
+        Route.CompiledRoute route = Route.MODIFY_CHANNEL.compile(getId());
         Map<String, Object> body = new HashMap<>();
         body.put(key, value);
 
@@ -207,7 +371,8 @@ public abstract class AbstractChannel implements GuildChannel {
      */
     @Override
     public RestAction<String> createInvite() {
-        Route.CompiledRoute route = Route.CREATE_INVITE.compile(this.id);
+        checkPermission(Permission.CREATE_INSTANT_INVITE);
+        Route.CompiledRoute route = Route.CREATE_INVITE.compile(getId());
         return new RestAction<String>(requester, route) {
             @Override
             protected String handleResponse(String json) throws Exception {
@@ -2,6 +2,7 @@ package com.j4fluxer.entities.channel;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.j4fluxer.entities.guild.Guild;
+import com.j4fluxer.entities.guild.GuildImpl;
 import com.j4fluxer.internal.requests.Requester;
 import com.j4fluxer.internal.requests.RestAction;
 
@@ -49,17 +50,15 @@ public class CategoryImpl extends AbstractChannel implements Category {
     }
 
     /**
-     * Retrieves a list of channels that are organized under this category.
+     * Retrieves a list of the cached channels that are organized under this category.
      *
-     * <p>Note: Currently returns an empty list. In a full implementation, this
-     * would filter the guild's channels by their parent category ID.</p>
+     * <p>The guild keeps an index of channels by category, so this does not scan the guild's channels.</p>
      *
-     * @return An unmodifiable {@link List} of child {@link GuildChannel}s.
+     * @return An unmodifiable {@link List} of child {@link GuildChannel}s, sorted by position.
      */
     @Override
     public List<GuildChannel> getChannels() {
-        // Implementation detail: Returns empty list as per current code logic.
-        return Collections.emptyList();
+        return guild instanceof GuildImpl impl ? impl.getChannelsByParent(id) : Collections.emptyList();
     }
 
     /**
@@ -73,7 +72,7 @@ public class CategoryImpl extends AbstractChannel implements Category {
      */
     @Override
     public RestAction<TextChannel> createTextChannel(String name) {
-        return getGuild().createTextChannel(name, this.id);
+        return getGuild().createTextChannel(name, getId());
     }
 
     /**
@@ -87,7 +86,7 @@ public class CategoryImpl extends AbstractChannel implements Category {
      */
     @Override
     public RestAction<VoiceChannel> createVoiceChannel(String name) {
-        return getGuild().createVoiceChannel(name, this.id);
+        return getGuild().createVoiceChannel(name, getId());
     }
 
 }
\ No newline at end of file
@@ -11,6 +11,11 @@ public interface Channel {
      */
     String getId();
 
+    /**
+     * @return The unique ID of this channel as an unsigned {@code long}.
+     */
+    long getIdLong();
+
     /**
      * @return The name of this channel.
      */
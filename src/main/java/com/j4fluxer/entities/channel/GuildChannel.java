@@ -2,6 +2,7 @@ package com.j4fluxer.entities.channel;
 
 import com.j4fluxer.entities.Permission;
 import com.j4fluxer.entities.PermissionOverwrite;
+import com.j4fluxer.entities.PermissionSet;
 import com.j4fluxer.entities.guild.Guild;
 import com.j4fluxer.internal.requests.RestAction;
 
@@ -46,6 +47,30 @@ public interface GuildChannel extends Channel {
      */
     RestAction<Void> upsertPermissionOverride(String targetId, int type, EnumSet<Permission> allow, EnumSet<Permission> deny);
 
+    /**
+     * Adds or updates a permission override for a role or member in this channel, using raw bitmasks.
+     *
+     * @param targetId The ID of the role or member.
+     * @param type     The type of target (0 for Role, 1 for Member).
+     * @param allow    The bitmask of permissions to allow.
+     * @param deny     The bitmask of permissions to deny.
+     * @return A {@link RestAction} that resolves to {@code Void}.
+     */
+    RestAction<Void> upsertPermissionOverride(String targetId, int type, long allow, long deny);
+
+    /**
+     * Adds or updates a permission override for a role or member in this channel.
+     *
+     * @param targetId The ID of the role or member.
+     * @param type     The type of target (0 for Role, 1 for Member).
+     * @param allow    The {@link PermissionSet} to allow.
+     * @param deny     The {@link PermissionSet} to deny.
+     * @return A {@link RestAction} that resolves to {@code Void}.
+     */
+    default RestAction<Void> upsertPermissionOverride(String targetId, int type, PermissionSet allow, PermissionSet deny) {
+        return upsertPermissionOverride(targetId, type, allow != null ? allow.getRaw() : 0, deny != null ? deny.getRaw() : 0);
+    }
+
     /**
      * Deletes a permission override for the specified target in this channel.
      *
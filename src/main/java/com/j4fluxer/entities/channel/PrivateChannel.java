@@ -1,5 +1,6 @@
 package com.j4fluxer.entities.channel;
 
+import com.j4fluxer.entities.message.FileUpload;
 import com.j4fluxer.entities.message.Message;
 import com.j4fluxer.entities.user.User;
 import com.j4fluxer.internal.requests.RestAction;
@@ -22,4 +23,15 @@ public interface PrivateChannel extends Channel {
      * @return A {@link RestAction} resolving to the sent {@link Message}.
      */
     RestAction<Message> sendMessage(String content);
+
+    /**
+     * Sends a message with one or more attached files to this channel.
+     * <p>File contents are streamed from disk (or their stream) while the request is sent and are
+     * never buffered into memory.</p>
+     *
+     * @param content The text content, or {@code null} to send only the files.
+     * @param files   The files to attach.
+     * @return A {@link RestAction} resolving to the sent {@link Message}.
+     */
+    RestAction<Message> sendMessage(String content, FileUpload... files);
 }
\ No newline at end of file
@@ -1,16 +1,21 @@
 package com.j4fluxer.entities.channel;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.j4fluxer.entities.message.FileUpload;
 import com.j4fluxer.entities.message.Message;
 import com.j4fluxer.entities.message.MessageImpl;
+import com.j4fluxer.entities.message.MessagePayload;
 import com.j4fluxer.entities.user.User;
-import com.j4fluxer.entities.user.UserImpl;
+import com.j4fluxer.internal.json.EntityBuilder;
 import com.j4fluxer.internal.requests.Requester;
 import com.j4fluxer.internal.requests.RestAction;
 import com.j4fluxer.internal.requests.Route;
+import com.j4fluxer.internal.utils.Snowflake;
+
+import java.util.Arrays;
 
 public class PrivateChannelImpl implements PrivateChannel {
-    private final String id;
+    private final long id;
     private final User user;
     private final Requester requester;
 
@@ -19,11 +24,11 @@ public class PrivateChannelImpl implements PrivateChannel {
      */
     public PrivateChannelImpl(JsonNode json, Requester requester) {
         this.requester = requester;
-        this.id = json.get("id").asText();
+        this.id = Snowflake.parse(json.get("id"));
         if (json.has("recipients") && json.get("recipients").isArray()) {
             JsonNode recipients = json.get("recipients");
             if (recipients.size() > 0) {
-                this.user = new UserImpl(recipients.get(0), requester);
+                this.user = EntityBuilder.of(requester).createUser(recipients.get(0));
             } else {
                 this.user = null;
             }
@@ -37,13 +42,18 @@ public class PrivateChannelImpl implements PrivateChannel {
      * This constructor is used for PrivateMessageReceivedEvent.
      */
     public PrivateChannelImpl(String id, User user, Requester requester) {
-        this.id = id;
+        this.id = Snowflake.parse(id);
         this.user = user;
         this.requester = requester;
     }
 
     @Override
     public String getId() {
+        return Snowflake.toString(id);
+    }
+
+    @Override
+    public long getIdLong() {
         return id;
     }
 
@@ -59,7 +69,7 @@ public class PrivateChannelImpl implements PrivateChannel {
 
     @Override
     public RestAction<Void> delete() {
-        Route.CompiledRoute route = Route.DELETE_CHANNEL.compile(this.id);
+        Route.CompiledRoute route = Route.DELETE_CHANNEL.compile(getId());
         return new RestAction<Void>(requester, route) {
             @Override
             protected Void handleResponse(String jsonStr) throws Exception {
@@ -75,7 +85,7 @@ public class PrivateChannelImpl implements PrivateChannel {
 
     @Override
     public RestAction<Message> sendMessage(String content) {
-        Route.CompiledRoute route = Route.SEND_MESSAGE.compile(this.id);
+        Route.CompiledRoute route = Route.SEND_MESSAGE.compile(getId());
         return new RestAction<Message>(requester, route) {
             @Override
             protected Message handleResponse(String jsonStr) throws Exception {
@@ -84,8 +94,14 @@ public class PrivateChannelImpl implements PrivateChannel {
         }.setBody(new MessagePayload(content));
     }
 
-    private static class MessagePayload {
-        public String content;
-        public MessagePayload(String content) { this.content = content; }
+    @Override
+    public RestAction<Message> sendMessage(String content, FileUpload... files) {
+        Route.CompiledRoute route = Route.SEND_MESSAGE.compile(getId());
+        return new RestAction<Message>(requester, route) {
+            @Override
+            protected Message handleResponse(String jsonStr) throws Exception {
+                return new MessageImpl(mapper.readTree(jsonStr), requester);
+            }
+        }.setBody(new MessagePayload(content, files)).addFiles(Arrays.asList(files));
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.j4fluxer.entities.channel;
 
+import com.j4fluxer.entities.message.FileUpload;
 import com.j4fluxer.entities.message.Message;
+import com.j4fluxer.entities.message.MessageHistory;
 import com.j4fluxer.internal.requests.RestAction;
 
 /**
@@ -37,6 +39,17 @@ public interface TextChannel extends GuildChannel {
      */
     RestAction<Message> sendMessage(String content);
 
+    /**
+     * Sends a message with one or more attached files to this channel.
+     * <p>File contents are streamed from disk (or their stream) while the request is sent and are
+     * never buffered into memory.</p>
+     *
+     * @param content The text content, or {@code null} to send only the files.
+     * @param files   The files to attach.
+     * @return A {@link RestAction} resolving to the sent {@link Message}.
+     */
+    RestAction<Message> sendMessage(String content, FileUpload... files);
+
     /**
      * Updates the topic or description of this channel.
      *
@@ -63,4 +76,39 @@ public interface TextChannel extends GuildChannel {
      * @return A {@link RestAction} representing the update operation.
      */
     RestAction<Void> setSlowmode(int seconds);
-}
\ No newline at end of file
+
+    /**
+     * Returns a lazy view over the message history of this channel, starting from the newest message
+     * and walking backwards in time.
+     *
+     * <p>Pages are fetched on demand while the history is iterated. Close the returned
+     * {@link MessageHistory} (or its stream) when stopping early to cancel the pending prefetch.</p>
+     *
+     * @return A {@link MessageHistory} over this channel.
+     */
+    MessageHistory getHistory();
+
+    /**
+     * Returns a lazy view over the messages sent before the given message, newest first.
+     *
+     * @param messageId The ID of the message to start before.
+     * @return A {@link MessageHistory} over this channel.
+     */
+    MessageHistory getHistoryBefore(String messageId);
+
+    /**
+     * Returns a lazy view over the messages sent after the given message.
+     *
+     * @param messageId The ID of the message to start after.
+     * @return A {@link MessageHistory} over this channel.
+     */
+    MessageHistory getHistoryAfter(String messageId);
+
+    /**
+     * Returns a single page of messages surrounding the given message.
+     *
+     * @param messageId The ID of the message to center the page on.
+     * @return A {@link MessageHistory} over this channel.
+     */
+    MessageHistory getHistoryAround(String messageId);
+}
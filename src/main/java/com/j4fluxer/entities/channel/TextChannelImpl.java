@@ -1,15 +1,20 @@
 package com.j4fluxer.entities.channel;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.j4fluxer.entities.PermissionOverwrite;
+import com.j4fluxer.entities.Permission;
 import com.j4fluxer.entities.guild.Guild;
+import com.j4fluxer.entities.message.FileUpload;
 import com.j4fluxer.entities.message.Message;
+import com.j4fluxer.entities.message.MessageHistory;
 import com.j4fluxer.entities.message.MessageImpl;
+import com.j4fluxer.entities.message.MessagePayload;
 import com.j4fluxer.internal.requests.Requester;
 import com.j4fluxer.internal.requests.RestAction;
 import com.j4fluxer.internal.requests.Route;
 
-import java.util.List;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * The concrete implementation of a {@link TextChannel} on the Fluxer platform.
@@ -20,6 +25,27 @@ import java.util.List;
  */
 public class TextChannelImpl extends AbstractChannel implements TextChannel {
 
+    /**
+     * The state of a text channel.
+     */
+    static final class TextState extends State {
+
+        /** The topic of the channel, or {@code null} if none is set. */
+        String topic;
+
+        /** Whether the channel is marked as NSFW. */
+        boolean nsfw;
+
+        TextState() {
+        }
+
+        TextState(JsonNode json) {
+            super(json);
+            this.topic = json.has("topic") && !json.get("topic").isNull() ? json.get("topic").asText() : null;
+            this.nsfw = json.has("nsfw") && json.get("nsfw").asBoolean();
+        }
+    }
+
     /**
      * Constructs a {@code TextChannelImpl} using JSON data received from the Fluxer API.
      *
@@ -28,7 +54,7 @@ public class TextChannelImpl extends AbstractChannel implements TextChannel {
      * @param requester The {@link Requester} used for API operations.
      */
     public TextChannelImpl(JsonNode json, Guild guild, Requester requester) {
-        super(json, guild, requester);
+        super(json, new TextState(json), guild, requester);
     }
 
     /**
@@ -39,7 +65,7 @@ public class TextChannelImpl extends AbstractChannel implements TextChannel {
      * @param requester The {@link Requester} used for API operations.
      */
     public TextChannelImpl(String id, Guild guild, Requester requester) {
-        super(id, guild, requester);
+        super(id, new TextState(), guild, requester);
     }
 
     /**
@@ -57,8 +83,7 @@ public class TextChannelImpl extends AbstractChannel implements TextChannel {
      */
     @Override
     public String getTopic() {
-        return (json != null && json.has("topic") && !json.get("topic").isNull())
-                ? json.get("topic").asText() : null;
+        return ((TextState) state).topic;
     }
 
     /**
@@ -66,7 +91,29 @@ public class TextChannelImpl extends AbstractChannel implements TextChannel {
      */
     @Override
     public boolean isNSFW() {
-        return json != null && json.has("nsfw") && json.get("nsfw").asBoolean();
+        return ((TextState) state).nsfw;
+    }
+
+    @Override
+    protected void patch(State next, String field, JsonNode value, Map<String, Object> oldValues) {
+        TextState text = (TextState) next;
+        switch (field) {
+            case "topic" -> {
+                String newTopic = value.isNull() ? null : value.asText();
+                if (!Objects.equals(newTopic, text.topic)) {
+                    oldValues.put(field, text.topic);
+                    text.topic = newTopic;
+                }
+            }
+            case "nsfw" -> {
+                boolean newNsfw = value.asBoolean();
+                if (newNsfw != text.nsfw) {
+                    oldValues.put(field, text.nsfw);
+                    text.nsfw = newNsfw;
+                }
+            }
+            default -> super.patch(next, field, value, oldValues);
+        }
     }
 
     /**
@@ -77,7 +124,9 @@ public class TextChannelImpl extends AbstractChannel implements TextChannel {
      */
     @Override
     public RestAction<Message> sendMessage(String content) {
-        Route.CompiledRoute route = Route.SEND_MESSAGE.compile(this.id);
+        checkPermission(Permission.VIEW_CHANNEL);
+        checkPermission(Permission.SEND_MESSAGES);
+        Route.CompiledRoute route = Route.SEND_MESSAGE.compile(getId());
 
         return new RestAction<Message>(requester, route) {
             @Override
@@ -87,6 +136,49 @@ public class TextChannelImpl extends AbstractChannel implements TextChannel {
         }.setBody(new MessagePayload(content));
     }
 
+    /**
+     * Sends a message with attached files to this channel using the Fluxer API.
+     * <p>The files are streamed from their sources while the request is written.</p>
+     *
+     * @param content The text content of the message, or {@code null} to send only the files.
+     * @param files   The files to attach.
+     * @return A {@link RestAction} providing the sent {@link Message}.
+     */
+    @Override
+    public RestAction<Message> sendMessage(String content, FileUpload... files) {
+        checkPermission(Permission.VIEW_CHANNEL);
+        checkPermission(Permission.SEND_MESSAGES);
+        if (files.length > 0) checkPermission(Permission.ATTACH_FILES);
+        Route.CompiledRoute route = Route.SEND_MESSAGE.compile(getId());
+
+        return new RestAction<Message>(requester, route) {
+            @Override
+            protected Message handleResponse(String responseJson) throws Exception {
+                return new MessageImpl(mapper.readTree(responseJson), requester);
+            }
+        }.setBody(new MessagePayload(content, files)).addFiles(Arrays.asList(files));
+    }
+
+    @Override
+    public MessageHistory getHistory() {
+        return new MessageHistory(getId(), requester, MessageHistory.Direction.BEFORE, null);
+    }
+
+    @Override
+    public MessageHistory getHistoryBefore(String messageId) {
+        return new MessageHistory(getId(), requester, MessageHistory.Direction.BEFORE, messageId);
+    }
+
+    @Override
+    public MessageHistory getHistoryAfter(String messageId) {
+        return new MessageHistory(getId(), requester, MessageHistory.Direction.AFTER, messageId);
+    }
+
+    @Override
+    public MessageHistory getHistoryAround(String messageId) {
+        return new MessageHistory(getId(), requester, MessageHistory.Direction.AROUND, messageId);
+    }
+
     /**
      * Updates the channel's topic.
      *
@@ -119,23 +211,4 @@ public class TextChannelImpl extends AbstractChannel implements TextChannel {
     public RestAction<Void> setSlowmode(int seconds) {
         return modifyChannel("rate_limit_per_user", seconds);
     }
-
-    /**
-     * Retrieves the permission overwrites for this channel.
-     * <p>Note: Currently returns an empty list in this specific implementation.</p>
-     *
-     * @return An empty {@link List} of {@link PermissionOverwrite}s.
-     */
-    @Override
-    public List<PermissionOverwrite> getPermissionOverwrites() {
-        return List.of();
-    }
-
-    /**
-     * Internal DTO used to encapsulate the content when sending a message.
-     */
-    private static class MessagePayload {
-        public String content;
-        public MessagePayload(String content) { this.content = content; }
-    }
 }
\ No newline at end of file
@@ -1,11 +1,10 @@
 package com.j4fluxer.entities.channel;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.j4fluxer.entities.PermissionOverwrite;
 import com.j4fluxer.entities.guild.Guild;
 import com.j4fluxer.internal.requests.Requester;
 
-import java.util.List;
+import java.util.Map;
 
 /**
  * The concrete implementation of a {@link VoiceChannel} on the Fluxer platform.
@@ -15,6 +14,27 @@ import java.util.List;
  */
 public class VoiceChannelImpl extends AbstractChannel implements VoiceChannel {
 
+    /**
+     * The state of a voice channel.
+     */
+    static final class VoiceState extends State {
+
+        /** The audio bitrate in bits per second. */
+        int bitrate = 64000;
+
+        /** The maximum number of connected users, or {@code 0} for no limit. */
+        int userLimit;
+
+        VoiceState() {
+        }
+
+        VoiceState(JsonNode json) {
+            super(json);
+            if (json.has("bitrate")) this.bitrate = json.get("bitrate").asInt();
+            if (json.has("user_limit")) this.userLimit = json.get("user_limit").asInt();
+        }
+    }
+
     /**
      * Constructs a {@code VoiceChannelImpl} using JSON data received from the Fluxer API.
      *
@@ -23,7 +43,7 @@ public class VoiceChannelImpl extends AbstractChannel implements VoiceChannel {
      * @param requester The {@link Requester} used for API operations.
      */
     public VoiceChannelImpl(JsonNode json, Guild guild, Requester requester) {
-        super(json, guild, requester);
+        super(json, new VoiceState(json), guild, requester);
     }
 
     /**
@@ -34,7 +54,7 @@ public class VoiceChannelImpl extends AbstractChannel implements VoiceChannel {
      * @param requester The requester instance.
      */
     public VoiceChannelImpl(String id, Guild guild, Requester requester) {
-        super(id, guild, requester);
+        super(id, new VoiceState(), guild, requester);
     }
 
     /**
@@ -55,7 +75,7 @@ public class VoiceChannelImpl extends AbstractChannel implements VoiceChannel {
      */
     @Override
     public int getBitrate() {
-        return (json != null && json.has("bitrate")) ? json.get("bitrate").asInt() : 64000;
+        return ((VoiceState) state).bitrate;
     }
 
     /**
@@ -67,7 +87,29 @@ public class VoiceChannelImpl extends AbstractChannel implements VoiceChannel {
      */
     @Override
     public int getUserLimit() {
-        return (json != null && json.has("user_limit")) ? json.get("user_limit").asInt() : 0;
+        return ((VoiceState) state).userLimit;
+    }
+
+    @Override
+    protected void patch(State next, String field, JsonNode value, Map<String, Object> oldValues) {
+        VoiceState voice = (VoiceState) next;
+        switch (field) {
+            case "bitrate" -> {
+                int newBitrate = value.asInt();
+                if (newBitrate != voice.bitrate) {
+                    oldValues.put(field, voice.bitrate);
+                    voice.bitrate = newBitrate;
+                }
+            }
+            case "user_limit" -> {
+                int newUserLimit = value.asInt();
+                if (newUserLimit != voice.userLimit) {
+                    oldValues.put(field, voice.userLimit);
+                    voice.userLimit = newUserLimit;
+                }
+            }
+            default -> super.patch(next, field, value, oldValues);
+        }
     }
 
     /**
@@ -81,15 +123,4 @@ public class VoiceChannelImpl extends AbstractChannel implements VoiceChannel {
         // TODO: Implement Voice Gateway Connection
         System.out.println("This feature is currently under development. Please check back later.");
     }
-
-    /**
-     * Retrieves the permission overwrites for this channel.
-     * <p>Note: Currently returns an empty list in this specific implementation.</p>
-     *
-     * @return An empty {@link List} of {@link PermissionOverwrite}s.
-     */
-    @Override
-    public List<PermissionOverwrite> getPermissionOverwrites() {
-        return List.of();
-    }
 }
\ No newline at end of file
@@ -1,11 +1,15 @@
 package com.j4fluxer.entities.guild;
 
+import com.j4fluxer.entities.Permission;
 import com.j4fluxer.entities.channel.*;
 import com.j4fluxer.entities.member.Member;
 import com.j4fluxer.entities.user.UserProfile;
 import com.j4fluxer.internal.requests.RestAction;
 
 import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Represents a Fluxer Guild, commonly referred to as a Server.
@@ -24,6 +28,13 @@ public interface Guild {
      */
     String getId();
 
+    /**
+     * Returns the unique identifier of the guild as an unsigned {@code long}.
+     *
+     * @return The guild ID.
+     */
+    long getIdLong();
+
     /**
      * Returns the name of the guild.
      *
@@ -38,6 +49,13 @@ public interface Guild {
      */
     String getOwnerId();
 
+    /**
+     * Returns the ID of the user who owns the guild as a snowflake.
+     *
+     * @return The owner's user ID, or {@code 0} if it is not known.
+     */
+    long getOwnerIdLong();
+
     // --- Channel Retrieval ---
 
     /**
@@ -50,6 +68,14 @@ public interface Guild {
      */
     GuildChannel getGuildChannelById(String id);
 
+    /**
+     * Retrieves a channel (Text, Voice, or Category) by its numeric ID from the internal cache.
+     *
+     * @param id The ID of the channel to retrieve.
+     * @return The {@link GuildChannel} object, or {@code null} if not found in the cache.
+     */
+    GuildChannel getGuildChannelById(long id);
+
     /**
      * Retrieves a {@link TextChannel} by its ID from the internal cache.
      *
@@ -58,6 +84,14 @@ public interface Guild {
      */
     TextChannel getTextChannelById(String id);
 
+    /**
+     * Retrieves a {@link TextChannel} by its numeric ID from the internal cache.
+     *
+     * @param id The ID of the text channel.
+     * @return The {@link TextChannel} object, or {@code null} if not found or if the channel is not a text channel.
+     */
+    TextChannel getTextChannelById(long id);
+
     /**
      * Retrieves a {@link Category} by its ID from the internal cache.
      *
@@ -66,6 +100,14 @@ public interface Guild {
      */
     Category getCategoryById(String id);
 
+    /**
+     * Retrieves a {@link Category} by its numeric ID from the internal cache.
+     *
+     * @param id The ID of the category.
+     * @return The {@link Category} object, or {@code null} if not found or if the channel is not a category.
+     */
+    Category getCategoryById(long id);
+
     /**
      * Retrieves a {@link VoiceChannel} by its ID from the internal cache.
      *
@@ -74,6 +116,47 @@ public interface Guild {
      */
     VoiceChannel getVoiceChannelById(String id);
 
+    /**
+     * Retrieves a {@link VoiceChannel} by its numeric ID from the internal cache.
+     *
+     * @param id The ID of the voice channel.
+     * @return The {@link VoiceChannel} object, or {@code null} if not found.
+     */
+    VoiceChannel getVoiceChannelById(long id);
+
+    /**
+     * Returns the channels of this guild that are currently cached, in no particular order.
+     *
+     * @return A new {@link List} of the cached {@link GuildChannel}s.
+     */
+    List<GuildChannel> getChannels();
+
+    /**
+     * Passes every cached channel of this guild to the given action, without building a list of them.
+     * <p>Each call copies the slot array of the channel cache and iterates the copy, so channels created or
+     * deleted during the iteration are not reflected.</p>
+     *
+     * @param action The action to run for each {@link GuildChannel}.
+     */
+    void forEachChannel(Consumer<? super GuildChannel> action);
+
+    /**
+     * Returns a stream over the cached channels of this guild, in no particular order, without building a
+     * list of them.
+     * <p>Each call copies the slot array of the channel cache, so later changes are not reflected.</p>
+     *
+     * @return A sequential {@link Stream} of the cached {@link GuildChannel}s.
+     */
+    Stream<GuildChannel> streamChannels();
+
+    /**
+     * Returns the cached channels with the given name, ignoring case.
+     *
+     * @param name The channel name.
+     * @return An unmodifiable {@link List} of the matching channels sorted by position, empty if there are none.
+     */
+    List<GuildChannel> getChannelsByName(String name);
+
     /**
      * Fetches the complete list of channels belonging to this guild from the Fluxer API.
      *
@@ -137,12 +220,72 @@ public interface Guild {
     Role getRoleById(String id);
 
     /**
-     * Returns a list of all roles configured in this guild.
+     * Retrieves a {@link Role} from the guild by its numeric ID.
+     *
+     * @param id The ID of the role.
+     * @return The {@link Role} object, or {@code null} if not found.
+     */
+    Role getRoleById(long id);
+
+    /**
+     * Returns a list of all roles configured in this guild, sorted by position from the highest role down.
      *
-     * @return A {@link List} of {@link Role} objects.
+     * @return An unmodifiable {@link List} of {@link Role} objects.
      */
     List<Role> getRoles();
 
+    /**
+     * Passes every cached role of this guild to the given action, from the highest role down.
+     *
+     * @param action The action to run for each {@link Role}.
+     */
+    void forEachRole(Consumer<? super Role> action);
+
+    /**
+     * Returns a stream over the cached roles of this guild, from the highest role down.
+     *
+     * @return A sequential {@link Stream} of the cached {@link Role}s.
+     */
+    Stream<Role> streamRoles();
+
+    /**
+     * Returns the cached roles with the given name, ignoring case.
+     *
+     * @param name The role name.
+     * @return An unmodifiable {@link List} of the matching roles sorted from the highest role down, empty if
+     *         there are none.
+     */
+    List<Role> getRolesByName(String name);
+
+    /**
+     * Returns the members of this guild that are currently cached, in no particular order.
+     * <p>Which members are cached is decided by the configured {@link com.j4fluxer.cache.MemberCachePolicy}.</p>
+     *
+     * @return A new {@link List} of the cached {@link Member}s.
+     */
+    List<Member> getMembers();
+
+    /**
+     * Passes every cached member of this guild to the given action, without building a list of them.
+     * <p>Each call copies one array of the member cache and iterates the copy, roughly 7 to 14 bytes per
+     * cached member, several megabytes in a guild with a million cached members. Members that join or leave
+     * during the iteration are not reflected.</p>
+     *
+     * @param action The action to run for each {@link Member}.
+     */
+    void forEachMember(Consumer<? super Member> action);
+
+    /**
+     * Returns a stream over the cached members of this guild, in no particular order, without building a
+     * list of them. Prefer this over {@link #getMembers()} in large guilds, e.g.
+     * {@code guild.streamMembers().filter(m -> m.getUser().isBot()).count()}.
+     * <p>Like {@link #forEachMember(Consumer)}, each call copies one array of the member cache, so later
+     * changes are not reflected.</p>
+     *
+     * @return A sequential {@link Stream} of the cached {@link Member}s.
+     */
+    Stream<Member> streamMembers();
+
     /**
      * Retrieves a {@link Member} from the guild's local cache.
      *
@@ -151,6 +294,62 @@ public interface Guild {
      */
     Member getMemberById(String userId);
 
+    /**
+     * Retrieves a {@link Member} from the guild's local cache by its numeric user ID.
+     *
+     * @param userId The ID of the member (same as User ID).
+     * @return The {@link Member} object, or {@code null} if not currently cached.
+     */
+    Member getMemberById(long userId);
+
+    /**
+     * Returns the cached members that have the given role, in no particular order.
+     * <p>For the {@code @everyone} role, whose ID is the guild ID, this returns every cached member.</p>
+     *
+     * @param roleId The ID of the role.
+     * @return An unmodifiable {@link List} of the cached members with the role.
+     */
+    List<Member> getMembersWithRole(String roleId);
+
+    /**
+     * Returns the cached members that have the given role, in no particular order.
+     *
+     * @param roleId The numeric ID of the role.
+     * @return An unmodifiable {@link List} of the cached members with the role.
+     * @see #getMembersWithRole(String)
+     */
+    List<Member> getMembersWithRole(long roleId);
+
+    /**
+     * Returns the cached members that have all the given permissions guild-wide, for example everyone who can
+     * ban. The owner and administrators always match.
+     * <p>The permissions of all cached members are computed in one pass over the role index, in parallel for
+     * very large guilds, so this is much faster than checking each member.</p>
+     *
+     * @param permissions The required permissions.
+     * @return An unmodifiable {@link List} of the matching members, in no particular order.
+     */
+    List<Member> getMembersWithPermission(Permission... permissions);
+
+    /**
+     * Returns the bot's own member in this guild. It is always cached, regardless of the
+     * {@link com.j4fluxer.cache.MemberCachePolicy}.
+     *
+     * @return The bot's {@link Member}, or {@code null} if it has not been received yet.
+     */
+    Member getSelfMember();
+
+    /**
+     * Returns the cached members that have all the given permissions in a channel, for example everyone who can
+     * see it. The channel's permission overwrites are taken into account.
+     *
+     * @param channel     The channel, which must belong to this guild.
+     * @param permissions The required permissions.
+     * @return An unmodifiable {@link List} of the matching members, in no particular order.
+     * @see #getMembersWithPermission(Permission...)
+     */
+    List<Member> getMembersWithPermission(GuildChannel channel, Permission... permissions);
+
     /**
      * Manually adds a member to the guild's cache.
      * <p>This is used internally by events.</p>
@@ -176,12 +375,34 @@ public interface Guild {
      */
     RestAction<Member> retrieveMember(String userId);
 
+    /**
+     * Lists every member of this guild through the Fluxer API.
+     * <p>Pages are only requested as the subscriber signals demand, so the listing can be consumed
+     * at the subscriber's own pace without buffering the whole guild.</p>
+     *
+     * @param cacheMembers Whether the received members should also be written into the member cache.
+     * @return A cold {@link Flow.Publisher} emitting every {@link Member} of the guild.
+     */
+    Flow.Publisher<Member> retrieveMembers(boolean cacheMembers);
+
+    /**
+     * Lists every member of this guild through the Fluxer API without caching them.
+     *
+     * @return A cold {@link Flow.Publisher} emitting every {@link Member} of the guild.
+     * @see #retrieveMembers(boolean)
+     */
+    default Flow.Publisher<Member> retrieveMembers() {
+        return retrieveMembers(false);
+    }
+
     /**
      * Assigns a specific role to a guild member.
      *
      * @param userId The ID of the member.
      * @param roleId The ID of the role to assign.
      * @return A {@link RestAction} representing the operation.
+     * @throws com.j4fluxer.exceptions.InsufficientPermissionException If the cached permissions show that the bot lacks {@link Permission#MANAGE_ROLES}.
+     * @throws com.j4fluxer.exceptions.HierarchyException If the cached roles show that the role is at or above the bot's highest role.
      */
     RestAction<Void> addRoleToMember(String userId, String roleId);
 
@@ -191,6 +412,8 @@ public interface Guild {
      * @param userId The ID of the member.
      * @param roleId The ID of the role to remove.
      * @return A {@link RestAction} representing the operation.
+     * @throws com.j4fluxer.exceptions.InsufficientPermissionException If the cached permissions show that the bot lacks {@link Permission#MANAGE_ROLES}.
+     * @throws com.j4fluxer.exceptions.HierarchyException If the cached roles show that the role is at or above the bot's highest role.
      */
     RestAction<Void> removeRoleFromMember(String userId, String roleId);
 
@@ -201,6 +424,8 @@ public interface Guild {
      *
      * @param userId The ID of the member to kick.
      * @return A {@link RestAction} representing the operation.
+     * @throws com.j4fluxer.exceptions.InsufficientPermissionException If the cached permissions show that the bot lacks {@link Permission#KICK_MEMBERS}.
+     * @throws com.j4fluxer.exceptions.HierarchyException If the cached roles show that the member is at or above the bot's highest role.
      */
     RestAction<Void> kickMember(String userId);
 
@@ -210,6 +435,8 @@ public interface Guild {
      * @param userId The ID of the user to ban.
      * @param reason The reason for the ban, visible in audit logs.
      * @return A {@link RestAction} representing the operation.
+     * @throws com.j4fluxer.exceptions.InsufficientPermissionException If the cached permissions show that the bot lacks {@link Permission#BAN_MEMBERS}.
+     * @throws com.j4fluxer.exceptions.HierarchyException If the cached roles show that the member is at or above the bot's highest role.
      */
     RestAction<Void> banMember(String userId, String reason);
 
@@ -221,6 +448,8 @@ public interface Guild {
      * @param durationSeconds    Duration of the ban in seconds (use 0 for permanent).
      * @param reason             The reason for the ban.
      * @return A {@link RestAction} representing the operation.
+     * @throws com.j4fluxer.exceptions.InsufficientPermissionException If the cached permissions show that the bot lacks {@link Permission#BAN_MEMBERS}.
+     * @throws com.j4fluxer.exceptions.HierarchyException If the cached roles show that the member is at or above the bot's highest role.
      */
     RestAction<Void> banMember(String userId, int deleteMessageDays, long durationSeconds, String reason);
 
@@ -229,6 +458,7 @@ public interface Guild {
      *
      * @param userId The ID of the user to unban.
      * @return A {@link RestAction} representing the operation.
+     * @throws com.j4fluxer.exceptions.InsufficientPermissionException If the cached permissions show that the bot lacks {@link Permission#BAN_MEMBERS}.
      */
     RestAction<Void> unbanMember(String userId);
 
@@ -238,6 +468,7 @@ public interface Guild {
      * @param userId          The ID of the member to timeout.
      * @param durationSeconds The duration of the timeout in seconds.
      * @return A {@link RestAction} representing the operation.
+     * @throws com.j4fluxer.exceptions.HierarchyException If the cached roles show that the member is at or above the bot's highest role.
      */
     RestAction<Void> timeoutMember(String userId, long durationSeconds);
 
@@ -246,6 +477,7 @@ public interface Guild {
      *
      * @param userId The ID of the member.
      * @return A {@link RestAction} representing the operation.
+     * @throws com.j4fluxer.exceptions.HierarchyException If the cached roles show that the member is at or above the bot's highest role.
      */
     RestAction<Void> removeTimeout(String userId);
 
@@ -1,47 +1,128 @@
 package com.j4fluxer.entities.guild;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.j4fluxer.cache.CacheFlag;
+import com.j4fluxer.cache.CacheStats;
+import com.j4fluxer.cache.CacheType;
+import com.j4fluxer.cache.MemberCachePolicy;
+import com.j4fluxer.entities.Permission;
 import com.j4fluxer.entities.channel.*;
 import com.j4fluxer.entities.member.Member;
 import com.j4fluxer.entities.member.MemberImpl;
+import com.j4fluxer.entities.member.MemberListPublisher;
 import com.j4fluxer.entities.user.UserImpl;
 import com.j4fluxer.entities.user.UserProfile;
+import com.j4fluxer.exceptions.HierarchyException;
+import com.j4fluxer.exceptions.InsufficientPermissionException;
+import com.j4fluxer.fluxer.FluxerImpl;
+import com.j4fluxer.internal.cache.BulkPermissionQuery;
+import com.j4fluxer.internal.cache.CompactMemberStore;
+import com.j4fluxer.internal.cache.LongObjectMap;
+import com.j4fluxer.internal.cache.LongSet;
+import com.j4fluxer.internal.cache.MemoryEstimator;
+import com.j4fluxer.internal.cache.MemberStore;
+import com.j4fluxer.internal.cache.ObjectMemberStore;
+import com.j4fluxer.internal.cache.PermissionCache;
+import com.j4fluxer.internal.cache.WeakInterner;
 import com.j4fluxer.internal.json.EntityBuilder;
 import com.j4fluxer.internal.requests.Requester;
 import com.j4fluxer.internal.requests.RestAction;
 import com.j4fluxer.internal.requests.Route;
+import com.j4fluxer.internal.utils.PermissionUtil;
+import com.j4fluxer.internal.utils.Snowflake;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
 
 /**
  * The concrete implementation of a {@link Guild} on the Fluxer platform.
  */
 public class GuildImpl implements Guild {
 
+    /** Orders roles from the top of the hierarchy down; equal positions are ordered by ID. */
+    private static final Comparator<Role> ROLE_ORDER =
+            Comparator.comparingInt(Role::getPosition).reversed().thenComparingLong(Role::getIdLong);
+
+    /** Orders channels by position; equal positions are ordered by ID. */
+    private static final Comparator<GuildChannel> CHANNEL_ORDER =
+            Comparator.comparingInt(GuildChannel::getPosition).thenComparingLong(GuildChannel::getIdLong);
+
+    private static final long[] NO_ROLES = new long[0];
+
     private final Requester requester;
-    private final String id;
-    private final String name;
-    private final String ownerId;
-    private final Map<String, Role> roles = new HashMap<>();
-    private final Map<String, GuildChannel> channelCache = new ConcurrentHashMap<>();
-    private final Map<String, Member> memberCache = new ConcurrentHashMap<>();
+    private final long id;
+    private volatile String name;
+    private volatile long ownerId;
+    private final LongObjectMap<Role> roles = new LongObjectMap<>();
+
+    /** The cached roles sorted by position, highest first. Replaced as a whole whenever a role changes. */
+    private volatile List<Role> sortedRoles = List.of();
+
+    /** Serializes role cache writes, so the map and the sorted snapshot never disagree. */
+    private final Object roleLock = new Object();
+    private final LongObjectMap<GuildChannel> channelCache = new LongObjectMap<>();
+    private final MemberStore memberCache;
+
+    /** Canonical ID-only channels handed out for channels that are not cached, held weakly. */
+    private final WeakInterner<Long, GuildChannel> placeholderChannels = new WeakInterner<>();
+
+    /** When each cached member was last seen; only tracked if the member cache policy expires members. */
+    private final LongObjectMap<Long> memberLastSeen = new LongObjectMap<>();
+
+    // --- Secondary indexes, kept up to date by the cache mutation methods ---
+
+    /** The user IDs of the cached members of each role. The sets are guarded by {@link #memberIndexLock}. */
+    private final LongObjectMap<LongSet> membersByRole = new LongObjectMap<>();
+
+    /** Serializes member cache writes, so the member cache and {@link #membersByRole} never disagree. */
+    private final Object memberIndexLock = new Object();
+
+    /** The cached channels of each category, sorted by position. The lists are replaced, never modified. */
+    private final LongObjectMap<List<GuildChannel>> channelsByParent = new LongObjectMap<>();
+
+    /** The cached channels by lower-case name. The lists are replaced, never modified. */
+    private final Map<String, List<GuildChannel>> channelsByName = new ConcurrentHashMap<>();
+
+    /** The cached roles by lower-case name. The lists are replaced, never modified. */
+    private final Map<String, List<Role>> rolesByName = new ConcurrentHashMap<>();
+
+    /** The effective permissions of members, invalidated by role, overwrite, owner and member changes. */
+    private final PermissionCache permissionCache = new PermissionCache(this);
+
+    /** Serializes channel cache writes, so the channel cache and its indexes never disagree. */
+    private final Object channelLock = new Object();
 
     public GuildImpl(JsonNode json, Requester requester) {
         this.requester = requester;
-        this.id = json.get("id").asText();
+        this.id = Snowflake.parse(json.get("id"));
         this.name = json.has("name") ? json.get("name").asText() : "";
-        this.ownerId = json.has("owner_id") && !json.get("owner_id").isNull() ? json.get("owner_id").asText() : null;
+        this.ownerId = Snowflake.parse(json.get("owner_id"));
+        this.memberCache = createMemberStore();
 
-        if (json.has("roles") && json.get("roles").isArray()) {
-            for (JsonNode roleNode : json.get("roles")) {
-                Role role = new Role(roleNode);
-                this.roles.put(role.getId(), role);
+        if (isCacheEnabled(CacheFlag.ROLES) && json.has("roles") && json.get("roles").isArray()) {
+            synchronized (roleLock) {
+                for (JsonNode roleNode : json.get("roles")) {
+                    Role role = new Role(roleNode);
+                    this.roles.put(role.getIdLong(), role);
+                    indexRoleName(role);
+                }
+                refreshRoleSnapshot();
             }
         }
 
@@ -50,72 +131,159 @@ public class GuildImpl implements Guild {
                 updateChannelCache(channelNode);
             }
         }
+
+        if (json.has("members") && json.get("members").isArray() && getMemberCachePolicy() != MemberCachePolicy.NONE) {
+            for (JsonNode memberNode : json.get("members")) {
+                if (!memberNode.has("user")) continue;
+                upsertMember(memberNode.get("user"), memberNode);
+            }
+        }
     }
 
     public GuildImpl(String id, Requester requester) {
         this.requester = requester;
-        this.id = id;
+        this.id = Snowflake.parse(id);
         this.name = "";
-        this.ownerId = null;
+        this.ownerId = Snowflake.NONE;
+        this.memberCache = createMemberStore();
+    }
+
+    // --- CACHE SETTINGS ---
+    private boolean isCacheEnabled(CacheFlag flag) {
+        FluxerImpl api = requester != null ? requester.getApi() : null;
+        return api == null || api.isCacheEnabled(flag);
+    }
+
+    private MemberCachePolicy getMemberCachePolicy() {
+        FluxerImpl api = requester != null ? requester.getApi() : null;
+        return api != null ? api.getMemberCachePolicy() : MemberCachePolicy.ALL;
+    }
+
+    private void recordLookup(CacheType type, boolean hit) {
+        FluxerImpl api = requester != null ? requester.getApi() : null;
+        if (api != null) api.getCacheMetrics().recordLookup(type, hit);
+    }
+
+    private MemberStore createMemberStore() {
+        FluxerImpl api = requester != null ? requester.getApi() : null;
+        return api != null && api.isCompactMemberStore() ? new CompactMemberStore(this, requester) : new ObjectMemberStore();
     }
 
     // --- HELPER METHOD TO CLEAN IDs ---
     private String cleanId(String rawId) {
-        if (rawId == null) return null;
-        return rawId.replaceAll("[^0-9]", "");
+        return Snowflake.clean(rawId);
     }
 
     // --- CHANNEL RETRIEVAL ---
 
-    @Override public String getId() { return id; }
+    @Override public String getId() { return Snowflake.toString(id); }
+    @Override public long getIdLong() { return id; }
     @Override public String getName() { return name; }
-    @Override public String getOwnerId() { return ownerId; }
+    @Override public String getOwnerId() { return ownerId != Snowflake.NONE ? Snowflake.toString(ownerId) : null; }
+    @Override public long getOwnerIdLong() { return ownerId; }
 
     @Override
     public GuildChannel getGuildChannelById(String id) {
-        String cleanId = cleanId(id);
-        if (channelCache.containsKey(cleanId)) {
-            return channelCache.get(cleanId);
+        return getGuildChannelById(Snowflake.parse(id));
+    }
+
+    @Override
+    public GuildChannel getGuildChannelById(long id) {
+        GuildChannel cached = channelCache.get(id);
+        recordLookup(CacheType.CHANNEL, cached != null);
+        if (cached != null) {
+            return cached;
         }
-        return new TextChannelImpl(cleanId, this, requester);
+        return placeholderChannel(id, TextChannel.class, TextChannelImpl::new);
     }
 
     @Override
     public TextChannel getTextChannelById(String id) {
-        String cleanId = cleanId(id);
-        if (channelCache.containsKey(cleanId) && channelCache.get(cleanId) instanceof TextChannel) {
-            return (TextChannel) channelCache.get(cleanId);
+        return getTextChannelById(Snowflake.parse(id));
+    }
+
+    @Override
+    public TextChannel getTextChannelById(long id) {
+        GuildChannel cached = channelCache.get(id);
+        recordLookup(CacheType.CHANNEL, cached instanceof TextChannel);
+        if (cached instanceof TextChannel channel) {
+            return channel;
         }
-        return new TextChannelImpl(cleanId, this, requester);
+        return placeholderChannel(id, TextChannel.class, TextChannelImpl::new);
     }
 
     @Override
     public Category getCategoryById(String id) {
-        String cleanId = cleanId(id);
-        if (channelCache.containsKey(cleanId) && channelCache.get(cleanId) instanceof Category) {
-            return (Category) channelCache.get(cleanId);
+        return getCategoryById(Snowflake.parse(id));
+    }
+
+    @Override
+    public Category getCategoryById(long id) {
+        GuildChannel cached = channelCache.get(id);
+        recordLookup(CacheType.CHANNEL, cached instanceof Category);
+        if (cached instanceof Category category) {
+            return category;
         }
-        return new CategoryImpl(cleanId, this, requester);
+        return placeholderChannel(id, Category.class, CategoryImpl::new);
     }
 
     @Override
     public VoiceChannel getVoiceChannelById(String id) {
-        String cleanId = cleanId(id);
-        if (channelCache.containsKey(cleanId) && channelCache.get(cleanId) instanceof VoiceChannel) {
-            return (VoiceChannel) channelCache.get(cleanId);
+        return getVoiceChannelById(Snowflake.parse(id));
+    }
+
+    @Override
+    public VoiceChannel getVoiceChannelById(long id) {
+        GuildChannel cached = channelCache.get(id);
+        recordLookup(CacheType.CHANNEL, cached instanceof VoiceChannel);
+        if (cached instanceof VoiceChannel channel) {
+            return channel;
         }
-        return new VoiceChannelImpl(cleanId, this, requester);
+        return placeholderChannel(id, VoiceChannel.class, VoiceChannelImpl::new);
+    }
+
+    /**
+     * Returns the canonical ID-only channel for a channel that is not cached, creating it if needed.
+     * If a placeholder of a different type exists for the same ID, a fresh one is returned without replacing it.
+     */
+    private <T extends GuildChannel> T placeholderChannel(long channelId, Class<T> type, ChannelFactory<? extends T> factory) {
+        String idString = Snowflake.toString(channelId);
+        GuildChannel canonical = placeholderChannels.get(channelId, key -> factory.create(idString, this, requester));
+        return type.isInstance(canonical) ? type.cast(canonical) : factory.create(idString, this, requester);
+    }
+
+    /**
+     * Creates an ID-only channel implementation.
+     */
+    @FunctionalInterface
+    private interface ChannelFactory<T extends GuildChannel> {
+        T create(String id, Guild guild, Requester requester);
+    }
+
+    @Override
+    public List<GuildChannel> getChannels() {
+        return channelCache.values();
+    }
+
+    @Override
+    public void forEachChannel(Consumer<? super GuildChannel> action) {
+        channelCache.forEachValue(action);
+    }
+
+    @Override
+    public Stream<GuildChannel> streamChannels() {
+        return channelCache.stream();
     }
 
     @Override
     public RestAction<List<Channel>> retrieveChannels() {
-        Route.CompiledRoute route = Route.GET_GUILD_CHANNELS.compile(this.id);
+        Route.CompiledRoute route = Route.GET_GUILD_CHANNELS.compile(getId());
         return new RestAction<List<Channel>>(requester, route) {
             @Override
             protected List<Channel> handleResponse(String jsonStr) throws Exception {
                 JsonNode array = mapper.readTree(jsonStr);
                 List<Channel> channels = new ArrayList<>();
-                EntityBuilder builder = new EntityBuilder(requester);
+                EntityBuilder builder = EntityBuilder.of(requester);
                 if (array.isArray()) {
                     for (JsonNode node : array) {
                         channels.add(builder.createChannel(node, GuildImpl.this));
@@ -129,26 +297,319 @@ public class GuildImpl implements Guild {
     @Override
     public RestAction<Member> retrieveMember(String userId) {
         String cleanId = cleanId(userId); // <--- BURASI EKSİKTİ
-        Route.CompiledRoute route = Route.GET_MEMBER.compile(this.id, cleanId);
+        Route.CompiledRoute route = Route.GET_MEMBER.compile(getId(), cleanId);
         return new RestAction<Member>(requester, route) {
             @Override
             protected Member handleResponse(String jsonStr) throws Exception {
                 JsonNode json = mapper.readTree(jsonStr);
-                UserImpl user = new UserImpl(json.get("user"), requester);
+                UserImpl user = EntityBuilder.of(requester).createUser(json.get("user"));
                 return new MemberImpl(user, json, GuildImpl.this, requester);
             }
         };
     }
 
+    @Override
+    public Flow.Publisher<Member> retrieveMembers(boolean cacheMembers) {
+        return new MemberListPublisher(this, requester, cacheMembers);
+    }
+
     // --- CACHE ---
+    @Override
+    public List<Member> getMembers() {
+        return memberCache.values();
+    }
+
+    @Override
+    public void forEachMember(Consumer<? super Member> action) {
+        memberCache.forEach(action);
+    }
+
+    @Override
+    public Stream<Member> streamMembers() {
+        return memberCache.stream();
+    }
+
     @Override
     public Member getMemberById(String userId) {
-        return memberCache.get(cleanId(userId)); // Cache sorgusunda da temizle
+        return getMemberById(Snowflake.parse(userId)); // Cache sorgusunda da temizle
+    }
+
+    @Override
+    public Member getMemberById(long userId) {
+        Member member = memberCache.get(userId);
+        recordLookup(CacheType.MEMBER, member != null);
+        return member;
+    }
+
+    @Override
+    public List<Member> getMembersWithRole(String roleId) {
+        return getMembersWithRole(Snowflake.parse(roleId));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Answered from an index of role IDs to user IDs, so this takes time proportional to the number of
+     * matching members rather than the size of the member cache.</p>
+     */
+    @Override
+    public List<Member> getMembersWithRole(long roleId) {
+        if (roleId == id) {
+            // The @everyone role shares the guild's ID and is never listed on members
+            return getMembers();
+        }
+        long[] userIds;
+        synchronized (memberIndexLock) {
+            LongSet members = membersByRole.get(roleId);
+            if (members == null) return List.of();
+            userIds = members.toArray();
+        }
+        List<Member> result = new ArrayList<>(userIds.length);
+        for (long userId : userIds) {
+            Member member = memberCache.get(userId);
+            if (member != null) {
+                result.add(member);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public List<Member> getMembersWithPermission(Permission... permissions) {
+        BulkPermissionQuery.Snapshot snapshot = permissionSnapshot();
+        return membersMatching(snapshot.getUserIds(), BulkPermissionQuery.compute(snapshot), permissions);
     }
 
+    @Override
+    public List<Member> getMembersWithPermission(GuildChannel channel, Permission... permissions) {
+        if (channel.getGuild() != null && channel.getGuild().getIdLong() != id) {
+            throw new IllegalArgumentException("Channel " + channel.getId() + " belongs to another guild");
+        }
+        BulkPermissionQuery.Snapshot snapshot = permissionSnapshot();
+        return membersMatching(snapshot.getUserIds(), BulkPermissionQuery.compute(snapshot, channel, id), permissions);
+    }
+
+    /**
+     * Packs the cached members and the members of every role into arrays for a {@link BulkPermissionQuery}.
+     * Only the copying happens under {@link #memberIndexLock}; the arrays are sorted after it is released.
+     */
+    private BulkPermissionQuery.Snapshot permissionSnapshot() {
+        List<Role> roleList = sortedRoles;
+        long everyonePermissions = 0;
+        long[] roleIds = new long[roleList.size()];
+        long[] rolePermissions = new long[roleList.size()];
+        int count = 0;
+        for (Role role : roleList) {
+            if (role.getIdLong() == id) {
+                everyonePermissions = role.getPermissionsRaw();
+                continue;
+            }
+            roleIds[count] = role.getIdLong();
+            rolePermissions[count] = role.getPermissionsRaw();
+            count++;
+        }
+        long[][] roleMembers = new long[count][];
+        long[] userIds;
+        synchronized (memberIndexLock) {
+            userIds = memberCache.userIds();
+            for (int i = 0; i < count; i++) {
+                LongSet members = membersByRole.get(roleIds[i]);
+                roleMembers[i] = members != null ? members.toArray() : new long[0];
+            }
+        }
+        return new BulkPermissionQuery.Snapshot(userIds, ownerId, everyonePermissions,
+                Arrays.copyOf(roleIds, count), Arrays.copyOf(rolePermissions, count), roleMembers);
+    }
+
+    private List<Member> membersMatching(long[] userIds, long[] permissions, Permission... required) {
+        List<Member> result = new ArrayList<>();
+        for (int i = 0; i < userIds.length; i++) {
+            if (!PermissionUtil.hasAll(permissions[i], required)) continue;
+            Member member = memberCache.get(userIds[i]);
+            if (member != null) {
+                result.add(member);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The member is only stored if the configured {@link MemberCachePolicy} accepts it; otherwise any
+     * previously cached instance is dropped.</p>
+     */
     @Override
     public void cacheMember(Member member) {
-        memberCache.put(member.getUser().getId(), member);
+        MemberCachePolicy policy = getMemberCachePolicy();
+        long userId = member.getUser().getIdLong();
+        // The bot's own member is always kept, since the pre-flight permission checks depend on it
+        if (!policy.cacheMember(member) && userId != getSelfUserId()) {
+            removeMember(userId);
+            return;
+        }
+        synchronized (memberIndexLock) {
+            // Compact store views are new objects on every get(), so identity alone would always differ
+            if (!memberCache.holds(member)) {
+                Member previous = memberCache.get(userId);
+                // Read before the put: members of the compact store are views of the current row
+                long[] previousRoles = previous != null ? previous.getRoleIdsLong() : NO_ROLES;
+                memberCache.put(member);
+                reindexMemberRoles(userId, previousRoles, member.getRoleIdsLong());
+                permissionCache.invalidate(userId);
+            }
+        }
+        if (policy.getExpiry() != null) {
+            memberLastSeen.put(userId, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Returns a {@link Member} for the given payload without touching the cache.
+     * <p>If a cached member exists and none of the fields present in the payload have changed,
+     * the cached instance is returned; otherwise a new member is built.</p>
+     *
+     * @param userJson   The user payload of the member.
+     * @param memberJson The member payload.
+     * @return The matching cached {@link Member}, or a new one.
+     */
+    public Member resolveMember(JsonNode userJson, JsonNode memberJson) {
+        long userId = Snowflake.parse(userJson.get("id"));
+        if (memberCache.matches(userId, userJson, memberJson)) {
+            return memberCache.get(userId);
+        }
+        return new MemberImpl(EntityBuilder.of(requester).createUser(userJson), memberJson, this, requester);
+    }
+
+    /**
+     * Inserts or refreshes a member in the cache from a gateway payload.
+     * <p>The cached instance is reused if its data has not changed. Whether the member is stored at all
+     * is decided by the configured {@link MemberCachePolicy}.</p>
+     *
+     * @param userJson   The user payload of the member.
+     * @param memberJson The member payload.
+     * @return The up-to-date {@link Member}.
+     */
+    public Member upsertMember(JsonNode userJson, JsonNode memberJson) {
+        Member member = resolveMember(userJson, memberJson);
+        cacheMember(member);
+        return member;
+    }
+
+    /**
+     * Removes a member from the member cache.
+     *
+     * @param userId The ID of the member's user.
+     * @return The removed {@link Member}, or {@code null} if it was not cached.
+     */
+    public Member removeMember(String userId) {
+        return removeMember(Snowflake.parse(userId));
+    }
+
+    /**
+     * Removes a member from the member cache.
+     *
+     * @param userId The ID of the member's user.
+     * @return The removed {@link Member}, or {@code null} if it was not cached.
+     */
+    public Member removeMember(long userId) {
+        memberLastSeen.remove(userId);
+        permissionCache.invalidate(userId);
+        synchronized (memberIndexLock) {
+            Member removed = memberCache.remove(userId);
+            if (removed != null) {
+                reindexMemberRoles(userId, removed.getRoleIdsLong(), NO_ROLES);
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * Moves a member between the role sets of {@link #membersByRole}. Must be called while holding
+     * {@link #memberIndexLock}.
+     */
+    private void reindexMemberRoles(long userId, long[] oldRoles, long[] newRoles) {
+        for (long role : oldRoles) {
+            if (contains(newRoles, role)) continue;
+            LongSet members = membersByRole.get(role);
+            if (members != null && members.remove(userId) && members.isEmpty()) {
+                membersByRole.remove(role);
+            }
+        }
+        for (long role : newRoles) {
+            if (role == Snowflake.NONE || contains(oldRoles, role)) continue;
+            LongSet members = membersByRole.get(role);
+            if (members == null) {
+                members = new LongSet();
+                membersByRole.put(role, members);
+            }
+            members.add(userId);
+        }
+    }
+
+    private static boolean contains(long[] ids, long id) {
+        for (long candidate : ids) {
+            if (candidate == id) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Drops every cached member that the given policy no longer wants to keep.
+     *
+     * @param policy The {@link MemberCachePolicy} to consult.
+     * @param now    The current time in epoch milliseconds.
+     * @return The number of members that were dropped.
+     */
+    public int pruneMembers(MemberCachePolicy policy, long now) {
+        int pruned = 0;
+        for (Member member : memberCache.values()) {
+            long userId = member.getUser().getIdLong();
+            if (userId == getSelfUserId()) continue;
+            Long lastSeen = memberLastSeen.get(userId);
+            Duration idle = Duration.ofMillis(lastSeen != null ? Math.max(0, now - lastSeen) : 0);
+            if (!policy.keepMember(member, idle) && removeMember(userId) != null) {
+                pruned++;
+            }
+        }
+        return pruned;
+    }
+
+    /**
+     * Counts the cached roles, channels and members of this guild and estimates the heap they retain.
+     *
+     * @return The cache statistics of this guild.
+     */
+    public CacheStats.GuildStats computeCacheStats() {
+        Map<CacheType, Long> counts = new EnumMap<>(CacheType.class);
+        Map<CacheType, Long> bytes = new EnumMap<>(CacheType.class);
+
+        long roleBytes = 0;
+        List<Role> cachedRoles = sortedRoles;
+        for (Role role : cachedRoles) {
+            roleBytes += MemoryEstimator.role(role);
+        }
+        long channelBytes = 0;
+        List<GuildChannel> channels = channelCache.values();
+        for (GuildChannel channel : channels) {
+            channelBytes += MemoryEstimator.channel(channel);
+        }
+        // Tracking the last activity adds a boxed timestamp and a map slot per member
+        long lastSeenBytes = memberLastSeen.size() * 40L;
+
+        counts.put(CacheType.GUILD, 1L);
+        counts.put(CacheType.ROLE, (long) cachedRoles.size());
+        counts.put(CacheType.CHANNEL, (long) channels.size());
+        counts.put(CacheType.MEMBER, (long) memberCache.size());
+        bytes.put(CacheType.GUILD, 128 + MemoryEstimator.string(name));
+        bytes.put(CacheType.ROLE, roleBytes);
+        bytes.put(CacheType.CHANNEL, channelBytes);
+        long roleIndexBytes = 0;
+        synchronized (memberIndexLock) {
+            for (LongSet members : membersByRole.values()) {
+                roleIndexBytes += members.estimateBytes();
+            }
+        }
+        bytes.put(CacheType.MEMBER, memberCache.estimateBytes() + lastSeenBytes + roleIndexBytes);
+        return new CacheStats.GuildStats(id, name, counts, bytes);
     }
 
     // --- CHANNEL CREATION ---
@@ -179,27 +640,121 @@ public class GuildImpl implements Guild {
     }
 
     private <T extends Channel> RestAction<T> createChannel(String name, ChannelType type, String parentId, Class<T> clazz) {
-        Route.CompiledRoute route = Route.CREATE_CHANNEL.compile(this.id);
+        checkPermission(null, Permission.MANAGE_CHANNELS);
+        Route.CompiledRoute route = Route.CREATE_CHANNEL.compile(getId());
         ChannelCreatePayload payload = new ChannelCreatePayload(name, type.getKey(), parentId);
 
         return new RestAction<T>(requester, route) {
             @Override
             protected T handleResponse(String jsonStr) throws Exception {
                 JsonNode node = mapper.readTree(jsonStr);
-                EntityBuilder builder = new EntityBuilder(requester);
+                EntityBuilder builder = EntityBuilder.of(requester);
                 return clazz.cast(builder.createChannel(node, GuildImpl.this));
             }
         }.setBody(payload);
     }
 
+    // --- PRE-FLIGHT PERMISSION CHECKS ---
+
+    private long getSelfUserId() {
+        FluxerImpl api = requester != null ? requester.getApi() : null;
+        return api != null ? api.getSelfUserId() : Snowflake.NONE;
+    }
+
+    @Override
+    public Member getSelfMember() {
+        long selfUserId = getSelfUserId();
+        return selfUserId != Snowflake.NONE ? memberCache.get(selfUserId) : null;
+    }
+
+    /**
+     * Returns the bot's own member if the pre-flight checks apply to this guild: they are enabled, and the
+     * roles and the bot's member are cached. Without them a check could reject an action that would succeed.
+     */
+    private Member checkedSelfMember() {
+        FluxerImpl api = requester != null ? requester.getApi() : null;
+        if (api == null || !api.isPermissionChecks() || !api.isCacheEnabled(CacheFlag.ROLES)) return null;
+        if (roles.get(id) == null) return null; // Not a fully received guild
+        return getSelfMember();
+    }
+
+    /**
+     * Throws if the cached roles and overwrites show that the bot lacks a permission. Does nothing if the
+     * checks are disabled or the state they need is not cached.
+     *
+     * @param channel    The channel the action targets, or {@code null} for a guild-wide permission.
+     * @param permission The required permission.
+     * @throws InsufficientPermissionException If the bot lacks the permission.
+     */
+    public void checkPermission(GuildChannel channel, Permission permission) {
+        Member self = checkedSelfMember();
+        if (self == null) return;
+        if (channel == null) {
+            if (!self.hasPermission(permission)) {
+                throw new InsufficientPermissionException(this, null, permission);
+            }
+        } else if (channelCache.get(channel.getIdLong()) == channel && !self.hasPermission(channel, permission)) {
+            // Placeholder channels carry no overwrites, so only cached channels are checked
+            throw new InsufficientPermissionException(this, channel, permission);
+        }
+    }
+
+    /**
+     * Throws if the cached roles show that the bot cannot act on a member, because the member owns the guild
+     * or has a role at or above the bot's highest role. Members that are not cached are not checked.
+     *
+     * @param userId The ID of the target member's user.
+     * @throws HierarchyException If the member is out of the bot's reach.
+     */
+    public void checkCanInteract(long userId) {
+        Member self = checkedSelfMember();
+        if (self == null || self.isOwner()) return;
+        if (userId == ownerId) {
+            throw new HierarchyException("Cannot modify the guild owner");
+        }
+        // Compared by ID, since the compact store hands out a new view of a member on every lookup
+        if (userId == self.getUser().getIdLong()) return;
+        Member target = memberCache.get(userId);
+        if (target == null) return;
+        if (highestPosition(target) >= highestPosition(self)) {
+            throw new HierarchyException("Cannot modify member " + target.getUser().getId()
+                    + " with a role at or above the bot's highest role");
+        }
+    }
+
+    /**
+     * Throws if the cached roles show that the bot cannot assign or remove a role, because it is at or above
+     * the bot's highest role.
+     *
+     * @param role The role, or {@code null} if it is not cached, in which case nothing is checked.
+     * @throws HierarchyException If the role is out of the bot's reach.
+     */
+    public void checkCanInteract(Role role) {
+        Member self = checkedSelfMember();
+        if (self == null || role == null || self.isOwner()) return;
+        if (role.getPosition() >= highestPosition(self)) {
+            throw new HierarchyException("Cannot modify role " + role.getName() + " (" + role.getId()
+                    + ") at or above the bot's highest role");
+        }
+    }
+
+    private int highestPosition(Member member) {
+        int highest = 0;
+        for (long roleId : member.getRoleIdsLong()) {
+            Role role = roles.get(roleId);
+            if (role != null && role.getPosition() > highest) {
+                highest = role.getPosition();
+            }
+        }
+        return highest;
+    }
+
     // --- MEMBER & MODERATION ---
 
     @Override
     public RestAction<UserProfile> retrieveMemberProfile(String userId) {
         String cleanId = cleanId(userId);
-        Route.CompiledRoute baseRoute = Route.GET_USER_PROFILE.compile(cleanId);
-        String fullUrl = baseRoute.url + "?guild_id=" + this.id;
-        Route.CompiledRoute finalRoute = new Route.CompiledRoute(baseRoute.method, fullUrl);
+        Route.CompiledRoute finalRoute = Route.GET_USER_PROFILE.compile(cleanId).withQueryParams("guild_id", getId());
 
         return new RestAction<UserProfile>(requester, finalRoute) {
             @Override
@@ -212,7 +767,9 @@ public class GuildImpl implements Guild {
     @Override
     public RestAction<Void> kickMember(String userId) {
         String cleanId = cleanId(userId);
-        Route.CompiledRoute route = Route.KICK_MEMBER.compile(this.id, cleanId);
+        checkPermission(null, Permission.KICK_MEMBERS);
+        checkCanInteract(Snowflake.parse(cleanId));
+        Route.CompiledRoute route = Route.KICK_MEMBER.compile(getId(), cleanId);
         return new RestAction<Void>(requester, route) {
             @Override protected Void handleResponse(String json) { return null; }
         };
@@ -226,7 +783,9 @@ public class GuildImpl implements Guild {
     @Override
     public RestAction<Void> banMember(String userId, int deleteMessageDays, long durationSeconds, String reason) {
         String cleanId = cleanId(userId);
-        Route.CompiledRoute route = Route.BAN_MEMBER.compile(this.id, cleanId);
+        checkPermission(null, Permission.BAN_MEMBERS);
+        checkCanInteract(Snowflake.parse(cleanId));
+        Route.CompiledRoute route = Route.BAN_MEMBER.compile(getId(), cleanId);
         BanPayload payload = new BanPayload(deleteMessageDays, durationSeconds, reason);
 
         return new RestAction<Void>(requester, route) {
@@ -237,7 +796,8 @@ public class GuildImpl implements Guild {
     @Override
     public RestAction<Void> unbanMember(String userId) {
         String cleanId = cleanId(userId);
-        Route.CompiledRoute route = Route.UNBAN_MEMBER.compile(this.id, cleanId);
+        checkPermission(null, Permission.BAN_MEMBERS);
+        Route.CompiledRoute route = Route.UNBAN_MEMBER.compile(getId(), cleanId);
         return new RestAction<Void>(requester, route) {
             @Override protected Void handleResponse(String json) { return null; }
         };
@@ -246,8 +806,9 @@ public class GuildImpl implements Guild {
     @Override
     public RestAction<Void> timeoutMember(String userId, long durationSeconds) {
         String cleanId = cleanId(userId);
+        checkCanInteract(Snowflake.parse(cleanId));
         String isoTime = Instant.now().plus(durationSeconds, ChronoUnit.SECONDS).toString();
-        Route.CompiledRoute route = Route.MODIFY_MEMBER.compile(this.id, cleanId);
+        Route.CompiledRoute route = Route.MODIFY_MEMBER.compile(getId(), cleanId);
 
         return new RestAction<Void>(requester, route) {
             @Override protected Void handleResponse(String json) { return null; }
@@ -257,7 +818,8 @@ public class GuildImpl implements Guild {
     @Override
     public RestAction<Void> removeTimeout(String userId) {
         String cleanId = cleanId(userId);
-        Route.CompiledRoute route = Route.MODIFY_MEMBER.compile(this.id, cleanId);
+        checkCanInteract(Snowflake.parse(cleanId));
+        Route.CompiledRoute route = Route.MODIFY_MEMBER.compile(getId(), cleanId);
         return new RestAction<Void>(requester, route) {
             @Override protected Void handleResponse(String json) { return null; }
         }.setBody(new TimeoutPayload(null));
@@ -267,7 +829,9 @@ public class GuildImpl implements Guild {
     public RestAction<Void> addRoleToMember(String userId, String roleId) {
         String cleanUserId = cleanId(userId);
         String cleanRoleId = cleanId(roleId);
-        Route.CompiledRoute route = Route.ADD_ROLE.compile(this.id, cleanUserId, cleanRoleId);
+        checkPermission(null, Permission.MANAGE_ROLES);
+        checkCanInteract(roles.get(Snowflake.parse(cleanRoleId)));
+        Route.CompiledRoute route = Route.ADD_ROLE.compile(getId(), cleanUserId, cleanRoleId);
         return new RestAction<Void>(requester, route) {
             @Override protected Void handleResponse(String json) { return null; }
         };
@@ -277,7 +841,9 @@ public class GuildImpl implements Guild {
     public RestAction<Void> removeRoleFromMember(String userId, String roleId) {
         String cleanUserId = cleanId(userId);
         String cleanRoleId = cleanId(roleId);
-        Route.CompiledRoute route = Route.REMOVE_ROLE.compile(this.id, cleanUserId, cleanRoleId);
+        checkPermission(null, Permission.MANAGE_ROLES);
+        checkCanInteract(roles.get(Snowflake.parse(cleanRoleId)));
+        Route.CompiledRoute route = Route.REMOVE_ROLE.compile(getId(), cleanUserId, cleanRoleId);
         return new RestAction<Void>(requester, route) {
             @Override protected Void handleResponse(String json) { return null; }
         };
@@ -285,15 +851,104 @@ public class GuildImpl implements Guild {
 
     @Override
     public Role getRoleById(String id) {
-        return roles.get(cleanId(id));
+        return getRoleById(Snowflake.parse(id));
+    }
+
+    @Override
+    public Role getRoleById(long id) {
+        Role role = roles.get(id);
+        recordLookup(CacheType.ROLE, role != null);
+        return role;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The returned list is an immutable snapshot that is shared between callers and only rebuilt when a role
+     * is created, updated or deleted.</p>
+     */
     @Override
     public List<Role> getRoles() {
-        return new ArrayList<>(roles.values());
+        return sortedRoles;
+    }
+
+    @Override
+    public void forEachRole(Consumer<? super Role> action) {
+        sortedRoles.forEach(action);
+    }
+
+    @Override
+    public Stream<Role> streamRoles() {
+        return sortedRoles.stream();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Answered from an index of lower-case names.</p>
+     */
+    @Override
+    public List<Role> getRolesByName(String name) {
+        return rolesByName.getOrDefault(nameKey(name), List.of());
+    }
+
+    /**
+     * Stores a role in the role cache, replacing the previous version of the role, if role caching is enabled.
+     *
+     * @param roleNode The {@link JsonNode} containing the role data.
+     * @return The previously cached version of the role, or {@code null} if there was none.
+     */
+    public Role updateRoleCache(JsonNode roleNode) {
+        if (!isCacheEnabled(CacheFlag.ROLES)) return null;
+        Role role = new Role(roleNode);
+        synchronized (roleLock) {
+            Role previous = roles.put(role.getIdLong(), role);
+            if (previous != null) {
+                unindexRoleName(previous);
+            }
+            indexRoleName(role);
+            refreshRoleSnapshot();
+            permissionCache.invalidateAll();
+            return previous;
+        }
+    }
+
+    /**
+     * Removes a role from the role cache.
+     *
+     * @param roleId The ID of the role.
+     * @return The removed {@link Role}, or {@code null} if it was not cached.
+     */
+    public Role removeRoleFromCache(String roleId) {
+        synchronized (roleLock) {
+            Role removed = roles.remove(Snowflake.parse(roleId));
+            if (removed != null) {
+                unindexRoleName(removed);
+                refreshRoleSnapshot();
+            }
+            synchronized (memberIndexLock) {
+                membersByRole.remove(Snowflake.parse(roleId));
+            }
+            permissionCache.invalidateAll();
+            return removed;
+        }
+    }
+
+    private void indexRoleName(Role role) {
+        rolesByName.compute(nameKey(role.getName()), (key, list) -> with(list, role, ROLE_ORDER));
+    }
+
+    private void unindexRoleName(Role role) {
+        rolesByName.computeIfPresent(nameKey(role.getName()), (key, list) -> without(list, role.getIdLong(), Role::getIdLong));
+    }
+
+    private void refreshRoleSnapshot() {
+        List<Role> snapshot = roles.values();
+        snapshot.sort(ROLE_ORDER);
+        sortedRoles = Collections.unmodifiableList(snapshot);
     }
 
     public void updateChannelCache(JsonNode channelNode) {
+        if (!isCacheEnabled(CacheFlag.CHANNELS)) return;
+
         int typeId = channelNode.has("type") ? channelNode.get("type").asInt() : -1;
         ChannelType type = ChannelType.fromKey(typeId);
 
@@ -308,16 +963,169 @@ public class GuildImpl implements Guild {
         }
 
         if (channel != null) {
-            channelCache.put(channel.getId(), channel);
+            synchronized (channelLock) {
+                GuildChannel previous = channelCache.put(channel.getIdLong(), channel);
+                if (previous != null) {
+                    unindexChannel(previous, Snowflake.parse(previous.getParentId()), previous.getName());
+                    permissionCache.invalidateAll();
+                }
+                indexChannel(channel);
+            }
+        }
+    }
+
+    /**
+     * Applies a {@code CHANNEL_UPDATE} payload to the cached channel in place.
+     * <p>If the channel is not cached, or its type changed, it is built from the payload and stored instead.</p>
+     *
+     * @param channelNode The channel payload.
+     * @return The previous values of the fields that changed, or {@code null} if the channel was not patched
+     *         in place.
+     */
+    public Map<String, Object> applyChannelUpdate(JsonNode channelNode) {
+        GuildChannel cached = channelCache.get(Snowflake.parse(channelNode.get("id")));
+        int typeId = channelNode.has("type") ? channelNode.get("type").asInt() : cached != null ? cached.getType().getKey() : -1;
+        if (cached instanceof AbstractChannel channel && channel.getType().getKey() == typeId) {
+            synchronized (channelLock) {
+                Map<String, Object> oldValues = channel.update(channelNode);
+                if (oldValues.containsKey("name") || oldValues.containsKey("position") || oldValues.containsKey("parent_id")) {
+                    long oldParentId = oldValues.containsKey("parent_id")
+                            ? Snowflake.parse((String) oldValues.get("parent_id"))
+                            : Snowflake.parse(channel.getParentId());
+                    String oldName = oldValues.containsKey("name") ? (String) oldValues.get("name") : channel.getName();
+                    unindexChannel(channel, oldParentId, oldName);
+                    indexChannel(channel);
+                }
+                if (oldValues.containsKey("permission_overwrites")) {
+                    permissionCache.invalidateAll();
+                }
+                return oldValues;
+            }
+        }
+        updateChannelCache(channelNode);
+        return null;
+    }
+
+    /**
+     * Applies a {@code GUILD_UPDATE} payload to this guild in place, so every holder of the guild sees the
+     * new state. Only the fields present in the payload are changed.
+     *
+     * @param delta The guild payload.
+     * @return The previous values of the fields that changed, keyed by their payload name.
+     */
+    public synchronized Map<String, Object> update(JsonNode delta) {
+        Map<String, Object> oldValues = new LinkedHashMap<>();
+        if (delta.has("name") && !delta.get("name").asText().equals(name)) {
+            oldValues.put("name", name);
+            this.name = delta.get("name").asText();
         }
+        if (delta.has("owner_id")) {
+            long newOwnerId = Snowflake.parse(delta.get("owner_id"));
+            if (newOwnerId != ownerId) {
+                oldValues.put("owner_id", getOwnerId());
+                this.ownerId = newOwnerId;
+                permissionCache.invalidateAll();
+            }
+        }
+        return oldValues;
     }
 
     public void removeChannelFromCache(String channelId) {
-        channelCache.remove(channelId);
+        long channelIdLong = Snowflake.parse(channelId);
+        synchronized (channelLock) {
+            GuildChannel removed = channelCache.remove(channelIdLong);
+            if (removed != null) {
+                unindexChannel(removed, Snowflake.parse(removed.getParentId()), removed.getName());
+                permissionCache.invalidateAll();
+            }
+            // The children of a deleted category are moved out of it by their own CHANNEL_UPDATE events
+            channelsByParent.remove(channelIdLong);
+        }
+    }
+
+    /**
+     * Returns the cache of effective member permissions of this guild.
+     *
+     * @return The {@link PermissionCache}.
+     */
+    public PermissionCache getPermissionCache() {
+        return permissionCache;
+    }
+
+    /**
+     * Returns the cached channels in a category.
+     *
+     * @param parentId The ID of the category.
+     * @return An unmodifiable list of the channels, sorted by position.
+     */
+    public List<GuildChannel> getChannelsByParent(long parentId) {
+        List<GuildChannel> channels = channelsByParent.get(parentId);
+        return channels != null ? channels : List.of();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Answered from an index of lower-case names.</p>
+     */
+    @Override
+    public List<GuildChannel> getChannelsByName(String name) {
+        return channelsByName.getOrDefault(nameKey(name), List.of());
+    }
+
+    /** Adds a channel to the parent and name indexes. Must be called while holding {@link #channelLock}. */
+    private void indexChannel(GuildChannel channel) {
+        long parentId = Snowflake.parse(channel.getParentId());
+        if (parentId != Snowflake.NONE) {
+            channelsByParent.put(parentId, with(channelsByParent.get(parentId), channel, CHANNEL_ORDER));
+        }
+        channelsByName.compute(nameKey(channel.getName()), (key, list) -> with(list, channel, CHANNEL_ORDER));
+    }
+
+    /**
+     * Removes a channel from the parent and name indexes, using the parent and name it was indexed under.
+     * Must be called while holding {@link #channelLock}.
+     */
+    private void unindexChannel(GuildChannel channel, long parentId, String name) {
+        if (parentId != Snowflake.NONE) {
+            List<GuildChannel> siblings = without(channelsByParent.get(parentId), channel.getIdLong(), GuildChannel::getIdLong);
+            if (siblings == null) {
+                channelsByParent.remove(parentId);
+            } else {
+                channelsByParent.put(parentId, siblings);
+            }
+        }
+        channelsByName.computeIfPresent(nameKey(name), (key, list) -> without(list, channel.getIdLong(), GuildChannel::getIdLong));
+    }
+
+    // --- INDEX HELPERS ---
+
+    private static String nameKey(String name) {
+        return name != null ? name.toLowerCase(Locale.ROOT) : "";
+    }
+
+    /** Returns a sorted, unmodifiable copy of the list with the element added. */
+    private static <T> List<T> with(List<T> list, T element, Comparator<? super T> order) {
+        List<T> copy = list != null ? new ArrayList<>(list) : new ArrayList<>(1);
+        copy.add(element);
+        copy.sort(order);
+        return Collections.unmodifiableList(copy);
+    }
+
+    /** Returns an unmodifiable copy of the list without the element with the given ID, or {@code null} if it ends up empty. */
+    private static <T> List<T> without(List<T> list, long id, ToLongFunction<? super T> idOf) {
+        if (list == null) return null;
+        List<T> copy = new ArrayList<>(list.size());
+        for (T element : list) {
+            if (idOf.applyAsLong(element) != id) {
+                copy.add(element);
+            }
+        }
+        return copy.isEmpty() ? null : Collections.unmodifiableList(copy);
     }
 
     private RestAction<Void> modifyGuild(String key, Object value) {
-        Route.CompiledRoute route = Route.MODIFY_GUILD.compile(this.id);
+        checkPermission(null, Permission.MANAGE_GUILD);
+        Route.CompiledRoute route = Route.MODIFY_GUILD.compile(getId());
         Map<String, Object> body = new HashMap<>();
         body.put(key, value);
 
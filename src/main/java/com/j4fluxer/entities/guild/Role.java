@@ -2,6 +2,8 @@ package com.j4fluxer.entities.guild;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.j4fluxer.entities.Permission;
+import com.j4fluxer.entities.PermissionSet;
+import com.j4fluxer.internal.utils.Snowflake;
 
 import java.util.EnumSet;
 
@@ -14,7 +16,7 @@ import java.util.EnumSet;
 public class Role {
 
     /** The unique identifier of the role. */
-    private final String id;
+    private final long id;
 
     /** The display name of the role. */
     private final String name;
@@ -34,7 +36,7 @@ public class Role {
      * @param json The {@link JsonNode} containing the role's metadata.
      */
     public Role(JsonNode json) {
-        this.id = json.get("id").asText();
+        this.id = Snowflake.parse(json.get("id"));
         this.name = json.get("name").asText();
         this.permissions = Long.parseLong(json.get("permissions").asText());
         this.position = json.get("position").asInt();
@@ -46,7 +48,14 @@ public class Role {
      *
      * @return The role ID.
      */
-    public String getId() { return id; }
+    public String getId() { return Snowflake.toString(id); }
+
+    /**
+     * Returns the unique ID of this role as an unsigned {@code long}.
+     *
+     * @return The role ID.
+     */
+    public long getIdLong() { return id; }
 
     /**
      * Returns the name of this role.
@@ -103,4 +112,14 @@ public class Role {
     public EnumSet<Permission> getPermissions() {
         return Permission.getPermissions(permissions);
     }
+
+    /**
+     * Returns the permissions granted to this role as an immutable {@link PermissionSet}, which can be
+     * checked and combined without copying.
+     *
+     * @return The permission set.
+     */
+    public PermissionSet getPermissionSet() {
+        return PermissionSet.of(permissions);
+    }
 }
\ No newline at end of file
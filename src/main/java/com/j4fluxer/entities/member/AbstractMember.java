@@ -0,0 +1,203 @@
+package com.j4fluxer.entities.member;
+
+import com.j4fluxer.entities.Permission;
+import com.j4fluxer.entities.channel.GuildChannel;
+import com.j4fluxer.entities.channel.PrivateChannel;
+import com.j4fluxer.entities.guild.Guild;
+import com.j4fluxer.entities.guild.GuildImpl;
+import com.j4fluxer.internal.requests.Requester;
+import com.j4fluxer.internal.requests.RestAction;
+import com.j4fluxer.internal.requests.Route;
+import com.j4fluxer.internal.utils.PermissionUtil;
+import com.j4fluxer.internal.utils.Snowflake;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The shared base of the {@link Member} implementations.
+ * <p>It implements every guild action on top of the member's user ID, so subclasses only have to provide
+ * the member's data. This allows a member to be backed by a regular object as well as by a view over a
+ * compact member store.</p>
+ */
+public abstract class AbstractMember implements Member {
+
+    protected final Guild guild;
+    protected final Requester requester;
+
+    /**
+     * Constructs the shared part of a member.
+     *
+     * @param guild     The {@link Guild} the member belongs to, or {@code null} for a partial member.
+     * @param requester The {@link Requester} instance, or {@code null} for a partial member.
+     */
+    protected AbstractMember(Guild guild, Requester requester) {
+        this.guild = guild;
+        this.requester = requester;
+    }
+
+    /**
+     * Returns the ID of the member's user without resolving the {@link com.j4fluxer.entities.user.User}.
+     *
+     * @return The user ID.
+     */
+    protected abstract String getUserId();
+
+    @Override public Guild getGuild() { return guild; }
+
+    /**
+     * Formats the cached role IDs as strings. Each call builds a new list; prefer {@link #getRoleIdsLong()}.
+     *
+     * @return An unmodifiable list of role IDs.
+     */
+    @Override
+    public List<String> getRoleIds() {
+        long[] roleIds = getRoleIdsLong();
+        String[] ids = new String[roleIds.length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = Snowflake.toString(roleIds[i]);
+        }
+        return List.of(ids);
+    }
+
+    @Override
+    public RestAction<PrivateChannel> openPrivateChannel() {
+        return getUser().openPrivateChannel();
+    }
+
+    // --- HELPER FOR GUILD CHECK ---
+    private void checkContext() {
+        if (guild == null) throw new IllegalStateException("Cannot perform action: Guild context is missing.");
+    }
+
+    private void checkApi() {
+        if (requester == null) throw new IllegalStateException("Cannot perform action: API context (Requester) is missing.");
+    }
+
+    // --- PERMISSIONS ---
+
+    @Override
+    public boolean isOwner() {
+        return guild != null && getUser().getIdLong() == guild.getOwnerIdLong();
+    }
+
+    @Override
+    public long getPermissionsRaw() {
+        checkContext();
+        if (guild instanceof GuildImpl impl) {
+            return impl.getPermissionCache().getPermissions(this);
+        }
+        return PermissionUtil.computeGuildPermissions(guild, this);
+    }
+
+    @Override
+    public long getPermissionsRaw(GuildChannel channel) {
+        checkContext();
+        if (channel.getGuild() != null && channel.getGuild().getIdLong() != guild.getIdLong()) {
+            throw new IllegalArgumentException("Channel " + channel.getId() + " belongs to another guild");
+        }
+        if (guild instanceof GuildImpl impl) {
+            return impl.getPermissionCache().getPermissions(this, channel);
+        }
+        return PermissionUtil.applyOverwrites(PermissionUtil.computeGuildPermissions(guild, this), guild, this, channel);
+    }
+
+    @Override
+    public boolean hasPermission(Permission permission) {
+        return PermissionUtil.has(getPermissionsRaw(), permission);
+    }
+
+    @Override
+    public boolean hasPermission(GuildChannel channel, Permission permission) {
+        return PermissionUtil.has(getPermissionsRaw(channel), permission);
+    }
+
+    @Override
+    public boolean hasPermission(Permission... permissions) {
+        return PermissionUtil.hasAll(getPermissionsRaw(), permissions);
+    }
+
+    @Override
+    public boolean hasPermission(GuildChannel channel, Permission... permissions) {
+        return PermissionUtil.hasAll(getPermissionsRaw(channel), permissions);
+    }
+
+    // --- ROLE MANAGEMENT ---
+
+    @Override
+    public RestAction<Void> addRole(String roleId) {
+        checkContext();
+        return guild.addRoleToMember(getUserId(), roleId);
+    }
+
+    @Override
+    public RestAction<Void> removeRole(String roleId) {
+        checkContext();
+        return guild.removeRoleFromMember(getUserId(), roleId);
+    }
+
+    @Override
+    public RestAction<Void> modifyRoles(List<String> newRoleIds) {
+        checkContext(); checkApi();
+        if (guild instanceof GuildImpl impl) {
+            impl.checkPermission(null, Permission.MANAGE_ROLES);
+            impl.checkCanInteract(getUser().getIdLong());
+        }
+        Route.CompiledRoute route = Route.MODIFY_MEMBER.compile(guild.getId(), getUserId());
+        return new RestAction<Void>(requester, route) {
+            @Override protected Void handleResponse(String json) { return null; }
+        }.setBody(new RoleUpdatePayload(newRoleIds));
+    }
+
+    // --- MODERATION ---
+
+    @Override
+    public RestAction<Void> kick() {
+        checkContext();
+        return guild.kickMember(getUserId());
+    }
+
+    @Override
+    public RestAction<Void> ban(String reason) {
+        checkContext();
+        return guild.banMember(getUserId(), reason);
+    }
+
+    @Override
+    public RestAction<Void> ban(int deleteMessageDays, long durationSeconds, String reason) {
+        checkContext();
+        return guild.banMember(getUserId(), deleteMessageDays, durationSeconds, reason);
+    }
+
+    @Override
+    public RestAction<Void> timeout(long durationSeconds) {
+        checkContext();
+        return guild.timeoutMember(getUserId(), durationSeconds);
+    }
+
+    @Override
+    public RestAction<Void> removeTimeout() {
+        checkContext();
+        return guild.removeTimeout(getUserId());
+    }
+
+    @Override
+    public RestAction<Void> modifyNickname(String nickname) {
+        checkContext(); checkApi();
+        Route.CompiledRoute route = Route.MODIFY_MEMBER.compile(guild.getId(), getUserId());
+
+        Map<String, String> body = new HashMap<>();
+        body.put("nick", nickname);
+
+        return new RestAction<Void>(requester, route) {
+            @Override protected Void handleResponse(String json) { return null; }
+        }.setBody(body);
+    }
+
+    // --- DTOs ---
+    private static class RoleUpdatePayload {
+        public List<String> roles;
+        public RoleUpdatePayload(List<String> roles) { this.roles = roles; }
+    }
+}
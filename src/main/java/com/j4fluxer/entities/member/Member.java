@@ -1,10 +1,14 @@
 package com.j4fluxer.entities.member;
 
+import com.j4fluxer.entities.Permission;
+import com.j4fluxer.entities.PermissionSet;
+import com.j4fluxer.entities.channel.GuildChannel;
 import com.j4fluxer.entities.channel.PrivateChannel;
 import com.j4fluxer.entities.guild.Guild;
 import com.j4fluxer.entities.user.User;
 import com.j4fluxer.internal.requests.RestAction;
 
+import java.util.EnumSet;
 import java.util.List;
 
 /**
@@ -29,6 +33,31 @@ public interface Member {
      */
     List<String> getRoleIds();
 
+    /**
+     * Retrieves the IDs of the roles assigned to this member as snowflakes, as they are kept in the cache.
+     * <p>The array is shared with the cache and must not be modified.</p>
+     *
+     * @return The role IDs.
+     */
+    long[] getRoleIdsLong();
+
+    /**
+     * Retrieves the guild-specific nickname of this member.
+     *
+     * @return The nickname, or {@code null} if the member has none.
+     */
+    String getNickname();
+
+    /**
+     * Retrieves the name shown for this member in the guild: the nickname if set, otherwise the username.
+     *
+     * @return The effective display name.
+     */
+    default String getEffectiveName() {
+        String nickname = getNickname();
+        return nickname != null ? nickname : getUser().getUsername();
+    }
+
     /**
      * Retrieves the {@link Guild} this member belongs to.
      *
@@ -44,6 +73,111 @@ public interface Member {
      */
     RestAction<PrivateChannel> openPrivateChannel();
 
+    // --- PERMISSIONS ---
+
+    /**
+     * Checks whether this member owns the guild.
+     *
+     * @return {@code true} if the member is the guild owner.
+     */
+    boolean isOwner();
+
+    /**
+     * Returns the guild-wide permissions of this member as a raw bitmask: the {@code @everyone} role combined
+     * with all of the member's roles. The owner and administrators have every permission.
+     * <p>Computed from the cached roles and remembered until a role or the member changes, so this is cheap
+     * enough to call for every command.</p>
+     *
+     * @return The permission bitmask.
+     */
+    long getPermissionsRaw();
+
+    /**
+     * Returns the permissions of this member in a channel as a raw bitmask, after applying the channel's
+     * permission overwrites. A member who cannot view the channel has no permissions in it.
+     * <p>Computed from the cached roles and overwrites and remembered until one of them changes.</p>
+     *
+     * @param channel The channel, which must belong to this member's guild.
+     * @return The permission bitmask.
+     */
+    long getPermissionsRaw(GuildChannel channel);
+
+    /**
+     * Returns the guild-wide permissions of this member.
+     *
+     * @return An {@link EnumSet} of the granted permissions.
+     * @see #getPermissionsRaw()
+     */
+    default EnumSet<Permission> getPermissions() {
+        return Permission.getPermissions(getPermissionsRaw());
+    }
+
+    /**
+     * Returns the permissions of this member in a channel.
+     *
+     * @param channel The channel, which must belong to this member's guild.
+     * @return An {@link EnumSet} of the granted permissions.
+     * @see #getPermissionsRaw(GuildChannel)
+     */
+    default EnumSet<Permission> getPermissions(GuildChannel channel) {
+        return Permission.getPermissions(getPermissionsRaw(channel));
+    }
+
+    /**
+     * Returns the guild-wide permissions of this member as an immutable {@link PermissionSet}.
+     *
+     * @return The granted permissions.
+     * @see #getPermissionsRaw()
+     */
+    default PermissionSet getPermissionSet() {
+        return PermissionSet.of(getPermissionsRaw());
+    }
+
+    /**
+     * Returns the permissions of this member in a channel as an immutable {@link PermissionSet}.
+     *
+     * @param channel The channel, which must belong to this member's guild.
+     * @return The granted permissions.
+     * @see #getPermissionsRaw(GuildChannel)
+     */
+    default PermissionSet getPermissionSet(GuildChannel channel) {
+        return PermissionSet.of(getPermissionsRaw(channel));
+    }
+
+    /**
+     * Checks whether this member has a permission guild-wide.
+     *
+     * @param permission The permission to check.
+     * @return {@code true} if the permission is granted.
+     */
+    boolean hasPermission(Permission permission);
+
+    /**
+     * Checks whether this member has a permission in a channel, taking its overwrites into account.
+     *
+     * @param channel    The channel, which must belong to this member's guild.
+     * @param permission The permission to check.
+     * @return {@code true} if the permission is granted.
+     */
+    boolean hasPermission(GuildChannel channel, Permission permission);
+
+    /**
+     * Checks whether this member has all the given permissions guild-wide.
+     *
+     * @param permissions The permissions to check.
+     * @return {@code true} if every permission is granted.
+     */
+    boolean hasPermission(Permission... permissions);
+
+    /**
+     * Checks whether this member has all the given permissions in a channel, taking its overwrites into account.
+     *
+     * @param channel     The channel, which must belong to this member's guild.
+     * @param permissions The permissions to check.
+     * @return {@code true} if every permission is granted.
+     */
+    boolean hasPermission(GuildChannel channel, Permission... permissions);
+
     // --- ROLES ---
 
     /**
@@ -1,28 +1,23 @@
 package com.j4fluxer.entities.member;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.j4fluxer.entities.channel.PrivateChannel;
 import com.j4fluxer.entities.guild.Guild;
 import com.j4fluxer.entities.user.User;
+import com.j4fluxer.entities.user.UserImpl;
 import com.j4fluxer.internal.requests.Requester;
-import com.j4fluxer.internal.requests.RestAction;
-import com.j4fluxer.internal.requests.Route;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import com.j4fluxer.internal.utils.Snowflake;
+
+import java.util.Objects;
 
 /**
  * The concrete implementation of a {@link Member} on the Fluxer platform.
  */
-public class MemberImpl implements Member {
+public class MemberImpl extends AbstractMember {
 
     private final User user;
-    private final List<String> roleIds;
-    private final Guild guild;
-    private final Requester requester;
+    private final String nickname;
+    private final long[] roleIds;
 
     /**
      * Constructs a {@code MemberImpl} with full API access capabilities.
@@ -33,15 +28,16 @@ public class MemberImpl implements Member {
      * @param requester  The {@link Requester} instance.
      */
     public MemberImpl(User user, JsonNode memberJson, Guild guild, Requester requester) {
+        super(guild, requester);
         this.user = user;
-        this.guild = guild;
-        this.requester = requester;
-        this.roleIds = new ArrayList<>();
-
-        if (memberJson.has("roles") && memberJson.get("roles").isArray()) {
-            for (JsonNode roleNode : memberJson.get("roles")) {
-                roleIds.add(roleNode.asText());
-            }
+        this.nickname = memberJson.has("nick") && !memberJson.get("nick").isNull() ? memberJson.get("nick").asText() : null;
+
+        JsonNode roles = memberJson.get("roles");
+        int count = roles != null && roles.isArray() ? roles.size() : 0;
+        // Parsed once, so permission checks can read the roles without parsing or allocating
+        this.roleIds = new long[count];
+        for (int i = 0; i < count; i++) {
+            roleIds[i] = Snowflake.parse(roles.get(i));
         }
     }
 
@@ -55,94 +51,41 @@ public class MemberImpl implements Member {
     }
 
     @Override public User getUser() { return user; }
-    @Override public List<String> getRoleIds() { return Collections.unmodifiableList(roleIds); }
-    @Override public Guild getGuild() { return guild; }
-
-    @Override
-    public RestAction<PrivateChannel> openPrivateChannel() {
-        return user.openPrivateChannel();
-    }
-
-    // --- HELPER FOR GUILD CHECK ---
-    private void checkContext() {
-        if (guild == null) throw new IllegalStateException("Cannot perform action: Guild context is missing.");
-    }
-
-    private void checkApi() {
-        if (requester == null) throw new IllegalStateException("Cannot perform action: API context (Requester) is missing.");
-    }
-
-    // --- ROLE MANAGEMENT ---
-
-    @Override
-    public RestAction<Void> addRole(String roleId) {
-        checkContext();
-        return guild.addRoleToMember(user.getId(), roleId);
-    }
-
-    @Override
-    public RestAction<Void> removeRole(String roleId) {
-        checkContext();
-        return guild.removeRoleFromMember(user.getId(), roleId);
-    }
-
-    @Override
-    public RestAction<Void> modifyRoles(List<String> newRoleIds) {
-        checkContext(); checkApi();
-        Route.CompiledRoute route = Route.MODIFY_MEMBER.compile(guild.getId(), user.getId());
-        return new RestAction<Void>(requester, route) {
-            @Override protected Void handleResponse(String json) { return null; }
-        }.setBody(new RoleUpdatePayload(newRoleIds));
-    }
-
-    // --- MODERATION ---
-
-    @Override
-    public RestAction<Void> kick() {
-        checkContext();
-        return guild.kickMember(user.getId());
-    }
+    @Override public String getNickname() { return nickname; }
+    @Override public long[] getRoleIdsLong() { return roleIds; }
+    @Override protected String getUserId() { return user.getId(); }
 
-    @Override
-    public RestAction<Void> ban(String reason) {
-        checkContext();
-        return guild.banMember(user.getId(), reason);
-    }
-
-    @Override
-    public RestAction<Void> ban(int deleteMessageDays, long durationSeconds, String reason) {
-        checkContext();
-        return guild.banMember(user.getId(), deleteMessageDays, durationSeconds, reason);
-    }
-
-    @Override
-    public RestAction<Void> timeout(long durationSeconds) {
-        checkContext();
-        return guild.timeoutMember(user.getId(), durationSeconds);
-    }
-
-    @Override
-    public RestAction<Void> removeTimeout() {
-        checkContext();
-        return guild.removeTimeout(user.getId());
-    }
-
-    @Override
-    public RestAction<Void> modifyNickname(String nickname) {
-        checkContext(); checkApi();
-        Route.CompiledRoute route = Route.MODIFY_MEMBER.compile(guild.getId(), user.getId());
-
-        Map<String, String> body = new HashMap<>();
-        body.put("nick", nickname);
-
-        return new RestAction<Void>(requester, route) {
-            @Override protected Void handleResponse(String json) { return null; }
-        }.setBody(body);
+    /**
+     * Checks whether this member still reflects the given payload, so a cached instance can be reused
+     * instead of building a new one. Fields missing from a partial payload are not compared.
+     *
+     * @param userJson   The user payload, or {@code null} if the user is not part of the update.
+     * @param memberJson The member payload.
+     * @return {@code true} if none of the fields present in the payloads differ from this member.
+     */
+    public boolean matches(JsonNode userJson, JsonNode memberJson) {
+        if (userJson != null && user instanceof UserImpl && !((UserImpl) user).matches(userJson)) {
+            return false;
+        }
+        if (memberJson.has("nick")) {
+            JsonNode nick = memberJson.get("nick");
+            String newNick = nick.isNull() ? null : nick.asText();
+            if (!Objects.equals(nickname, newNick)) return false;
+        }
+        if (memberJson.has("roles") && memberJson.get("roles").isArray()) {
+            JsonNode roles = memberJson.get("roles");
+            if (roles.size() != roleIds.length) return false;
+            for (JsonNode roleNode : roles) {
+                if (!hasRoleId(Snowflake.parse(roleNode))) return false;
+            }
+        }
+        return true;
     }
 
-    // --- DTOs ---
-    private static class RoleUpdatePayload {
-        public List<String> roles;
-        public RoleUpdatePayload(List<String> roles) { this.roles = roles; }
+    private boolean hasRoleId(long roleId) {
+        for (long candidate : roleIds) {
+            if (candidate == roleId) return true;
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
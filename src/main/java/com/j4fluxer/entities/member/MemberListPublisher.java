@@ -0,0 +1,195 @@
+package com.j4fluxer.entities.member;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.j4fluxer.entities.guild.Guild;
+import com.j4fluxer.internal.json.EntityBuilder;
+import com.j4fluxer.internal.requests.Requester;
+import com.j4fluxer.internal.requests.RestAction;
+import com.j4fluxer.internal.requests.Route;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A cold {@link Flow.Publisher} that lists every member of a guild through the REST API.
+ *
+ * <p>Members are fetched in pages of {@value #PAGE_SIZE}, ordered by user ID. A page is only requested
+ * once the previous one has been fully delivered <b>and</b> the subscriber has signalled demand for more,
+ * so a slow subscriber never causes more than one page to be buffered. Page requests go through the
+ * {@link Requester}, which keeps them inside the member route's rate limit bucket.</p>
+ *
+ * <p>Each call to {@link #subscribe(Flow.Subscriber)} starts a fresh listing from the first member.</p>
+ */
+public class MemberListPublisher implements Flow.Publisher<Member> {
+
+    /** The maximum number of members the Fluxer API returns per page. */
+    public static final int PAGE_SIZE = 1000;
+
+    private final Guild guild;
+    private final Requester requester;
+    private final boolean cacheMembers;
+
+    /**
+     * Constructs a new {@code MemberListPublisher}.
+     *
+     * @param guild        The guild whose members are listed.
+     * @param requester    The requester used to fetch pages.
+     * @param cacheMembers Whether received members should be written into the guild's member cache.
+     */
+    public MemberListPublisher(Guild guild, Requester requester, boolean cacheMembers) {
+        this.guild = guild;
+        this.requester = requester;
+        this.cacheMembers = cacheMembers;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Member> subscriber) {
+        MemberSubscription subscription = new MemberSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * A received page, or the error that occurred while fetching it.
+     */
+    private static final class Page {
+        final List<Member> members;
+        final Throwable error;
+
+        Page(List<Member> members, Throwable error) {
+            this.members = members;
+            this.error = error;
+        }
+    }
+
+    /**
+     * The subscription state for a single subscriber.
+     * <p>All delivery happens inside {@link #drain()}, which is serialized through {@link #wip},
+     * so the subscriber is never called concurrently.</p>
+     */
+    private final class MemberSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super Member> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicReference<Page> arrived = new AtomicReference<>();
+        private final ArrayDeque<Member> buffer = new ArrayDeque<>();
+
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+
+        // Only accessed from within drain()
+        private String after;
+        private boolean fetching;
+        private boolean exhausted;
+
+        MemberSubscription(Flow.Subscriber<? super Member> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested amount must be positive, got " + n);
+            } else {
+                requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) return;
+            int missed = 1;
+            do {
+                if (cancelled) return;
+
+                if (invalidRequest != null) {
+                    cancelled = true;
+                    subscriber.onError(invalidRequest);
+                    return;
+                }
+
+                Page page = arrived.getAndSet(null);
+                if (page != null) {
+                    fetching = false;
+                    if (page.error != null) {
+                        cancelled = true;
+                        subscriber.onError(page.error);
+                        return;
+                    }
+                    buffer.addAll(page.members);
+                    if (!page.members.isEmpty()) after = lastUserId(page.members);
+                    exhausted = page.members.size() < PAGE_SIZE;
+                }
+
+                long demand = requested.get();
+                long emitted = 0;
+                while (emitted != demand && !buffer.isEmpty()) {
+                    if (cancelled) return;
+                    subscriber.onNext(buffer.poll());
+                    emitted++;
+                }
+                if (emitted != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+
+                if (buffer.isEmpty() && !fetching) {
+                    if (exhausted) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+                    if (requested.get() > 0) {
+                        fetching = true;
+                        fetchPage(after);
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void fetchPage(String cursor) {
+            Route.CompiledRoute route = Route.LIST_MEMBERS.compile(guild.getId())
+                    .withQueryParams("limit", String.valueOf(PAGE_SIZE), "after", cursor);
+
+            new RestAction<List<Member>>(requester, route) {
+                @Override
+                protected List<Member> handleResponse(String jsonStr) throws Exception {
+                    JsonNode array = mapper.readTree(jsonStr);
+                    List<Member> members = new ArrayList<>(array.size());
+                    for (JsonNode node : array) {
+                        Member member = new MemberImpl(EntityBuilder.of(requester).createUser(node.get("user")), node, guild, requester);
+                        if (cacheMembers) guild.cacheMember(member);
+                        members.add(member);
+                    }
+                    return members;
+                }
+            }.submit().whenComplete((members, error) -> {
+                arrived.set(error == null
+                        ? new Page(members != null ? members : List.of(), null)
+                        : new Page(null, error));
+                drain();
+            });
+        }
+
+        private String lastUserId(List<Member> members) {
+            long last = 0;
+            for (Member member : members) {
+                long id = member.getUser().getIdLong();
+                if (Long.compareUnsigned(id, last) > 0) {
+                    last = id;
+                }
+            }
+            return Long.toUnsignedString(last);
+        }
+    }
+}
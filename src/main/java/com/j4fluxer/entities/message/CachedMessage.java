@@ -0,0 +1,85 @@
+package com.j4fluxer.entities.message;
+
+import com.j4fluxer.entities.user.User;
+import com.j4fluxer.internal.utils.Snowflake;
+
+/**
+ * A lightweight copy of a recently seen message, kept by the recent message cache.
+ *
+ * <p>It allows update and delete events, which only carry message IDs, to report what the message looked
+ * like before. It holds plain data only and offers no actions; use the IDs to act on the message.</p>
+ *
+ * @see com.j4fluxer.fluxer.FluxerBuilder#setMessageCache(int, long)
+ */
+public final class CachedMessage {
+
+    private final long id;
+    private final long channelId;
+    private final long guildId;
+    private final User author;
+    private final String content;
+
+    /**
+     * Creates a cached copy of a message.
+     *
+     * @param id        The message ID.
+     * @param channelId The ID of the channel the message was sent in.
+     * @param guildId   The ID of the guild, or {@link Snowflake#NONE} for private messages.
+     * @param author    The author of the message.
+     * @param content   The text content of the message.
+     */
+    public CachedMessage(long id, long channelId, long guildId, User author, String content) {
+        this.id = id;
+        this.channelId = channelId;
+        this.guildId = guildId;
+        this.author = author;
+        this.content = content != null ? content : "";
+    }
+
+    /**
+     * Creates a cached copy of a message.
+     *
+     * @param message The message to copy.
+     * @return The cached copy.
+     */
+    public static CachedMessage of(Message message) {
+        return new CachedMessage(Snowflake.parse(message.getId()), Snowflake.parse(message.getChannelId()),
+                Snowflake.parse(message.getGuildId()), message.getAuthor(), message.getContent());
+    }
+
+    /**
+     * Returns a copy of this message with different content, as seen after an edit.
+     *
+     * @param newContent The new text content.
+     * @return The edited copy.
+     */
+    public CachedMessage withContent(String newContent) {
+        return new CachedMessage(id, channelId, guildId, author, newContent);
+    }
+
+    /** @return The message ID. */
+    public String getId() { return Snowflake.toString(id); }
+
+    /** @return The message ID as an unsigned {@code long}. */
+    public long getIdLong() { return id; }
+
+    /** @return The ID of the channel the message was sent in. */
+    public String getChannelId() { return Snowflake.toString(channelId); }
+
+    /** @return The ID of the channel the message was sent in, as an unsigned {@code long}. */
+    public long getChannelIdLong() { return channelId; }
+
+    /** @return The ID of the guild, or {@code null} if the message was sent in a private channel. */
+    public String getGuildId() { return guildId != Snowflake.NONE ? Snowflake.toString(guildId) : null; }
+
+    /** @return The author of the message. */
+    public User getAuthor() { return author; }
+
+    /** @return The text content of the message as it was cached. */
+    public String getContent() { return content; }
+
+    @Override
+    public String toString() {
+        return "CachedMessage(" + getId() + ")";
+    }
+}
@@ -0,0 +1,177 @@
+package com.j4fluxer.entities.message;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A file that is attached to an outgoing message.
+ *
+ * <p>The file content is never buffered into memory. When the request is written, the underlying
+ * source is opened and streamed straight into the HTTP connection. Uploads created from a {@link Path}
+ * or an {@link Opener} are re-opened whenever the request has to be sent again (for example after a
+ * {@code 429 Too Many Requests}); uploads created from a plain {@link InputStream} can only be sent once.</p>
+ *
+ * <pre>{@code
+ * channel.sendMessage("Today's log", FileUpload.fromPath(Path.of("logs/latest.log"))).queue();
+ * }</pre>
+ */
+public class FileUpload {
+
+    /** The content type used when none can be guessed from the file name. */
+    private static final MediaType OCTET_STREAM = MediaType.get("application/octet-stream");
+
+    /**
+     * Opens a fresh {@link InputStream} over the file content each time it is called.
+     */
+    @FunctionalInterface
+    public interface Opener {
+        /**
+         * Opens the file content.
+         *
+         * @return A new stream positioned at the start of the content.
+         * @throws IOException If the content cannot be opened.
+         */
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * Opens the okio {@link Source} that is streamed into the request.
+     */
+    private interface SourceOpener {
+        Source open() throws IOException;
+    }
+
+    private final String name;
+    private final SourceOpener opener;
+    private final long length;
+    private final boolean oneShot;
+    private final AtomicBoolean consumed = new AtomicBoolean();
+
+    private FileUpload(String name, SourceOpener opener, long length, boolean oneShot) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("File name cannot be empty");
+        }
+        this.name = name;
+        this.opener = opener;
+        this.length = length;
+        this.oneShot = oneShot;
+    }
+
+    /**
+     * Creates an upload that streams the given file from disk, using its file name.
+     *
+     * @param path The file to upload.
+     * @return A new {@link FileUpload}.
+     */
+    public static FileUpload fromPath(Path path) {
+        return fromPath(path, path.getFileName().toString());
+    }
+
+    /**
+     * Creates an upload that streams the given file from disk under a custom name.
+     *
+     * @param path The file to upload.
+     * @param name The file name shown in Fluxer.
+     * @return A new {@link FileUpload}.
+     * @throws UncheckedIOException If the file size cannot be read.
+     */
+    public static FileUpload fromPath(Path path, String name) {
+        try {
+            return new FileUpload(name, () -> Okio.source(path), Files.size(path), false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read file " + path, e);
+        }
+    }
+
+    /**
+     * Creates an upload that opens a new stream every time the request is sent.
+     * <p>Use this for content that can be re-read (e.g., a resource or a remote object) so that
+     * retried requests do not need to keep the content in memory.</p>
+     *
+     * @param name   The file name shown in Fluxer.
+     * @param opener Opens a fresh stream over the content.
+     * @return A new {@link FileUpload}.
+     */
+    public static FileUpload fromOpener(String name, Opener opener) {
+        return new FileUpload(name, () -> Okio.source(opener.open()), -1, false);
+    }
+
+    /**
+     * Creates an upload from an already opened stream.
+     * <p>The stream is consumed and closed by the first attempt to send the request, so requests
+     * carrying this upload are not retried after a rate limit.</p>
+     *
+     * @param stream The stream to upload.
+     * @param name   The file name shown in Fluxer.
+     * @return A new {@link FileUpload}.
+     */
+    public static FileUpload fromStream(InputStream stream, String name) {
+        return new FileUpload(name, () -> Okio.source(stream), -1, true);
+    }
+
+    /**
+     * Returns the file name shown in Fluxer.
+     *
+     * @return The file name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks whether this upload can only be written a single time.
+     *
+     * @return {@code true} if the upload wraps a plain {@link InputStream}.
+     */
+    public boolean isOneShot() {
+        return oneShot;
+    }
+
+    /**
+     * Creates a {@link RequestBody} that streams this file when written.
+     *
+     * @return A streaming request body.
+     */
+    public RequestBody asRequestBody() {
+        String guessed = URLConnection.guessContentTypeFromName(name);
+        MediaType contentType = guessed != null ? MediaType.parse(guessed) : OCTET_STREAM;
+
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return contentType;
+            }
+
+            @Override
+            public long contentLength() {
+                return length;
+            }
+
+            @Override
+            public boolean isOneShot() {
+                return oneShot;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                if (oneShot && !consumed.compareAndSet(false, true)) {
+                    throw new IOException("The stream of " + name + " has already been consumed");
+                }
+                try (Source source = opener.open()) {
+                    sink.writeAll(source);
+                }
+            }
+        };
+    }
+}
@@ -7,6 +7,7 @@ import com.j4fluxer.entities.guild.Role;
 import com.j4fluxer.entities.member.Member;
 import com.j4fluxer.entities.user.User;
 import com.j4fluxer.internal.requests.RestAction;
+import com.j4fluxer.internal.utils.Snowflake;
 
 import java.util.List;
 
@@ -204,8 +205,7 @@ public interface Message {
      * @return The raw ID.
      */
     static String parseId(String mention) {
-        if (mention == null) return null;
-        return mention.replaceAll("[^0-9]", "");
+        return Snowflake.clean(mention);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,190 @@
+package com.j4fluxer.entities.message;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A rich embed that can be attached to an outgoing message.
+ *
+ * <p>Embeds are built fluently and serialized into the {@code embeds} array of the message payload.</p>
+ *
+ * <pre>{@code
+ * MessageEmbed embed = new MessageEmbed()
+ *         .setTitle("Member banned")
+ *         .setDescription("User 1234 was banned by 5678")
+ *         .setColor(0xE74C3C)
+ *         .setTimestamp(Instant.now());
+ * }</pre>
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class MessageEmbed {
+
+    /** The maximum number of embeds a single message can carry. */
+    public static final int MAX_EMBEDS_PER_MESSAGE = 10;
+
+    /** The maximum number of fields a single embed can carry. */
+    public static final int MAX_FIELDS = 25;
+
+    private String title;
+    private String description;
+    private String url;
+    private Integer color;
+    private String timestamp;
+    private Footer footer;
+    private Author author;
+    private final List<Field> fields = new ArrayList<>();
+
+    /**
+     * Sets the title of the embed.
+     *
+     * @param title The title text.
+     * @return This embed for chaining.
+     */
+    public MessageEmbed setTitle(String title) {
+        this.title = title;
+        return this;
+    }
+
+    /**
+     * Sets the main text of the embed.
+     *
+     * @param description The description text.
+     * @return This embed for chaining.
+     */
+    public MessageEmbed setDescription(String description) {
+        this.description = description;
+        return this;
+    }
+
+    /**
+     * Sets the URL the title links to.
+     *
+     * @param url The link target.
+     * @return This embed for chaining.
+     */
+    public MessageEmbed setUrl(String url) {
+        this.url = url;
+        return this;
+    }
+
+    /**
+     * Sets the color of the embed's side bar.
+     *
+     * @param rgb The color as a {@code 0xRRGGBB} value.
+     * @return This embed for chaining.
+     */
+    public MessageEmbed setColor(int rgb) {
+        this.color = rgb & 0xFFFFFF;
+        return this;
+    }
+
+    /**
+     * Sets the timestamp shown in the footer of the embed.
+     *
+     * @param timestamp The time to show, or {@code null} to remove it.
+     * @return This embed for chaining.
+     */
+    public MessageEmbed setTimestamp(TemporalAccessor timestamp) {
+        this.timestamp = timestamp != null ? Instant.from(timestamp).toString() : null;
+        return this;
+    }
+
+    /**
+     * Sets the footer text of the embed.
+     *
+     * @param text The footer text.
+     * @return This embed for chaining.
+     */
+    public MessageEmbed setFooter(String text) {
+        this.footer = text != null ? new Footer(text) : null;
+        return this;
+    }
+
+    /**
+     * Sets the author line of the embed.
+     *
+     * @param name The author name.
+     * @return This embed for chaining.
+     */
+    public MessageEmbed setAuthor(String name) {
+        this.author = name != null ? new Author(name) : null;
+        return this;
+    }
+
+    /**
+     * Adds a field to the embed.
+     *
+     * @param name   The field title.
+     * @param value  The field content.
+     * @param inline Whether the field may be displayed next to other inline fields.
+     * @return This embed for chaining.
+     * @throws IllegalStateException If the embed already has {@value #MAX_FIELDS} fields.
+     */
+    public MessageEmbed addField(String name, String value, boolean inline) {
+        if (fields.size() >= MAX_FIELDS) {
+            throw new IllegalStateException("An embed cannot have more than " + MAX_FIELDS + " fields");
+        }
+        fields.add(new Field(name, value, inline));
+        return this;
+    }
+
+    @JsonProperty("title")
+    public String getTitle() { return title; }
+
+    @JsonProperty("description")
+    public String getDescription() { return description; }
+
+    @JsonProperty("url")
+    public String getUrl() { return url; }
+
+    @JsonProperty("color")
+    public Integer getColor() { return color; }
+
+    @JsonProperty("timestamp")
+    public String getTimestamp() { return timestamp; }
+
+    @JsonProperty("footer")
+    public Footer getFooter() { return footer; }
+
+    @JsonProperty("author")
+    public Author getAuthor() { return author; }
+
+    @JsonProperty("fields")
+    public List<Field> getFields() { return fields; }
+
+    /**
+     * The footer of an embed.
+     */
+    public static class Footer {
+        public final String text;
+        Footer(String text) { this.text = text; }
+    }
+
+    /**
+     * The author line of an embed.
+     */
+    public static class Author {
+        public final String name;
+        Author(String name) { this.name = name; }
+    }
+
+    /**
+     * A single name/value field of an embed.
+     */
+    public static class Field {
+        public final String name;
+        public final String value;
+        public final boolean inline;
+
+        Field(String name, String value, boolean inline) {
+            this.name = name;
+            this.value = value;
+            this.inline = inline;
+        }
+    }
+}
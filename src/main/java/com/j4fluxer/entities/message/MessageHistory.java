@@ -0,0 +1,202 @@
+package com.j4fluxer.entities.message;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.j4fluxer.internal.requests.Requester;
+import com.j4fluxer.internal.requests.RestAction;
+import com.j4fluxer.internal.requests.Route;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A lazy, paginated view over the message history of a channel.
+ *
+ * <p>Messages are fetched from the Fluxer API one page at a time. While the current page is
+ * being consumed, the next page is already requested in the background, so iteration rarely
+ * waits on the network. At most two pages are held at any time, which keeps memory usage
+ * constant no matter how many messages are walked.</p>
+ *
+ * <p>Fetching stops as soon as the consumer stops: no page beyond the one already prefetched
+ * is ever requested, and {@link #close()} cancels that pending prefetch.</p>
+ *
+ * <pre>{@code
+ * try (Stream<Message> history = channel.getHistory().stream()) {
+ *     history.filter(m -> m.getAuthor().isBot())
+ *            .limit(500)
+ *            .forEach(m -> m.delete().queue());
+ * }
+ * }</pre>
+ */
+public class MessageHistory implements Iterator<Message>, AutoCloseable {
+
+    /** The maximum number of messages the Fluxer API returns per page. */
+    public static final int PAGE_SIZE = 100;
+
+    /**
+     * The direction in which the history is paged, relative to the anchor message.
+     */
+    public enum Direction {
+        /** Pages backwards in time, starting before the anchor (or from the newest message). */
+        BEFORE,
+
+        /** Pages forwards in time, starting after the anchor. */
+        AFTER,
+
+        /** Returns a single page of messages surrounding the anchor. */
+        AROUND
+    }
+
+    private final Requester requester;
+    private final String channelId;
+    private final Direction direction;
+
+    /** The cursor used for the next page request; {@code null} starts at the newest message. */
+    private String cursor;
+
+    /** The page currently being consumed. */
+    private Iterator<Message> page = Collections.emptyIterator();
+
+    /** The page being fetched in the background, or {@code null} if the history is exhausted. */
+    private CompletableFuture<List<Message>> next;
+
+    private boolean started;
+    private boolean closed;
+
+    /**
+     * Constructs a new {@code MessageHistory}.
+     *
+     * @param channelId The ID of the channel to page through.
+     * @param requester The requester used to fetch pages.
+     * @param direction The paging {@link Direction}.
+     * @param anchorId  The message ID to start from, or {@code null} to start at the newest message
+     *                  (only valid for {@link Direction#BEFORE}).
+     */
+    public MessageHistory(String channelId, Requester requester, Direction direction, String anchorId) {
+        if (anchorId == null && direction != Direction.BEFORE) {
+            throw new IllegalArgumentException("An anchor message is required for " + direction + " pagination");
+        }
+        this.channelId = channelId;
+        this.requester = requester;
+        this.direction = direction;
+        this.cursor = Message.parseId(anchorId);
+    }
+
+    /**
+     * Checks whether another message is available, waiting for the next page if necessary.
+     *
+     * @return {@code true} if {@link #next()} will return a message.
+     */
+    @Override
+    public boolean hasNext() {
+        if (closed) return false;
+        if (!started) {
+            started = true;
+            next = fetchPage();
+        }
+        while (!page.hasNext()) {
+            if (next == null) return false;
+            List<Message> messages = next.join();
+            next = null;
+            advance(messages != null ? messages : Collections.emptyList());
+        }
+        return true;
+    }
+
+    /**
+     * Returns the next message in the history.
+     *
+     * @return The next {@link Message}.
+     * @throws NoSuchElementException If the history is exhausted or closed.
+     */
+    @Override
+    public Message next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return page.next();
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the remaining messages.
+     * <p>Closing the stream closes this history and cancels any pending prefetch.</p>
+     *
+     * @return A lazy stream of messages.
+     */
+    public Stream<Message> stream() {
+        Spliterator<Message> spliterator = Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * Stops the pagination and cancels the pending background fetch, if any.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        page = Collections.emptyIterator();
+        if (next != null) {
+            next.cancel(false);
+            next = null;
+        }
+    }
+
+    /**
+     * Hands out a freshly received page and starts prefetching the one after it.
+     *
+     * @param messages The messages of the received page.
+     */
+    private void advance(List<Message> messages) {
+        page = messages.iterator();
+        if (messages.size() < PAGE_SIZE || direction == Direction.AROUND) {
+            return;
+        }
+        cursor = edgeId(messages);
+        next = fetchPage();
+    }
+
+    /**
+     * Finds the cursor for the following page: the oldest message when paging backwards,
+     * the newest message when paging forwards.
+     */
+    private String edgeId(List<Message> messages) {
+        String edge = null;
+        long edgeValue = 0;
+        for (Message message : messages) {
+            long value = Long.parseUnsignedLong(message.getId());
+            boolean better = direction == Direction.BEFORE
+                    ? Long.compareUnsigned(value, edgeValue) < 0
+                    : Long.compareUnsigned(value, edgeValue) > 0;
+            if (edge == null || better) {
+                edge = message.getId();
+                edgeValue = value;
+            }
+        }
+        return edge;
+    }
+
+    private CompletableFuture<List<Message>> fetchPage() {
+        Route.CompiledRoute route = Route.GET_MESSAGES.compile(channelId).withQueryParams(
+                "limit", String.valueOf(PAGE_SIZE),
+                direction.name().toLowerCase(Locale.ROOT), cursor);
+
+        return new RestAction<List<Message>>(requester, route) {
+            @Override
+            protected List<Message> handleResponse(String jsonStr) throws Exception {
+                JsonNode array = mapper.readTree(jsonStr);
+                List<Message> messages = new ArrayList<>(array.size());
+                for (JsonNode node : array) {
+                    messages.add(new MessageImpl(node, requester));
+                }
+                return messages;
+            }
+        }.submit();
+    }
+}
@@ -10,10 +10,11 @@ import com.j4fluxer.entities.guild.Role;
 import com.j4fluxer.entities.member.Member;
 import com.j4fluxer.entities.member.MemberImpl;
 import com.j4fluxer.entities.user.User;
-import com.j4fluxer.entities.user.UserImpl;
+import com.j4fluxer.internal.json.EntityBuilder;
 import com.j4fluxer.internal.requests.Requester;
 import com.j4fluxer.internal.requests.RestAction;
 import com.j4fluxer.internal.requests.Route;
+import com.j4fluxer.internal.utils.Snowflake;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -22,7 +23,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 public class MessageImpl implements Message {
     private final Requester requester;
@@ -39,6 +39,16 @@ public class MessageImpl implements Message {
     private final Message referencedMessage;
 
     private static final Pattern CHANNEL_MENTION_PATTERN = Pattern.compile("<#(\\d+)>");
+    private static final long[] NO_IDS = new long[0];
+
+    /** The IDs of the channels mentioned in the content, parsed on first use. */
+    private volatile long[] mentionedChannelIds;
+
+    // Resolved mention lists, kept once every mentioned entity was found in the cache
+    private volatile List<Role> mentionedRoles;
+    private volatile List<GuildChannel> mentionedChannels;
+    private volatile List<TextChannel> mentionedTextChannels;
+    private volatile List<VoiceChannel> mentionedVoiceChannels;
 
     public MessageImpl(JsonNode json, Requester requester) {
         this.requester = requester;
@@ -50,39 +60,46 @@ public class MessageImpl implements Message {
                 ? json.get("guild_id").asText() : null;
 
         if (json.has("author") && json.get("author").isObject()) {
-            this.author = new UserImpl(json.get("author"), requester);
+            this.author = EntityBuilder.of(requester).createUser(json.get("author"));
         } else {
             this.author = null;
         }
 
         Guild guildContext = null;
         if (this.guildId != null) {
-            guildContext = requester.getApi().getGuildById(this.guildId);
+            // Webhook requesters are not bound to a Fluxer instance, so there is no guild cache to consult
+            // Never blocks: a guild that is not cached is fetched in the background and replaced by a minimal one here
+            guildContext = requester.getApi() != null ? requester.getApi().resolveGuild(this.guildId) : null;
             if (guildContext == null) {
                 // Cache'de yoksa, işlem yapabilmek için (kick/ban vb.) sadece ID içeren minimal bir Guild oluşturuyoruz.
-                guildContext = new GuildImpl(this.guildId, requester);
+                guildContext = EntityBuilder.of(requester).getPlaceholderGuild(this.guildId);
             }
         }
 
-        if (this.author != null && json.has("member")) {
+        if (this.author != null && json.has("member") && guildContext instanceof GuildImpl) {
+            // Reuses the cached member if nothing changed since it was stored
+            this.member = ((GuildImpl) guildContext).resolveMember(json.get("author"), json.get("member"));
+        } else if (this.author != null && json.has("member")) {
             this.member = new MemberImpl(this.author, json.get("member"), guildContext, requester);
         } else {
             this.member = null;
         }
 
-        this.mentions = new ArrayList<>();
+        List<User> mentions = new ArrayList<>();
         if (json.has("mentions") && json.get("mentions").isArray()) {
             for (JsonNode mentionNode : json.get("mentions")) {
-                this.mentions.add(new UserImpl(mentionNode, requester));
+                mentions.add(EntityBuilder.of(requester).createUser(mentionNode));
             }
         }
+        this.mentions = Collections.unmodifiableList(mentions);
 
-        this.mentionedRoleIds = new ArrayList<>();
+        List<String> mentionedRoleIds = new ArrayList<>();
         if (json.has("mention_roles") && json.get("mention_roles").isArray()) {
             for (JsonNode roleIdNode : json.get("mention_roles")) {
-                this.mentionedRoleIds.add(roleIdNode.asText());
+                mentionedRoleIds.add(roleIdNode.asText());
             }
         }
+        this.mentionedRoleIds = Collections.unmodifiableList(mentionedRoleIds);
 
         if (json.has("referenced_message") && !json.get("referenced_message").isNull()) {
             this.referencedMessage = new MessageImpl(json.get("referenced_message"), requester);
@@ -102,46 +119,57 @@ public class MessageImpl implements Message {
 
     @Override
     public List<User> getMentions() {
-        return Collections.unmodifiableList(mentions);
+        return mentions;
     }
 
     @Override
     public List<Role> getMentionedRoles() {
+        List<Role> cached = mentionedRoles;
+        if (cached != null) return cached;
+        if (mentionedRoleIds.isEmpty()) return mentionedRoles = Collections.emptyList();
         Guild guild = getGuild();
-        if (guild == null || mentionedRoleIds.isEmpty()) return Collections.emptyList();
+        if (guild == null) return Collections.emptyList();
 
-        List<Role> roles = new ArrayList<>();
+        List<Role> roles = new ArrayList<>(mentionedRoleIds.size());
         for (String rId : mentionedRoleIds) {
             Role role = guild.getRoleById(rId);
             if (role != null) roles.add(role);
         }
-        return Collections.unmodifiableList(roles);
+        List<Role> result = Collections.unmodifiableList(roles);
+        // A role missing from the cache may still arrive, so only a complete result is kept
+        if (roles.size() == mentionedRoleIds.size()) mentionedRoles = result;
+        return result;
     }
 
     @Override
     public List<GuildChannel> getMentionedChannels() {
+        List<GuildChannel> cached = mentionedChannels;
+        if (cached != null) return cached;
+        long[] ids = getMentionedChannelIds();
+        if (ids.length == 0) return mentionedChannels = Collections.emptyList();
         Guild guild = getGuild();
         if (guild == null) return Collections.emptyList();
 
-        List<GuildChannel> channels = new ArrayList<>();
-        Matcher matcher = CHANNEL_MENTION_PATTERN.matcher(this.content);
-
-        while (matcher.find()) {
-            String cId = matcher.group(1);
+        List<GuildChannel> channels = new ArrayList<>(ids.length);
+        for (long cId : ids) {
             GuildChannel channel = guild.getGuildChannelById(cId);
             if (channel != null) {
                 channels.add(channel);
             }
         }
-        return Collections.unmodifiableList(channels);
+        List<GuildChannel> result = Collections.unmodifiableList(channels);
+        if (channels.size() == ids.length) mentionedChannels = result;
+        return result;
     }
 
     @Override
     public List<TextChannel> getMentionedTextChannels() {
-        return getMentionedChannels().stream()
-                .filter(c -> c instanceof TextChannel)
-                .map(c -> (TextChannel) c)
-                .collect(Collectors.toList());
+        List<TextChannel> cached = mentionedTextChannels;
+        if (cached != null) return cached;
+        List<GuildChannel> channels = getMentionedChannels();
+        List<TextChannel> result = filterChannels(channels, TextChannel.class);
+        if (channels == mentionedChannels) mentionedTextChannels = result;
+        return result;
     }
 
     @Override
@@ -167,10 +195,45 @@ public class MessageImpl implements Message {
 
     @Override
     public List<VoiceChannel> getMentionedVoiceChannels() {
-        return getMentionedChannels().stream()
-                .filter(c -> c instanceof VoiceChannel)
-                .map(c -> (VoiceChannel) c)
-                .collect(Collectors.toList());
+        List<VoiceChannel> cached = mentionedVoiceChannels;
+        if (cached != null) return cached;
+        List<GuildChannel> channels = getMentionedChannels();
+        List<VoiceChannel> result = filterChannels(channels, VoiceChannel.class);
+        if (channels == mentionedChannels) mentionedVoiceChannels = result;
+        return result;
+    }
+
+    /**
+     * Parses the channel mentions out of the content once. The content never changes, so the IDs can be kept
+     * for the lifetime of the message; content without {@code <#} skips the regex altogether.
+     */
+    private long[] getMentionedChannelIds() {
+        long[] ids = mentionedChannelIds;
+        if (ids != null) return ids;
+        if (!content.contains("<#")) return mentionedChannelIds = NO_IDS;
+
+        List<Long> parsed = new ArrayList<>();
+        Matcher matcher = CHANNEL_MENTION_PATTERN.matcher(this.content);
+        while (matcher.find()) {
+            long cId = Snowflake.parse(matcher.group(1));
+            if (cId != Snowflake.NONE) parsed.add(cId);
+        }
+        ids = new long[parsed.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = parsed.get(i);
+        }
+        return mentionedChannelIds = ids;
+    }
+
+    private static <T> List<T> filterChannels(List<GuildChannel> channels, Class<T> type) {
+        List<T> result = null;
+        for (GuildChannel channel : channels) {
+            if (type.isInstance(channel)) {
+                if (result == null) result = new ArrayList<>(channels.size());
+                result.add(type.cast(channel));
+            }
+        }
+        return result != null ? Collections.unmodifiableList(result) : Collections.emptyList();
     }
 
     @Override
@@ -254,8 +317,8 @@ public class MessageImpl implements Message {
     }
 
     private Guild getGuild() {
-        if (this.guildId == null) return null;
-        return requester.getApi().getGuildById(this.guildId);
+        if (this.guildId == null || requester.getApi() == null) return null;
+        return requester.getApi().resolveGuild(this.guildId);
     }
 
     // --- PAYLOAD ---
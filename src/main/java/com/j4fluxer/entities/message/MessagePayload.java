@@ -0,0 +1,54 @@
+package com.j4fluxer.entities.message;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Internal DTO for the body of a message sent to a guild or private channel.
+ *
+ * <p>When files are attached, each one is described by an {@link AttachmentPayload} whose {@code id} is its
+ * index among the uploaded files.</p>
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MessagePayload {
+    public String content;
+    public List<AttachmentPayload> attachments;
+
+    /**
+     * Creates the body of a plain text message.
+     *
+     * @param content The text content of the message.
+     */
+    public MessagePayload(String content) {
+        this.content = content;
+    }
+
+    /**
+     * Creates the body of a message with attached files.
+     *
+     * @param content The text content of the message.
+     * @param files   The files, in the order they are uploaded.
+     */
+    public MessagePayload(String content, FileUpload[] files) {
+        this.content = content;
+        this.attachments = new ArrayList<>(files.length);
+        for (int i = 0; i < files.length; i++) {
+            attachments.add(new AttachmentPayload(i, files[i].getName()));
+        }
+    }
+
+    /**
+     * Internal DTO describing one attached file.
+     */
+    public static class AttachmentPayload {
+        public int id;
+        public String filename;
+
+        public AttachmentPayload(int id, String filename) {
+            this.id = id;
+            this.filename = filename;
+        }
+    }
+}
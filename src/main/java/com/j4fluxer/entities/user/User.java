@@ -18,6 +18,13 @@ public interface User {
      */
     String getId();
 
+    /**
+     * Retrieves the unique ID of the user as an unsigned {@code long}.
+     *
+     * @return The unique ID of the user.
+     */
+    long getIdLong();
+
     /**
      * Retrieves the username of the user.
      *
@@ -7,17 +7,20 @@ import com.j4fluxer.internal.constants.Constants;
 import com.j4fluxer.internal.requests.Requester;
 import com.j4fluxer.internal.requests.RestAction;
 import com.j4fluxer.internal.requests.Route;
+import com.j4fluxer.internal.utils.Snowflake;
+
+import java.util.Objects;
 
 /**
  * The concrete implementation of a {@link User} on the Fluxer platform.
  */
 public class UserImpl implements User {
 
-    private final String id;
-    private final String username;
-    private final String discriminator;
-    private final boolean isBot;
-    private final String avatarHash;
+    private final long id;
+    private volatile String username;
+    private volatile String discriminator;
+    private volatile boolean isBot;
+    private volatile String avatarHash;
 
     // Optional: Only available if created with a Requester
     private final Requester requester;
@@ -39,7 +42,7 @@ public class UserImpl implements User {
      * @param requester The API requester instance.
      */
     public UserImpl(JsonNode json, Requester requester) {
-        this.id = json.get("id").asText();
+        this.id = Snowflake.parse(json.get("id"));
         this.username = json.get("username").asText();
         this.discriminator = json.has("discriminator") ? json.get("discriminator").asText() : "0000";
         this.avatarHash = json.has("avatar") && !json.get("avatar").isNull() ? json.get("avatar").asText() : null;
@@ -47,7 +50,27 @@ public class UserImpl implements User {
         this.requester = requester;
     }
 
-    @Override public String getId() { return id; }
+    /**
+     * Creates a User object from already parsed fields, e.g. when it is rebuilt from a compact member store.
+     *
+     * @param id            The user ID.
+     * @param username      The username.
+     * @param discriminator The discriminator.
+     * @param avatarHash    The avatar hash, or {@code null} if the user has no avatar.
+     * @param isBot         Whether the user is a bot.
+     * @param requester     The API requester instance.
+     */
+    public UserImpl(long id, String username, String discriminator, String avatarHash, boolean isBot, Requester requester) {
+        this.id = id;
+        this.username = username;
+        this.discriminator = discriminator;
+        this.avatarHash = avatarHash;
+        this.isBot = isBot;
+        this.requester = requester;
+    }
+
+    @Override public String getId() { return Snowflake.toString(id); }
+    @Override public long getIdLong() { return id; }
     @Override public String getUsername() { return username; }
     @Override public String getDiscriminator() { return discriminator; }
     @Override public boolean isBot() { return isBot; }
@@ -57,7 +80,7 @@ public class UserImpl implements User {
     public String getAvatarUrl() {
         if (avatarHash == null) return null;
         // Format: https://fluxerusercontent.com/avatars/USER_ID/HASH.png
-        return Constants.CDN_URL + "/avatars/" + id + "/" + avatarHash + ".png";
+        return Constants.CDN_URL + "/avatars/" + getId() + "/" + avatarHash + ".png";
     }
 
     @Override
@@ -67,7 +90,7 @@ public class UserImpl implements User {
         }
 
         Route.CompiledRoute route = Route.CREATE_DM.compile();
-        RecipientPayload payload = new RecipientPayload(this.id);
+        RecipientPayload payload = new RecipientPayload(getId());
 
         return new RestAction<PrivateChannel>(requester, route) {
             @Override
@@ -78,9 +101,39 @@ public class UserImpl implements User {
         }.setBody(payload);
     }
 
+    /**
+     * Refreshes this user from a newer payload. Fields missing from the payload are left unchanged.
+     * <p>Users are shared canonical instances, so an update is visible to every holder of this user.</p>
+     *
+     * @param json The user payload.
+     */
+    public void update(JsonNode json) {
+        if (json.has("username")) this.username = json.get("username").asText();
+        if (json.has("discriminator")) this.discriminator = json.get("discriminator").asText();
+        if (json.has("bot")) this.isBot = json.get("bot").asBoolean();
+        if (json.has("avatar")) this.avatarHash = json.get("avatar").isNull() ? null : json.get("avatar").asText();
+    }
+
+    /**
+     * Checks whether this user still reflects the given payload. Fields missing from the payload are not compared.
+     *
+     * @param json The user payload.
+     * @return {@code true} if none of the fields present in the payload differ from this user.
+     */
+    public boolean matches(JsonNode json) {
+        if (json.has("username") && !json.get("username").asText().equals(username)) return false;
+        if (json.has("discriminator") && !json.get("discriminator").asText().equals(discriminator)) return false;
+        if (json.has("bot") && json.get("bot").asBoolean() != isBot) return false;
+        if (json.has("avatar")) {
+            String avatar = json.get("avatar").isNull() ? null : json.get("avatar").asText();
+            if (!Objects.equals(avatar, avatarHash)) return false;
+        }
+        return true;
+    }
+
     @Override
     public String toString() {
-        return "User:" + username + "#" + discriminator + "(" + id + ")";
+        return "User:" + username + "#" + discriminator + "(" + getId() + ")";
     }
 
     // --- Internal Payload DTO ---
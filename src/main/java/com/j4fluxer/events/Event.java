@@ -2,6 +2,9 @@ package com.j4fluxer.events;
 
 import com.j4fluxer.entities.guild.Guild;
 import com.j4fluxer.fluxer.Fluxer;
+import com.j4fluxer.fluxer.FluxerImpl;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The abstract base class for all events in the J4Fluxer library.
@@ -53,11 +56,40 @@ public abstract class Event {
      * <p>
      * If the event happened in a Direct Message (DM) or is a global event (like ReadyEvent),
      * this method will return {@code null}.
+     * <p>
+     * This never waits for the API. If the guild is not cached, it is fetched in the background and a minimal,
+     * ID-only guild is returned, which still allows actions such as kicks or bans. Use {@link #retrieveGuild()}
+     * to get the complete guild.
      *
      * @return The {@link Guild} instance, or {@code null} if not applicable.
      */
     public Guild getGuild() {
+        return resolveGuild(guildId);
+    }
+
+    /**
+     * Retrieves the complete {@link Guild} where this event occurred without blocking.
+     * <p>
+     * The future completes immediately if the guild is cached; otherwise it completes once the guild has been
+     * fetched from the API.
+     *
+     * @return A {@link CompletableFuture} providing the {@link Guild}, or {@code null} if not applicable.
+     */
+    public CompletableFuture<Guild> retrieveGuild() {
+        Guild guild = getGuild();
+        if (guild == null) return CompletableFuture.completedFuture(null);
+        return api.retrieveGuildById(guild.getIdLong());
+    }
+
+    /**
+     * Looks up a guild without blocking the event thread.
+     *
+     * @param guildId The ID of the guild, may be {@code null}.
+     * @return The cached guild, a minimal ID-only guild if it is not cached, or {@code null} if the ID is {@code null}.
+     */
+    protected Guild resolveGuild(String guildId) {
         if (guildId == null) return null;
+        if (api instanceof FluxerImpl impl) return impl.resolveGuild(guildId);
         return api.getGuildById(guildId);
     }
 
@@ -0,0 +1,79 @@
+package com.j4fluxer.events.channel;
+
+import com.j4fluxer.entities.PermissionOverwrite;
+import com.j4fluxer.entities.channel.GuildChannel;
+import com.j4fluxer.entities.guild.Guild;
+import com.j4fluxer.events.Event;
+import com.j4fluxer.fluxer.Fluxer;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fired when a channel of a guild is updated.
+ * <p>A cached channel is updated in place, so {@link #getChannel()} is the same instance that was handed out
+ * before and already reflects the new state. The previous values of the changed fields are available through
+ * the {@code getOld...} methods. They are only known if the channel was cached before the update.</p>
+ */
+public class ChannelUpdateEvent extends Event {
+    private final GuildChannel channel;
+    private final Map<String, Object> oldValues;
+
+    public ChannelUpdateEvent(Fluxer api, GuildChannel channel, Map<String, Object> oldValues) {
+        super(api);
+        this.channel = channel;
+        this.oldValues = oldValues != null ? oldValues : Map.of();
+    }
+
+    /** @return The updated channel. */
+    public GuildChannel getChannel() { return channel; }
+
+    /** @return The guild the channel belongs to. */
+    public Guild getGuild() { return channel.getGuild(); }
+
+    /** @return The payload names of the fields that changed, e.g. {@code name} or {@code position}. */
+    public Set<String> getChangedFields() { return Collections.unmodifiableSet(oldValues.keySet()); }
+
+    /**
+     * Checks whether a field was changed by this update.
+     *
+     * @param field The payload name of the field, e.g. {@code topic}.
+     * @return {@code true} if the field changed.
+     */
+    public boolean isChanged(String field) { return oldValues.containsKey(field); }
+
+    /** @return The name before the update, or the current name if it did not change. */
+    public String getOldName() {
+        return oldValues.containsKey("name") ? (String) oldValues.get("name") : channel.getName();
+    }
+
+    /** @return The position before the update, or the current position if it did not change. */
+    public int getOldPosition() {
+        return oldValues.containsKey("position") ? (Integer) oldValues.get("position") : channel.getPosition();
+    }
+
+    /** @return The parent category ID before the update, or the current one if it did not change. */
+    public String getOldParentId() {
+        return oldValues.containsKey("parent_id") ? (String) oldValues.get("parent_id") : channel.getParentId();
+    }
+
+    /** @return The permission overwrites before the update, or the current ones if they did not change. */
+    @SuppressWarnings("unchecked")
+    public List<PermissionOverwrite> getOldPermissionOverwrites() {
+        return oldValues.containsKey("permission_overwrites")
+                ? (List<PermissionOverwrite>) oldValues.get("permission_overwrites") : channel.getPermissionOverwrites();
+    }
+
+    /**
+     * Returns the value a field had before the update, e.g. a {@code String} for {@code topic} or an
+     * {@code Integer} for {@code user_limit}.
+     *
+     * @param field The payload name of the field.
+     * @return The old value, or {@code null} if the field did not change or had no value.
+     */
+    public Object getOldValue(String field) {
+        return oldValues.get(field);
+    }
+}
@@ -1,11 +1,8 @@
 package com.j4fluxer.events.guild;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.j4fluxer.entities.guild.Guild;
-import com.j4fluxer.entities.guild.GuildImpl;
 import com.j4fluxer.events.Event;
 import com.j4fluxer.fluxer.Fluxer;
-import com.j4fluxer.fluxer.FluxerImpl;
 
 /**
  * Fired when the bot joins a new guild or when a guild becomes available during startup.
@@ -13,10 +10,9 @@ import com.j4fluxer.fluxer.FluxerImpl;
 public class GuildJoinEvent extends Event {
     private final Guild guild;
 
-    public GuildJoinEvent(Fluxer api, JsonNode data) {
+    public GuildJoinEvent(Fluxer api, Guild guild) {
         super(api);
-        this.guild = new GuildImpl(data, ((FluxerImpl) api).getRequester());
-        ((FluxerImpl) api).cacheGuild(this.guild);
+        this.guild = guild;
     }
 
     /**
@@ -0,0 +1,41 @@
+package com.j4fluxer.events.guild;
+
+import com.j4fluxer.entities.guild.Guild;
+import com.j4fluxer.events.Event;
+import com.j4fluxer.fluxer.Fluxer;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fired when the settings of a guild are updated.
+ * <p>The cached guild is updated in place, so {@link #getGuild()} already reflects the new state, while the
+ * {@code getOld...} methods return the previous values.</p>
+ */
+public class GuildUpdateEvent extends Event {
+    private final Guild guild;
+    private final Map<String, Object> oldValues;
+
+    public GuildUpdateEvent(Fluxer api, Guild guild, Map<String, Object> oldValues) {
+        super(api);
+        this.guild = guild;
+        this.oldValues = oldValues;
+    }
+
+    /** @return The updated guild. */
+    public Guild getGuild() { return guild; }
+
+    /** @return The payload names of the fields that changed, e.g. {@code name} or {@code owner_id}. */
+    public Set<String> getChangedFields() { return Collections.unmodifiableSet(oldValues.keySet()); }
+
+    /** @return The name before the update, or the current name if it did not change. */
+    public String getOldName() {
+        return oldValues.containsKey("name") ? (String) oldValues.get("name") : guild.getName();
+    }
+
+    /** @return The owner ID before the update, or the current owner ID if it did not change. */
+    public String getOldOwnerId() {
+        return oldValues.containsKey("owner_id") ? (String) oldValues.get("owner_id") : guild.getOwnerId();
+    }
+}
@@ -1,6 +1,7 @@
 package com.j4fluxer.events.guild;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.j4fluxer.entities.guild.Role;
 import com.j4fluxer.events.Event;
 import com.j4fluxer.fluxer.Fluxer;
 
@@ -10,11 +11,13 @@ import com.j4fluxer.fluxer.Fluxer;
 public class RoleDeleteEvent extends Event {
     private final String guildId;
     private final String roleId;
+    private final Role role;
 
-    public RoleDeleteEvent(Fluxer api, JsonNode data) {
+    public RoleDeleteEvent(Fluxer api, JsonNode data, Role role) {
         super(api);
         this.guildId = data.get("guild_id").asText();
         this.roleId = data.get("role_id").asText();
+        this.role = role;
     }
 
     /** @return The ID of the guild where the role was deleted. */
@@ -22,4 +25,7 @@ public class RoleDeleteEvent extends Event {
 
     /** @return The ID of the role that was removed. */
     public String getRoleId() { return roleId; }
+
+    /** @return The role as it was cached before the deletion, or {@code null} if it was not cached. */
+    public Role getRole() { return role; }
 }
\ No newline at end of file
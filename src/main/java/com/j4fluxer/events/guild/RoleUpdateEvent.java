@@ -0,0 +1,31 @@
+package com.j4fluxer.events.guild;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.j4fluxer.entities.guild.Role;
+import com.j4fluxer.events.Event;
+import com.j4fluxer.fluxer.Fluxer;
+
+/**
+ * Fired when a role of a guild is updated.
+ */
+public class RoleUpdateEvent extends Event {
+    private final String guildId;
+    private final Role role;
+    private final Role oldRole;
+
+    public RoleUpdateEvent(Fluxer api, JsonNode data, Role oldRole) {
+        super(api);
+        this.guildId = data.get("guild_id").asText();
+        this.role = new Role(data.get("role"));
+        this.oldRole = oldRole;
+    }
+
+    /** @return The ID of the guild where the role was updated. */
+    public String getGuildId() { return guildId; }
+
+    /** @return The updated role. */
+    public Role getRole() { return role; }
+
+    /** @return The role as it was cached before the update, or {@code null} if it was not cached. */
+    public Role getOldRole() { return oldRole; }
+}
@@ -2,13 +2,9 @@ package com.j4fluxer.events.guild.member;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.j4fluxer.entities.guild.Guild;
-import com.j4fluxer.entities.guild.GuildImpl;
 import com.j4fluxer.entities.member.Member;
-import com.j4fluxer.entities.member.MemberImpl;
-import com.j4fluxer.entities.user.UserImpl;
 import com.j4fluxer.events.Event;
 import com.j4fluxer.fluxer.Fluxer;
-import com.j4fluxer.fluxer.FluxerImpl;
 
 /**
  * Fired when a new user joins a guild.
@@ -19,22 +15,21 @@ public class GuildMemberJoinEvent extends Event {
     private final String username;
     private final Member member;
 
-    public GuildMemberJoinEvent(Fluxer api, JsonNode data) {
+    /**
+     * Constructs a new {@code GuildMemberJoinEvent}.
+     *
+     * @param api    The {@link Fluxer} instance.
+     * @param data   The raw gateway payload.
+     * @param member The member that joined, as stored in the member cache.
+     */
+    public GuildMemberJoinEvent(Fluxer api, JsonNode data, Member member) {
         super(api);
         this.guildId = data.get("guild_id").asText();
 
         JsonNode userNode = data.get("user");
         this.userId = userNode.get("id").asText();
         this.username = userNode.get("username").asText();
-
-        FluxerImpl core = (FluxerImpl) api;
-
-        Guild guild = api.getGuildById(guildId);
-        if (guild == null) {
-            guild = new GuildImpl(guildId, core.getRequester());
-        }
-
-        this.member = new MemberImpl(new UserImpl(userNode, core.getRequester()), data, guild, core.getRequester());
+        this.member = member;
     }
 
     /** @return The ID of the guild the user joined. */
@@ -54,6 +49,6 @@ public class GuildMemberJoinEvent extends Event {
 
     /** @return The {@link Guild} the user joined. */
     public Guild getGuild() {
-        return api.getGuildById(guildId);
+        return resolveGuild(guildId);
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.j4fluxer.events.guild.member;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.j4fluxer.entities.member.Member;
 import com.j4fluxer.events.Event;
 import com.j4fluxer.fluxer.Fluxer;
 
@@ -10,11 +11,20 @@ import com.j4fluxer.fluxer.Fluxer;
 public class GuildMemberLeaveEvent extends Event {
     private final String guildId;
     private final String userId;
+    private final Member member;
 
-    public GuildMemberLeaveEvent(Fluxer api, JsonNode data) {
+    /**
+     * Constructs a new {@code GuildMemberLeaveEvent}.
+     *
+     * @param api    The {@link Fluxer} instance.
+     * @param data   The raw gateway payload.
+     * @param member The member that was removed from the member cache, or {@code null} if it was not cached.
+     */
+    public GuildMemberLeaveEvent(Fluxer api, JsonNode data, Member member) {
         super(api);
         this.guildId = data.get("guild_id").asText();
         this.userId = data.get("user").get("id").asText();
+        this.member = member;
     }
 
     /** @return The ID of the guild the user left. */
@@ -22,4 +32,10 @@ public class GuildMemberLeaveEvent extends Event {
 
     /** @return The ID of the user who left. */
     public String getUserId() { return userId; }
+
+    /**
+     * Retrieves the member as it was cached before leaving.
+     * @return The {@link Member}, or {@code null} if the member was not cached.
+     */
+    public Member getMember() { return member; }
 }
\ No newline at end of file
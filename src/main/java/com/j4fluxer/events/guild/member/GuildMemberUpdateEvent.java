@@ -2,13 +2,9 @@ package com.j4fluxer.events.guild.member;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.j4fluxer.entities.guild.Guild;
-import com.j4fluxer.entities.guild.GuildImpl;
 import com.j4fluxer.entities.member.Member;
-import com.j4fluxer.entities.member.MemberImpl;
-import com.j4fluxer.entities.user.UserImpl;
 import com.j4fluxer.events.Event;
 import com.j4fluxer.fluxer.Fluxer;
-import com.j4fluxer.fluxer.FluxerImpl;
 
 /**
  * Fired when a guild member's metadata is updated (e.g., nickname change, role update).
@@ -19,21 +15,19 @@ public class GuildMemberUpdateEvent extends Event {
     private final String nick;
     private final Member member;
 
-    public GuildMemberUpdateEvent(Fluxer api, JsonNode data) {
+    /**
+     * Constructs a new {@code GuildMemberUpdateEvent}.
+     *
+     * @param api    The {@link Fluxer} instance.
+     * @param data   The raw gateway payload.
+     * @param member The updated member, as stored in the member cache.
+     */
+    public GuildMemberUpdateEvent(Fluxer api, JsonNode data, Member member) {
         super(api);
         this.guildId = data.get("guild_id").asText();
         this.userId = data.get("user").get("id").asText();
         this.nick = data.has("nick") && !data.get("nick").isNull() ? data.get("nick").asText() : null;
-
-        FluxerImpl core = (FluxerImpl) api;
-
-        Guild guild = api.getGuildById(guildId);
-        if (guild == null) {
-            guild = new GuildImpl(guildId, core.getRequester());
-        }
-
-        JsonNode userNode = data.get("user");
-        this.member = new MemberImpl(new UserImpl(userNode, core.getRequester()), data, guild, core.getRequester());
+        this.member = member;
     }
 
     /** @return The ID of the guild. */
@@ -50,7 +44,7 @@ public class GuildMemberUpdateEvent extends Event {
      * @return The {@link Guild} object.
      */
     public Guild getGuild() {
-        return api.getGuildById(guildId);
+        return resolveGuild(guildId);
     }
 
     /**
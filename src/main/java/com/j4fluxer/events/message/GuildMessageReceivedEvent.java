@@ -1,9 +1,7 @@
 package com.j4fluxer.events.message;
 
 import com.j4fluxer.entities.channel.TextChannel;
-import com.j4fluxer.entities.channel.TextChannelImpl;
 import com.j4fluxer.entities.guild.Guild;
-import com.j4fluxer.entities.guild.GuildImpl;
 import com.j4fluxer.entities.member.Member; // Import Eklendi
 import com.j4fluxer.entities.message.Message;
 import com.j4fluxer.fluxer.Fluxer;
@@ -25,7 +23,7 @@ public class GuildMessageReceivedEvent extends MessageReceivedEvent {
      */
     @Override
     public Guild getGuild() {
-        return api.getGuildById(message.getGuildId());
+        return resolveGuild(message.getGuildId());
     }
 
     /**
@@ -48,6 +46,6 @@ public class GuildMessageReceivedEvent extends MessageReceivedEvent {
             return guild.getTextChannelById(message.getChannelId());
         }
         FluxerImpl core = (FluxerImpl) api;
-        return new TextChannelImpl(message.getChannelId(), new GuildImpl(message.getGuildId(), core.getRequester()), core.getRequester());
+        return core.getEntityBuilder().getPlaceholderGuild(message.getGuildId()).getTextChannelById(message.getChannelId());
     }
 }
\ No newline at end of file
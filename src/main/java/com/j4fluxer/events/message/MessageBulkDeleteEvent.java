@@ -3,6 +3,7 @@ package com.j4fluxer.events.message;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.j4fluxer.entities.channel.TextChannel;
 import com.j4fluxer.entities.guild.Guild;
+import com.j4fluxer.entities.message.CachedMessage;
 import com.j4fluxer.events.Event;
 import com.j4fluxer.fluxer.Fluxer;
 import java.util.ArrayList;
@@ -29,6 +30,11 @@ public class MessageBulkDeleteEvent extends Event {
      */
     private final String guildId;
 
+    /**
+     * The deleted messages that were still cached.
+     */
+    private final List<CachedMessage> messages;
+
     /**
      * Constructs a new {@code MessageBulkDeleteEvent}.
      *
@@ -36,7 +42,19 @@ public class MessageBulkDeleteEvent extends Event {
      * @param data The JSON data received from the gateway containing the event payload.
      */
     public MessageBulkDeleteEvent(Fluxer api, JsonNode data) {
+        this(api, data, List.of());
+    }
+
+    /**
+     * Constructs a new {@code MessageBulkDeleteEvent}.
+     *
+     * @param api      The {@link Fluxer} API instance.
+     * @param data     The JSON data received from the gateway containing the event payload.
+     * @param messages The deleted messages that were still cached.
+     */
+    public MessageBulkDeleteEvent(Fluxer api, JsonNode data, List<CachedMessage> messages) {
         super(api);
+        this.messages = messages != null ? List.copyOf(messages) : List.of();
         this.channelId = data.get("channel_id").asText();
         this.guildId = data.has("guild_id") ? data.get("guild_id").asText() : null;
 
@@ -54,6 +72,16 @@ public class MessageBulkDeleteEvent extends Event {
      */
     public List<String> getMessageIds() { return messageIds; }
 
+    /**
+     * Returns the deleted messages as they were before the deletion.
+     * <p>Only messages that were still in the message cache are included, so this list may be shorter than
+     * {@link #getMessageIds()} or empty, for example if the message cache is disabled.</p>
+     *
+     * @return An unmodifiable {@link List} of the cached deleted messages.
+     * @see com.j4fluxer.fluxer.FluxerBuilder#setMessageCache(int, long)
+     */
+    public List<CachedMessage> getMessages() { return messages; }
+
     /**
      * Returns the ID of the channel where this event occurred.
      *
@@ -75,8 +103,7 @@ public class MessageBulkDeleteEvent extends Event {
      *         or the guild cannot be found in the cache.
      */
     public Guild getGuild() {
-        if (guildId == null) return null;
-        return api.getGuildById(guildId);
+        return resolveGuild(guildId);
     }
 
     /**
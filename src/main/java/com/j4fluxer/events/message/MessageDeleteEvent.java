@@ -3,6 +3,7 @@ package com.j4fluxer.events.message;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.j4fluxer.entities.channel.TextChannel;
 import com.j4fluxer.entities.guild.Guild;
+import com.j4fluxer.entities.message.CachedMessage;
 import com.j4fluxer.events.Event;
 import com.j4fluxer.fluxer.Fluxer;
 
@@ -26,6 +27,11 @@ public class MessageDeleteEvent extends Event {
      */
     private final String guildId;
 
+    /**
+     * The deleted message as it was cached, if the message cache knew it.
+     */
+    private final CachedMessage message;
+
     /**
      * Constructs a new {@code MessageDeleteEvent}.
      *
@@ -33,7 +39,19 @@ public class MessageDeleteEvent extends Event {
      * @param data The JSON data received from the gateway containing the event payload.
      */
     public MessageDeleteEvent(Fluxer api, JsonNode data) {
+        this(api, data, null);
+    }
+
+    /**
+     * Constructs a new {@code MessageDeleteEvent}.
+     *
+     * @param api     The {@link Fluxer} API instance.
+     * @param data    The JSON data received from the gateway containing the event payload.
+     * @param message The deleted message as it was cached, or {@code null} if it was not cached.
+     */
+    public MessageDeleteEvent(Fluxer api, JsonNode data, CachedMessage message) {
         super(api);
+        this.message = message;
         this.messageId = data.get("id").asText();
         this.channelId = data.get("channel_id").asText();
         this.guildId = data.has("guild_id") ? data.get("guild_id").asText() : null;
@@ -60,6 +78,16 @@ public class MessageDeleteEvent extends Event {
      */
     public String getGuildId() { return guildId; }
 
+    /**
+     * Returns the deleted message as it was before the deletion.
+     * <p>This is only available if the message cache is enabled and the message was sent recently enough to
+     * still be cached.</p>
+     *
+     * @return The deleted message, or {@code null} if it was not cached.
+     * @see com.j4fluxer.fluxer.FluxerBuilder#setMessageCache(int, long)
+     */
+    public CachedMessage getMessage() { return message; }
+
     /**
      * Retrieves the {@link Guild} object associated with this event.
      *
@@ -67,8 +95,7 @@ public class MessageDeleteEvent extends Event {
      *         or the guild is not found in the cache.
      */
     public Guild getGuild() {
-        if (guildId == null) return null;
-        return api.getGuildById(guildId);
+        return resolveGuild(guildId);
     }
 
     /**
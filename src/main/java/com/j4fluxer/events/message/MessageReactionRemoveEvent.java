@@ -3,14 +3,13 @@ package com.j4fluxer.events.message;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.j4fluxer.entities.channel.TextChannel;
 import com.j4fluxer.entities.guild.Guild;
-import com.j4fluxer.entities.guild.GuildImpl;
 import com.j4fluxer.entities.member.Member;
 import com.j4fluxer.entities.member.MemberImpl;
 import com.j4fluxer.entities.user.User;
-import com.j4fluxer.entities.user.UserImpl;
 import com.j4fluxer.events.Event;
 import com.j4fluxer.fluxer.Fluxer;
 import com.j4fluxer.fluxer.FluxerImpl;
+import com.j4fluxer.internal.json.EntityBuilder;
 import com.j4fluxer.internal.requests.Requester;
 
 /**
@@ -57,16 +56,13 @@ public class MessageReactionRemoveEvent extends Event {
             Requester requester = ((FluxerImpl) api).getRequester();
 
             // Create User with API access
-            User user = new UserImpl(memberNode.get("user"), requester);
+            User user = EntityBuilder.of(requester).createUser(memberNode.get("user"));
 
             // Resolve Guild Context
             Guild guildContext = null;
             if (this.guildId != null) {
-                guildContext = api.getGuildById(this.guildId);
-                // If not in cache, create a minimal instance to allow actions
-                if (guildContext == null) {
-                    guildContext = new GuildImpl(this.guildId, requester);
-                }
+                // Falls back to a minimal instance (allowing actions) if the guild is not cached
+                guildContext = resolveGuild(this.guildId);
             }
 
             // Create Member with full context (User, JSON, Guild, Requester)
@@ -127,7 +123,7 @@ public class MessageReactionRemoveEvent extends Event {
      */
     public TextChannel getChannel() {
         if (guildId != null) {
-            Guild guild = api.getGuildById(guildId);
+            Guild guild = resolveGuild(guildId);
             if (guild != null) return guild.getTextChannelById(channelId);
         }
         return null;
@@ -140,6 +136,6 @@ public class MessageReactionRemoveEvent extends Event {
      *         outside of a guild or the guild is not in the cache.
      */
     public Guild getGuild() {
-        return guildId != null ? api.getGuildById(guildId) : null;
+        return resolveGuild(guildId);
     }
 }
\ No newline at end of file
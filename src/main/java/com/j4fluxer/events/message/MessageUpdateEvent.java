@@ -3,6 +3,7 @@ package com.j4fluxer.events.message;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.j4fluxer.entities.channel.TextChannel;
 import com.j4fluxer.entities.guild.Guild;
+import com.j4fluxer.entities.message.CachedMessage;
 import com.j4fluxer.entities.message.Message;
 import com.j4fluxer.entities.message.MessageImpl;
 import com.j4fluxer.events.Event;
@@ -28,6 +29,9 @@ public class MessageUpdateEvent extends Event {
     /** The {@link Message} object containing the updated information. */
     private final Message message;
 
+    /** The message as it was cached before the update, if the message cache knew it. */
+    private final CachedMessage oldMessage;
+
     /**
      * Constructs a new {@code MessageUpdateEvent}.
      *
@@ -35,7 +39,19 @@ public class MessageUpdateEvent extends Event {
      * @param data The JSON data received from the gateway containing the updated message payload.
      */
     public MessageUpdateEvent(Fluxer api, JsonNode data) {
+        this(api, data, null);
+    }
+
+    /**
+     * Constructs a new {@code MessageUpdateEvent}.
+     *
+     * @param api        The {@link Fluxer} API instance.
+     * @param data       The JSON data received from the gateway containing the updated message payload.
+     * @param oldMessage The message as it was cached before the update, or {@code null} if it was not cached.
+     */
+    public MessageUpdateEvent(Fluxer api, JsonNode data, CachedMessage oldMessage) {
         super(api);
+        this.oldMessage = oldMessage;
         this.messageId = data.get("id").asText();
         this.channelId = data.get("channel_id").asText();
         this.guildId = data.has("guild_id") ? data.get("guild_id").asText() : null;
@@ -74,6 +90,28 @@ public class MessageUpdateEvent extends Event {
         return message;
     }
 
+    /**
+     * Returns the message as it was before this update.
+     * <p>This is only available if the message cache is enabled and the message was sent recently enough to
+     * still be cached.</p>
+     *
+     * @return The previous version of the message, or {@code null} if it was not cached.
+     * @see com.j4fluxer.fluxer.FluxerBuilder#setMessageCache(int, long)
+     */
+    public CachedMessage getOldMessage() {
+        return oldMessage;
+    }
+
+    /**
+     * Returns the content the message had before this update.
+     *
+     * @return The previous content, or {@code null} if the message was not cached.
+     * @see #getOldMessage()
+     */
+    public String getOldContent() {
+        return oldMessage != null ? oldMessage.getContent() : null;
+    }
+
     /**
      * Retrieves the {@link Guild} object where the message was updated.
      *
@@ -81,8 +119,7 @@ public class MessageUpdateEvent extends Event {
      *         or the guild is not in the cache.
      */
     public Guild getGuild() {
-        if (guildId == null) return null;
-        return api.getGuildById(guildId);
+        return resolveGuild(guildId);
     }
 
     /**
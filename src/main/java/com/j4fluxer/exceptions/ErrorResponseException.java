@@ -0,0 +1,100 @@
+package com.j4fluxer.exceptions;
+
+import com.j4fluxer.internal.requests.Route;
+
+/**
+ * Thrown when the Fluxer API answers a request with a non-successful HTTP status.
+ *
+ * <p>The exception carries the HTTP status, the API error code and message (if the response body
+ * contained them) and the route that failed, so callers can react to specific failures instead of
+ * parsing a message string.</p>
+ *
+ * <pre>{@code
+ * guild.kickMember(userId).queue(null, error -> {
+ *     if (error instanceof ErrorResponseException e && e.getStatus() == 403) {
+ *         System.err.println("Missing permissions on " + e.getRoute());
+ *     }
+ * });
+ * }</pre>
+ */
+public class ErrorResponseException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The HTTP status code of the failed response. */
+    private final int status;
+
+    /** The error code reported by the Fluxer API, or {@code null} if none was present. */
+    private final String errorCode;
+
+    /** The human-readable error message reported by the Fluxer API, or {@code null} if none was present. */
+    private final String apiMessage;
+
+    /** The route that was being executed; not serialized, so it is {@code null} in a deserialized copy. */
+    private final transient Route.CompiledRoute route;
+
+    /** The (size capped) raw body of the failed response. */
+    private final String responseBody;
+
+    /**
+     * Constructs a new {@code ErrorResponseException}.
+     *
+     * @param status       The HTTP status code.
+     * @param errorCode    The API error code, or {@code null}.
+     * @param apiMessage   The API error message, or {@code null}.
+     * @param route        The route that failed.
+     * @param responseBody The raw response body, truncated to a safe size.
+     */
+    public ErrorResponseException(int status, String errorCode, String apiMessage, Route.CompiledRoute route, String responseBody) {
+        super("API Error: " + status + (errorCode != null ? " [" + errorCode + "]" : "")
+                + (apiMessage != null ? " " + apiMessage : "")
+                + " (" + route + ")");
+        this.status = status;
+        this.errorCode = errorCode;
+        this.apiMessage = apiMessage;
+        this.route = route;
+        this.responseBody = responseBody;
+    }
+
+    /**
+     * Returns the HTTP status code of the failed response.
+     *
+     * @return The status code (e.g., 403 or 502).
+     */
+    public int getStatus() { return status; }
+
+    /**
+     * Returns the error code reported by the Fluxer API.
+     *
+     * @return The error code, or {@code null} if the response did not contain one.
+     */
+    public String getErrorCode() { return errorCode; }
+
+    /**
+     * Returns the error message reported by the Fluxer API.
+     *
+     * @return The error message, or {@code null} if the response did not contain one.
+     */
+    public String getApiMessage() { return apiMessage; }
+
+    /**
+     * Returns the route that was being executed when the error occurred.
+     *
+     * @return The failed {@link Route.CompiledRoute}.
+     */
+    public Route.CompiledRoute getRoute() { return route; }
+
+    /**
+     * Returns the raw response body. Bodies larger than a few kilobytes are truncated.
+     *
+     * @return The response body, possibly empty.
+     */
+    public String getResponseBody() { return responseBody; }
+
+    /**
+     * Checks whether the failure was caused by the server rather than by the request.
+     *
+     * @return {@code true} for 5xx statuses.
+     */
+    public boolean isServerError() { return status >= 500; }
+}
@@ -0,0 +1,19 @@
+package com.j4fluxer.exceptions;
+
+/**
+ * Thrown when an action targets a member or role that is not below the bot's highest role, such as kicking
+ * a moderator or handing out a role above the bot's own. The guild owner can never be targeted.
+ */
+public class HierarchyException extends PermissionException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new {@code HierarchyException}.
+     *
+     * @param message The detail message.
+     */
+    public HierarchyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,68 @@
+package com.j4fluxer.exceptions;
+
+import com.j4fluxer.entities.Permission;
+import com.j4fluxer.entities.channel.GuildChannel;
+import com.j4fluxer.entities.guild.Guild;
+
+/**
+ * Thrown when the bot lacks a permission that an action requires, according to its cached roles and the
+ * cached channel overwrites.
+ *
+ * <pre>{@code
+ * try {
+ *     guild.kickMember(userId).queue();
+ * } catch (InsufficientPermissionException e) {
+ *     channel.sendMessage("I need the " + e.getPermission() + " permission for that.").queue();
+ * }
+ * }</pre>
+ */
+public class InsufficientPermissionException extends PermissionException {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The guild the check was made in; not serialized, so it is {@code null} in a deserialized copy. */
+    private final transient Guild guild;
+
+    /** The channel the check was made in, or {@code null} for a guild-wide permission; not serialized either. */
+    private final transient GuildChannel channel;
+
+    /** The missing permission. */
+    private final Permission permission;
+
+    /**
+     * Constructs a new {@code InsufficientPermissionException}.
+     *
+     * @param guild      The guild the check was made in.
+     * @param channel    The channel the check was made in, or {@code null} for a guild-wide permission.
+     * @param permission The missing permission.
+     */
+    public InsufficientPermissionException(Guild guild, GuildChannel channel, Permission permission) {
+        super("Missing permission " + permission + (channel != null
+                ? " in channel " + channel.getName() + " (" + channel.getId() + ")"
+                : " in guild " + guild.getName() + " (" + guild.getId() + ")"));
+        this.guild = guild;
+        this.channel = channel;
+        this.permission = permission;
+    }
+
+    /**
+     * Returns the guild the check was made in.
+     *
+     * @return The {@link Guild}.
+     */
+    public Guild getGuild() { return guild; }
+
+    /**
+     * Returns the channel the check was made in.
+     *
+     * @return The {@link GuildChannel}, or {@code null} if a guild-wide permission was missing.
+     */
+    public GuildChannel getChannel() { return channel; }
+
+    /**
+     * Returns the permission the bot lacks.
+     *
+     * @return The missing {@link Permission}.
+     */
+    public Permission getPermission() { return permission; }
+}
@@ -0,0 +1,26 @@
+package com.j4fluxer.exceptions;
+
+/**
+ * Thrown when an action is rejected locally because the cached guild state shows that the bot is not allowed
+ * to perform it, so the request is never sent.
+ *
+ * <p>These pre-flight checks spare the round trip and keep doomed requests from counting toward the API's
+ * invalid request limit. They only run when the bot's own member and the guild's roles are cached, and can be
+ * turned off with {@link com.j4fluxer.fluxer.FluxerBuilder#setPermissionChecks(boolean)}.</p>
+ *
+ * @see InsufficientPermissionException
+ * @see HierarchyException
+ */
+public class PermissionException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new {@code PermissionException}.
+     *
+     * @param message The detail message.
+     */
+    public PermissionException(String message) {
+        super(message);
+    }
+}
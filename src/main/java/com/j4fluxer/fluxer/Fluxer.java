@@ -1,10 +1,17 @@
 package com.j4fluxer.fluxer;
 
+import com.j4fluxer.cache.CacheStats;
+import com.j4fluxer.cache.CacheStatsReporter;
 import com.j4fluxer.entities.OnlineStatus;
 import com.j4fluxer.entities.guild.Guild;
 import com.j4fluxer.entities.user.User;
+import com.j4fluxer.events.Event;
+import com.j4fluxer.hooks.Subscription;
 import com.j4fluxer.internal.requests.RestAction;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
 /**
  * The core interface of the J4Fluxer (Java for Fluxer API).
  * <p>
@@ -22,17 +29,68 @@ public interface Fluxer {
      */
     void addEventListener(Object... listenersToAdd);
 
+    /**
+     * Subscribes a handler to one type of event, including its subtypes.
+     * <p>
+     * Events nobody subscribes to are not even built, so narrow subscriptions keep the gateway cheap.
+     * {@code ListenerAdapter}s only count as subscribers for the hooks they override.
+     *
+     * <pre>{@code
+     * fluxer.on(GuildMessageReceivedEvent.class, event -> System.out.println(event.getMessage().getContent()));
+     * }</pre>
+     *
+     * @param eventType The event class, e.g. {@code GuildMemberJoinEvent.class}.
+     * @param handler   The handler receiving the events.
+     * @param <E>       The event type.
+     * @return A {@link Subscription} that cancels the handler.
+     */
+    <E extends Event> Subscription on(Class<E> eventType, Consumer<? super E> handler);
+
     /**
      * Retrieves a Guild (Server) by its unique ID.
      * <p>
      * This method first checks the internal cache. If the guild is not cached,
      * it attempts to fetch it from the API.
+     * <p>
+     * Inside event listeners, a cache miss never waits for the API: the guild is fetched in the background and
+     * this method returns {@code null}. Use {@link #retrieveGuildById(String)} to wait for it without blocking.
      *
      * @param id The ID of the guild.
      * @return The {@link Guild} object, or {@code null} if not found.
      */
     Guild getGuildById(String id);
 
+    /**
+     * Retrieves a Guild (Server) by its unique numeric ID.
+     * <p>
+     * This method first checks the internal cache. If the guild is not cached,
+     * it attempts to fetch it from the API.
+     *
+     * @param id The ID of the guild.
+     * @return The {@link Guild} object, or {@code null} if not found.
+     */
+    Guild getGuildById(long id);
+
+    /**
+     * Retrieves a guild by its ID without blocking.
+     * <p>The future completes immediately if the guild is cached. Otherwise the guild is fetched from Fluxer
+     * and cached; if the guild cannot be fetched, the future completes exceptionally, e.g. with an
+     * {@link com.j4fluxer.exceptions.ErrorResponseException}.</p>
+     *
+     * @param id The ID of the guild.
+     * @return A {@link CompletableFuture} providing the {@link Guild}.
+     */
+    CompletableFuture<Guild> retrieveGuildById(String id);
+
+    /**
+     * Retrieves a guild by its numeric ID without blocking.
+     *
+     * @param id The ID of the guild.
+     * @return A {@link CompletableFuture} providing the {@link Guild}.
+     * @see #retrieveGuildById(String)
+     */
+    CompletableFuture<Guild> retrieveGuildById(long id);
+
     /**
      * Creates a new Guild.
      * <p>
@@ -58,4 +116,20 @@ public interface Fluxer {
      */
     RestAction<User> retrieveUser(String userId);
 
+    /**
+     * Disconnects from the gateway and stops all background tasks of this instance.
+     * <p>If a cache snapshot is configured through {@link FluxerBuilder#setCacheSnapshot(java.nio.file.Path)},
+     * it is written one last time before this method returns.</p>
+     */
+    void shutdown();
+
+    /**
+     * Returns a snapshot of the cache statistics: entry counts, hit, miss and eviction counters, and the
+     * estimated heap retained per cache type and per guild.
+     *
+     * @return The current {@link CacheStats}.
+     * @see FluxerBuilder#setCacheStatsReporter(CacheStatsReporter, java.time.Duration)
+     */
+    CacheStats getCacheStats();
+
 }
\ No newline at end of file
@@ -1,10 +1,32 @@
 package com.j4fluxer.fluxer;
 
+import com.j4fluxer.cache.CacheFlag;
+import com.j4fluxer.cache.CacheStatsReporter;
+import com.j4fluxer.cache.MemberCachePolicy;
+import com.j4fluxer.requests.RetryPolicy;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumSet;
+
 /**
  * Used to create and configure a {@link Fluxer} instance.
  */
 public class FluxerBuilder {
-    private String token;
+    // Read directly by FluxerImpl(FluxerBuilder)
+    String token;
+    RetryPolicy retryPolicy = RetryPolicy.defaultPolicy();
+    final EnumSet<CacheFlag> cacheFlags = EnumSet.allOf(CacheFlag.class);
+    MemberCachePolicy memberCachePolicy = MemberCachePolicy.ALL;
+    boolean compactMemberStore = false;
+    Path snapshotFile;
+    Duration snapshotInterval;
+    int messageCacheSize = 0;
+    long messageCacheBytes = 0;
+    CacheStatsReporter cacheStatsReporter;
+    Duration cacheStatsInterval;
+    boolean permissionChecks = true;
 
     /**
      * Creates a new FluxerBuilder with the provided token.
@@ -18,6 +40,156 @@ public class FluxerBuilder {
         return builder;
     }
 
+    /**
+     * Sets the policy that decides whether failed REST requests are retried.
+     * <p>By default, idempotent requests failing with a server error or an I/O problem are retried
+     * up to 3 times with jittered exponential backoff. Client errors (4xx) are never retried.</p>
+     *
+     * @param retryPolicy The {@link RetryPolicy} to use, or {@link RetryPolicy#NONE} to disable retries.
+     * @return This builder for chaining.
+     */
+    public FluxerBuilder setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy != null ? retryPolicy : RetryPolicy.NONE;
+        return this;
+    }
+
+    /**
+     * Enables optional parts of the guild cache. All flags are enabled by default.
+     *
+     * @param flags The {@link CacheFlag}s to enable.
+     * @return This builder for chaining.
+     */
+    public FluxerBuilder enableCache(CacheFlag... flags) {
+        cacheFlags.addAll(Arrays.asList(flags));
+        return this;
+    }
+
+    /**
+     * Disables optional parts of the guild cache to reduce memory usage.
+     *
+     * @param flags The {@link CacheFlag}s to disable.
+     * @return This builder for chaining.
+     */
+    public FluxerBuilder disableCache(CacheFlag... flags) {
+        cacheFlags.removeAll(Arrays.asList(flags));
+        return this;
+    }
+
+    /**
+     * Sets the policy deciding which guild members are cached.
+     * <p>Defaults to {@link MemberCachePolicy#ALL}. Use {@link MemberCachePolicy#NONE} to disable the member
+     * cache entirely, or {@link MemberCachePolicy#recentlyActive(java.time.Duration)} to only keep members
+     * that were active recently.</p>
+     *
+     * @param policy The {@link MemberCachePolicy} to use.
+     * @return This builder for chaining.
+     */
+    public FluxerBuilder setMemberCachePolicy(MemberCachePolicy policy) {
+        this.memberCachePolicy = policy != null ? policy : MemberCachePolicy.NONE;
+        return this;
+    }
+
+    /**
+     * Keeps cached members in compact columnar storage instead of one object graph per member.
+     * <p>Member IDs, role IDs and names are stored in primitive arrays, and the {@link com.j4fluxer.entities.member.Member}
+     * instances handed out are lightweight views over that storage. This greatly reduces heap usage and garbage
+     * collection work for guilds with hundreds of thousands of members, at the cost of decoding the member data
+     * on every access. Disabled by default.</p>
+     *
+     * @param enabled Whether to use the compact member store.
+     * @return This builder for chaining.
+     */
+    public FluxerBuilder setCompactMemberStore(boolean enabled) {
+        this.compactMemberStore = enabled;
+        return this;
+    }
+
+    /**
+     * Persists the guild cache to a snapshot file and restores it on startup.
+     * <p>Guilds, channels, roles and members are written to a compact binary file every 5 minutes and on
+     * {@link Fluxer#shutdown()} or JVM exit. On the next start, the snapshot is loaded before the gateway
+     * connects, so cache lookups work right away instead of falling back to REST calls until every guild has
+     * arrived again. Restored guilds are replaced by live data as the gateway sends them, and guilds the bot
+     * is no longer in are dropped once the session is ready.</p>
+     *
+     * @param file The snapshot file, or {@code null} to disable snapshots.
+     * @return This builder for chaining.
+     */
+    public FluxerBuilder setCacheSnapshot(Path file) {
+        return setCacheSnapshot(file, Duration.ofMinutes(5));
+    }
+
+    /**
+     * Persists the guild cache to a snapshot file and restores it on startup.
+     *
+     * @param file     The snapshot file, or {@code null} to disable snapshots.
+     * @param interval How often the snapshot is written while running, or {@code null} to only write it on
+     *                 shutdown.
+     * @return This builder for chaining.
+     * @see #setCacheSnapshot(Path)
+     */
+    public FluxerBuilder setCacheSnapshot(Path file, Duration interval) {
+        this.snapshotFile = file;
+        this.snapshotInterval = interval;
+        return this;
+    }
+
+    /**
+     * Keeps the most recent messages of every channel, so {@link com.j4fluxer.events.message.MessageUpdateEvent},
+     * {@link com.j4fluxer.events.message.MessageDeleteEvent} and {@link com.j4fluxer.events.message.MessageBulkDeleteEvent}
+     * can report the content a message had before it was edited or deleted.
+     * <p>Every channel keeps at most {@code messagesPerChannel} messages in a ring buffer, overwriting its oldest
+     * message once it is full. All channels together stay under roughly {@code maxBytes}; when the budget is
+     * exceeded, the oldest messages are evicted first, regardless of their channel. Disabled by default.</p>
+     *
+     * @param messagesPerChannel The number of messages kept per channel, or {@code 0} to disable the cache.
+     * @param maxBytes           The approximate memory all cached messages may use together.
+     * @return This builder for chaining.
+     * @throws IllegalArgumentException If the cache is enabled and {@code maxBytes} is not positive.
+     */
+    public FluxerBuilder setMessageCache(int messagesPerChannel, long maxBytes) {
+        if (messagesPerChannel > 0 && maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+        this.messageCacheSize = Math.max(messagesPerChannel, 0);
+        this.messageCacheBytes = maxBytes;
+        return this;
+    }
+
+    /**
+     * Periodically reports the {@link com.j4fluxer.cache.CacheStats} to the given reporter, e.g. to export
+     * them to a metrics system or to log them with {@link CacheStatsReporter#CONSOLE}.
+     * <p>The statistics are also available on demand through {@link Fluxer#getCacheStats()}.</p>
+     *
+     * @param reporter The reporter, or {@code null} to disable reporting.
+     * @param interval How often the statistics are reported.
+     * @return This builder for chaining.
+     */
+    public FluxerBuilder setCacheStatsReporter(CacheStatsReporter reporter, Duration interval) {
+        if (reporter != null && (interval == null || interval.isNegative() || interval.isZero())) {
+            throw new IllegalArgumentException("interval must be positive");
+        }
+        this.cacheStatsReporter = reporter;
+        this.cacheStatsInterval = interval;
+        return this;
+    }
+
+    /**
+     * Enables or disables the pre-flight permission checks.
+     * <p>When enabled, actions such as kicking a member or deleting a channel throw a
+     * {@link com.j4fluxer.exceptions.PermissionException} right away if the cached roles and overwrites show
+     * that the bot is not allowed to perform them, instead of sending a request that is bound to fail with
+     * {@code 403}. Checks are skipped whenever the bot's own member or the guild's roles are not cached.
+     * Enabled by default.</p>
+     *
+     * @param enabled {@code false} to always send requests and let the API decide.
+     * @return This builder for chaining.
+     */
+    public FluxerBuilder setPermissionChecks(boolean enabled) {
+        this.permissionChecks = enabled;
+        return this;
+    }
+
     /**
      * Builds and initializes the Fluxer instance.
      * <p>
@@ -30,6 +202,6 @@ public class FluxerBuilder {
         if (token == null || token.isEmpty()) {
             throw new IllegalArgumentException("Token cannot be null");
         }
-        return new FluxerImpl(token);
+        return new FluxerImpl(this);
     }
 }
\ No newline at end of file
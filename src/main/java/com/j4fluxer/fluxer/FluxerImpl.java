@@ -1,24 +1,52 @@
 package com.j4fluxer.fluxer;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.j4fluxer.cache.CacheFlag;
+import com.j4fluxer.cache.CacheStats;
+import com.j4fluxer.cache.CacheStatsReporter;
+import com.j4fluxer.cache.CacheType;
+import com.j4fluxer.cache.MemberCachePolicy;
 import com.j4fluxer.entities.OnlineStatus;
 import com.j4fluxer.entities.guild.Guild;
 import com.j4fluxer.entities.guild.GuildImpl;
 import com.j4fluxer.entities.user.User;
 import com.j4fluxer.entities.user.UserImpl;
+import com.j4fluxer.internal.cache.CacheMetrics;
+import com.j4fluxer.internal.cache.CacheSnapshot;
+import com.j4fluxer.internal.cache.LongObjectMap;
+import com.j4fluxer.internal.cache.MessageCache;
 import com.j4fluxer.internal.json.EntityBuilder;
 import com.j4fluxer.internal.requests.Requester;
 import com.j4fluxer.internal.requests.RestAction;
 import com.j4fluxer.internal.requests.Route;
 import com.j4fluxer.internal.gateway.GatewayClient;
+import com.j4fluxer.internal.utils.Snowflake;
 import com.j4fluxer.hooks.EventListener;
+import com.j4fluxer.hooks.Subscription;
+import com.j4fluxer.internal.hooks.ListenerRegistry;
 import com.j4fluxer.events.Event;
-import okhttp3.Response;
+import com.j4fluxer.exceptions.ErrorResponseException;
+import com.j4fluxer.requests.RetryPolicy;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * The primary implementation of the {@link Fluxer} interface.
@@ -36,14 +64,58 @@ public class FluxerImpl implements Fluxer {
     /** Mapper for processing JSON data. */
     private final ObjectMapper mapper = new ObjectMapper();
 
-    /** A list of registered event listeners. */
-    private final List<EventListener> listeners = new ArrayList<>();
+    /** The registered event listeners and typed subscriptions. */
+    private final ListenerRegistry listeners = new ListenerRegistry();
 
     /** The client responsible for the Fluxer Gateway connection. */
     private GatewayClient gateway;
 
     /** A thread-safe cache for stored guilds, mapped by their unique ID. */
-    private final Map<String, Guild> guildCache = new ConcurrentHashMap<>();
+    private final LongObjectMap<Guild> guildCache = new LongObjectMap<>();
+
+    /** The optional parts of the guild cache that are enabled. */
+    private final Set<CacheFlag> cacheFlags;
+
+    /** Decides which members are stored in the member caches of the guilds. */
+    private final MemberCachePolicy memberCachePolicy;
+
+    /** Whether guilds keep their members in a {@link com.j4fluxer.internal.cache.CompactMemberStore}. */
+    private final boolean compactMemberStore;
+
+    /** Drops idle members if the {@link #memberCachePolicy} expires them; {@code null} otherwise. */
+    private ScheduledExecutorService cacheSweeper;
+
+    /** The file the guild cache is persisted to, or {@code null} if snapshots are disabled. */
+    private final Path snapshotFile;
+
+    /** Periodically writes the cache snapshot; {@code null} if snapshots are disabled. */
+    private ScheduledExecutorService snapshotWriter;
+
+    /** Writes the cache snapshot when the JVM exits without {@link #shutdown()} being called. */
+    private Thread snapshotShutdownHook;
+
+    /** IDs of guilds restored from the snapshot that the gateway has not confirmed yet. */
+    private final Set<Long> restoredGuilds = ConcurrentHashMap.newKeySet();
+
+    /** Guild fetches that are in flight, so concurrent lookups of the same guild share one request. */
+    private final Map<Long, CompletableFuture<Guild>> pendingGuildFetches = new ConcurrentHashMap<>();
+
+    /** Hit, miss and eviction counters of all caches. */
+    private final CacheMetrics cacheMetrics = new CacheMetrics();
+
+    /** Periodically hands {@link CacheStats} to the configured reporter; {@code null} if there is none. */
+    private ScheduledExecutorService statsReporter;
+
+    /** Recent messages of every channel, or {@code null} if the message cache is disabled. */
+    private final MessageCache messageCache;
+
+    /** Whether actions are checked against the cached permissions before they are sent. */
+    private final boolean permissionChecks;
+
+    /** The ID of the bot's own user, known once the gateway sent {@code READY}. */
+    private volatile long selfUserId = Snowflake.NONE;
+
+    private volatile boolean shutdown;
 
     /**
      * Constructs a new {@code FluxerImpl} instance and initiates the connection to Fluxer.
@@ -51,10 +123,73 @@ public class FluxerImpl implements Fluxer {
      * @param token The bot token used for authentication.
      */
     public FluxerImpl(String token) {
+        this(token, RetryPolicy.defaultPolicy());
+    }
+
+    /**
+     * Constructs a new {@code FluxerImpl} instance with a custom retry policy and initiates the connection to Fluxer.
+     *
+     * @param token       The bot token used for authentication.
+     * @param retryPolicy The {@link RetryPolicy} applied to failed REST requests.
+     */
+    public FluxerImpl(String token, RetryPolicy retryPolicy) {
+        this(token, retryPolicy, EnumSet.allOf(CacheFlag.class), MemberCachePolicy.ALL);
+    }
+
+    /**
+     * Constructs a new {@code FluxerImpl} instance with custom retry and cache settings and initiates the
+     * connection to Fluxer.
+     *
+     * @param token             The bot token used for authentication.
+     * @param retryPolicy       The {@link RetryPolicy} applied to failed REST requests.
+     * @param cacheFlags        The optional parts of the guild cache to enable.
+     * @param memberCachePolicy The {@link MemberCachePolicy} deciding which members are cached.
+     */
+    public FluxerImpl(String token, RetryPolicy retryPolicy, Set<CacheFlag> cacheFlags, MemberCachePolicy memberCachePolicy) {
+        this(FluxerBuilder.create(token)
+                .setRetryPolicy(retryPolicy)
+                .disableCache(CacheFlag.values())
+                .enableCache(cacheFlags.toArray(new CacheFlag[0]))
+                .setMemberCachePolicy(memberCachePolicy));
+    }
+
+    /**
+     * Constructs a new {@code FluxerImpl} instance from the settings of a {@link FluxerBuilder} and initiates the
+     * connection to Fluxer.
+     *
+     * @param config The builder holding the token and every setting.
+     */
+    FluxerImpl(FluxerBuilder config) {
+        String token = config.token;
+        MemberCachePolicy memberCachePolicy = config.memberCachePolicy;
+        this.compactMemberStore = config.compactMemberStore;
+        this.permissionChecks = config.permissionChecks;
+        this.snapshotFile = config.snapshotFile;
+        this.cacheFlags = EnumSet.noneOf(CacheFlag.class);
+        this.cacheFlags.addAll(config.cacheFlags);
+        this.memberCachePolicy = memberCachePolicy;
+        this.messageCache = config.messageCacheSize > 0
+                ? new MessageCache(config.messageCacheSize, config.messageCacheBytes, cacheMetrics)
+                : null;
         this.requester = new Requester(token);
+        this.requester.setRetryPolicy(config.retryPolicy);
         this.entityBuilder = new EntityBuilder(requester);
         this.requester.setApi(this);
 
+        Duration expiry = memberCachePolicy.getExpiry();
+        if (expiry != null) {
+            startCacheSweeper(expiry);
+        }
+
+        if (config.cacheStatsReporter != null) {
+            startStatsReporter(config.cacheStatsReporter, config.cacheStatsInterval);
+        }
+
+        if (snapshotFile != null) {
+            loadSnapshot();
+            startSnapshotWriter(config.snapshotInterval);
+        }
+
         try {
             this.gateway = new GatewayClient(token, this);
             this.gateway.connect();
@@ -78,49 +213,184 @@ public class FluxerImpl implements Fluxer {
         }
     }
 
+    @Override
+    public <E extends Event> Subscription on(Class<E> eventType, Consumer<? super E> handler) {
+        return listeners.subscribe(eventType, handler);
+    }
+
+    /**
+     * Checks whether any listener or subscription wants events of a type. The gateway skips building events
+     * for which this returns {@code false}.
+     *
+     * @param eventType The event class.
+     * @return {@code true} if the event would be delivered to anyone.
+     */
+    public boolean hasSubscribers(Class<? extends Event> eventType) {
+        return listeners.hasSubscribers(eventType);
+    }
+
     /**
      * Dispatches an event to all registered {@link EventListener}s.
      * Any exception thrown by a listener is caught and printed to prevent blocking the event thread.
+     * {@link com.j4fluxer.hooks.ListenerAdapter}s that do not override the hook for the event are skipped.
      *
      * @param event The {@link Event} object to be fired.
      */
     public void fireEvent(Event event) {
-        for (EventListener listener : listeners) {
-            try {
-                listener.onEvent(event);
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-        }
+        listeners.fire(event);
     }
 
     /**
      * Retrieves a guild by its ID.
-     * <p>This method checks the internal cache first. If the guild is not cached,
-     * it performs a blocking REST request to fetch it from Fluxer and then caches the result.</p>
+     * <p>This method checks the internal cache first. If the guild is not cached, it fetches it from Fluxer,
+     * caches it and waits for the result. Concurrent lookups of the same guild share a single request.</p>
+     * <p>On the gateway thread, which also runs the event listeners, this method never waits: a miss starts the
+     * fetch in the background and returns {@code null}. Use {@link #retrieveGuildById(long)} to be notified
+     * once the guild is available.</p>
      *
      * @param id The unique ID of the guild.
      * @return The {@link Guild} object, or {@code null} if not found or an error occurs.
      */
     @Override
     public Guild getGuildById(String id) {
-        if (guildCache.containsKey(id)) {
-            return guildCache.get(id);
+        return getGuildById(Snowflake.parse(id));
+    }
+
+    /**
+     * Retrieves a guild by its numeric ID.
+     *
+     * @param id The unique ID of the guild.
+     * @return The {@link Guild} object, or {@code null} if not found or an error occurs.
+     * @see #getGuildById(String)
+     */
+    @Override
+    public Guild getGuildById(long id) {
+        Guild cached = guildCache.get(id);
+        cacheMetrics.recordLookup(CacheType.GUILD, cached != null);
+        if (cached != null) {
+            return cached;
+        }
+        if (id == Snowflake.NONE) {
+            return null;
         }
 
+        CompletableFuture<Guild> pending = fetchGuild(id);
+        if (isGatewayThread()) {
+            return null;
+        }
         try {
-            Route.CompiledRoute route = Route.GET_GUILD.compile(id);
-            Response response = requester.execute(route, null);
-            if (response.isSuccessful() && response.body() != null) {
-                GuildImpl guild = new GuildImpl(mapper.readTree(response.body().string()), requester);
-                guildCache.put(id, guild);
-                return guild;
+            return pending.join();
+        } catch (CompletionException e) {
+            if (!(e.getCause() instanceof ErrorResponseException)) {
+                e.getCause().printStackTrace();
             }
             return null;
-        } catch (Exception e) {
-            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public CompletableFuture<Guild> retrieveGuildById(String id) {
+        return retrieveGuildById(Snowflake.parse(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Concurrent calls for the same guild share a single request, and the fetched guild is cached.</p>
+     */
+    @Override
+    public CompletableFuture<Guild> retrieveGuildById(long id) {
+        Guild cached = guildCache.get(id);
+        cacheMetrics.recordLookup(CacheType.GUILD, cached != null);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        if (id == Snowflake.NONE) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return fetchGuild(id);
+    }
+
+    /**
+     * Returns the guild with the given ID without ever blocking, for code running on the gateway thread.
+     * <p>On a cache miss, the guild is fetched in the background and an ID-only placeholder guild is returned
+     * in the meantime, so actions such as kicks or bans still work.</p>
+     *
+     * @param id The unique ID of the guild.
+     * @return The cached {@link Guild}, a placeholder, or {@code null} if the ID is {@code null}.
+     */
+    public Guild resolveGuild(String id) {
+        long guildId = Snowflake.parse(id);
+        if (guildId == Snowflake.NONE) {
             return null;
         }
+        Guild cached = guildCache.get(guildId);
+        cacheMetrics.recordLookup(CacheType.GUILD, cached != null);
+        if (cached != null) {
+            return cached;
+        }
+        fetchGuild(guildId);
+        return entityBuilder.getPlaceholderGuild(Snowflake.toString(guildId));
+    }
+
+    /**
+     * Fetches a guild that is not cached and stores it in the cache. If a fetch of the same guild is already in
+     * flight, its future is returned instead of sending another request.
+     */
+    private CompletableFuture<Guild> fetchGuild(long id) {
+        CompletableFuture<Guild> created = new CompletableFuture<>();
+        CompletableFuture<Guild> inFlight = pendingGuildFetches.putIfAbsent(id, created);
+        if (inFlight != null) {
+            return inFlight;
+        }
+
+        Route.CompiledRoute route = Route.GET_GUILD.compile(Snowflake.toString(id));
+        new RestAction<Guild>(requester, route) {
+            @Override
+            protected Guild handleResponse(String json) throws Exception {
+                return new GuildImpl(mapper.readTree(json), requester);
+            }
+        }.submit().whenComplete((guild, error) -> {
+            pendingGuildFetches.remove(id, created);
+            if (error != null) {
+                created.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+                return;
+            }
+            // The gateway may have delivered the guild while the request was running; its copy is more current
+            Guild current = guild != null ? guildCache.putIfAbsent(id, guild) : guildCache.get(id);
+            created.complete(current != null ? current : guild);
+        });
+        return created;
+    }
+
+    /**
+     * Checks whether the calling thread is the gateway thread, which reads events and runs the listeners.
+     *
+     * @return {@code true} if blocking the calling thread would stall event intake.
+     */
+    public boolean isGatewayThread() {
+        GatewayClient client = gateway;
+        return client != null && client.isEventThread();
+    }
+
+    /**
+     * Returns a guild from the internal cache without contacting the API.
+     *
+     * @param id The unique ID of the guild.
+     * @return The cached {@link Guild}, or {@code null} if it is not cached.
+     */
+    public Guild getCachedGuild(String id) {
+        return guildCache.get(Snowflake.parse(id));
+    }
+
+    /**
+     * Returns a guild from the internal cache without contacting the API.
+     *
+     * @param id The unique ID of the guild.
+     * @return The cached {@link Guild}, or {@code null} if it is not cached.
+     */
+    public Guild getCachedGuild(long id) {
+        return guildCache.get(id);
     }
 
     /**
@@ -129,8 +399,263 @@ public class FluxerImpl implements Fluxer {
      * @param guild The guild object to cache.
      */
     public void cacheGuild(Guild guild) {
-        guildCache.put(guild.getId(), guild);
-        System.out.println("[CACHE] Server Cached: " + guild.getName());
+        guildCache.put(guild.getIdLong(), guild);
+        restoredGuilds.remove(guild.getIdLong());
+    }
+
+    /**
+     * Removes a {@link Guild} from the internal cache, e.g. after the bot left it.
+     *
+     * @param id The unique ID of the guild.
+     */
+    public void uncacheGuild(String id) {
+        long guildId = Snowflake.parse(id);
+        guildCache.remove(guildId);
+        restoredGuilds.remove(guildId);
+    }
+
+    /**
+     * Drops guilds restored from the cache snapshot that are not part of the current session.
+     * <p>Called with the guild list of the {@code READY} payload, so guilds the bot left while it was offline
+     * do not linger in the cache. Guilds that are listed stay available until their {@code GUILD_CREATE}
+     * replaces them with live data.</p>
+     *
+     * @param guilds The {@code guilds} array of the {@code READY} payload.
+     */
+    public void reconcileSnapshot(JsonNode guilds) {
+        if (restoredGuilds.isEmpty() || guilds == null || !guilds.isArray()) {
+            return;
+        }
+        Set<Long> current = new HashSet<>();
+        for (JsonNode guild : guilds) {
+            current.add(Snowflake.parse(guild.get("id")));
+        }
+        for (Long id : List.copyOf(restoredGuilds)) {
+            if (!current.contains(id)) {
+                guildCache.remove(id);
+                restoredGuilds.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Checks whether an optional part of the guild cache is enabled.
+     *
+     * @param flag The {@link CacheFlag} to check.
+     * @return {@code true} if entities of this kind are cached.
+     */
+    public boolean isCacheEnabled(CacheFlag flag) {
+        return cacheFlags.contains(flag);
+    }
+
+    /**
+     * Returns the policy deciding which members are cached.
+     *
+     * @return The configured {@link MemberCachePolicy}.
+     */
+    public MemberCachePolicy getMemberCachePolicy() {
+        return memberCachePolicy;
+    }
+
+    /**
+     * Checks whether actions are checked against the cached permissions before they are sent.
+     *
+     * @return {@code true} if pre-flight permission checks are enabled.
+     */
+    public boolean isPermissionChecks() {
+        return permissionChecks;
+    }
+
+    /**
+     * Returns the ID of the bot's own user.
+     *
+     * @return The user ID, or {@link Snowflake#NONE} before the gateway sent {@code READY}.
+     */
+    public long getSelfUserId() {
+        return selfUserId;
+    }
+
+    /**
+     * Records the ID of the bot's own user from the {@code READY} payload.
+     *
+     * @param selfUserId The user ID.
+     */
+    public void setSelfUserId(long selfUserId) {
+        this.selfUserId = selfUserId;
+    }
+
+    /**
+     * Checks whether guilds keep their members in compact columnar storage.
+     *
+     * @return {@code true} if the compact member store is enabled.
+     */
+    public boolean isCompactMemberStore() {
+        return compactMemberStore;
+    }
+
+    /**
+     * Periodically drops cached members that the {@link #memberCachePolicy} no longer wants to keep.
+     * The sweep runs a few times per expiry period, but at least once a minute.
+     */
+    private void startCacheSweeper(Duration expiry) {
+        long interval = Math.max(1000, Math.min(60_000, expiry.toMillis() / 4));
+        cacheSweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "J4Fluxer-CacheSweeper");
+            t.setDaemon(true);
+            return t;
+        });
+        cacheSweeper.scheduleWithFixedDelay(() -> {
+            long now = System.currentTimeMillis();
+            for (Guild guild : guildCache.values()) {
+                try {
+                    int pruned = ((GuildImpl) guild).pruneMembers(memberCachePolicy, now);
+                    cacheMetrics.recordEvictions(CacheType.MEMBER, pruned);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Hands a fresh {@link CacheStats} snapshot to the reporter at a fixed rate.
+     */
+    private void startStatsReporter(CacheStatsReporter reporter, Duration interval) {
+        long millis = Math.max(1000, interval.toMillis());
+        statsReporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "J4Fluxer-CacheStats");
+            t.setDaemon(true);
+            return t;
+        });
+        statsReporter.scheduleAtFixedRate(() -> {
+            try {
+                reporter.report(getCacheStats());
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Walks every cached guild to count entities and estimate their size, so this takes time proportional
+     * to the size of the cache. It is meant to be called every few seconds at most.</p>
+     */
+    @Override
+    public CacheStats getCacheStats() {
+        Map<CacheType, long[]> totals = new EnumMap<>(CacheType.class); // {entries, bytes}
+        for (CacheType type : CacheType.values()) {
+            totals.put(type, new long[2]);
+        }
+
+        List<CacheStats.GuildStats> guilds = new ArrayList<>();
+        for (Guild guild : guildCache.values()) {
+            CacheStats.GuildStats stats = ((GuildImpl) guild).computeCacheStats();
+            guilds.add(stats);
+            for (CacheType type : CacheType.values()) {
+                long[] total = totals.get(type);
+                total[0] += stats.getEntryCount(type);
+                total[1] += stats.getEstimatedBytes(type);
+            }
+        }
+        guilds.sort(Comparator.comparingLong((CacheStats.GuildStats stats) -> stats.getEstimatedBytes()).reversed());
+
+        totals.get(CacheType.USER)[0] = entityBuilder.getUserCount();
+        totals.get(CacheType.USER)[1] = entityBuilder.estimateUserBytes();
+        if (messageCache != null) {
+            totals.get(CacheType.MESSAGE)[0] = messageCache.size();
+            totals.get(CacheType.MESSAGE)[1] = messageCache.getUsedBytes();
+        }
+
+        Map<CacheType, CacheStats.TypeStats> types = new EnumMap<>(CacheType.class);
+        for (CacheType type : CacheType.values()) {
+            long[] total = totals.get(type);
+            types.put(type, new CacheStats.TypeStats(type, total[0], cacheMetrics.getHitCount(type),
+                    cacheMetrics.getMissCount(type), cacheMetrics.getEvictionCount(type), total[1]));
+        }
+        return new CacheStats(Instant.now(), types, guilds);
+    }
+
+    /**
+     * Returns the hit, miss and eviction counters shared by all caches of this instance.
+     *
+     * @return The {@link CacheMetrics}.
+     */
+    public CacheMetrics getCacheMetrics() {
+        return cacheMetrics;
+    }
+
+    /**
+     * Restores the guild cache from the snapshot file, so lookups work before the gateway has sent the guilds.
+     * A missing or unreadable snapshot just means starting with an empty cache.
+     */
+    private void loadSnapshot() {
+        try {
+            List<JsonNode> guilds = CacheSnapshot.read(snapshotFile);
+            for (JsonNode node : guilds) {
+                GuildImpl guild = new GuildImpl(node, requester);
+                guildCache.put(guild.getIdLong(), guild);
+                restoredGuilds.add(guild.getIdLong());
+            }
+            if (!guilds.isEmpty()) {
+                System.out.println("[CACHE] Restored " + guilds.size() + " guild(s) from " + snapshotFile);
+            }
+        } catch (Exception e) {
+            System.err.println("[CACHE] Could not load cache snapshot " + snapshotFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the cache snapshot periodically, and once more when the JVM exits.
+     */
+    private void startSnapshotWriter(Duration interval) {
+        if (interval != null && !interval.isZero() && !interval.isNegative()) {
+            long millis = Math.max(1000, interval.toMillis());
+            snapshotWriter = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "J4Fluxer-CacheSnapshot");
+                t.setDaemon(true);
+                return t;
+            });
+            snapshotWriter.scheduleWithFixedDelay(this::writeSnapshot, millis, millis, TimeUnit.MILLISECONDS);
+        }
+        snapshotShutdownHook = new Thread(this::writeSnapshot, "J4Fluxer-CacheSnapshot-Exit");
+        Runtime.getRuntime().addShutdownHook(snapshotShutdownHook);
+    }
+
+    /**
+     * Writes the current guild cache to the snapshot file. Failures are printed to the standard error stream.
+     */
+    public synchronized void writeSnapshot() {
+        if (snapshotFile == null) return;
+        try {
+            CacheSnapshot.write(snapshotFile, guildCache.values());
+        } catch (Exception e) {
+            System.err.println("[CACHE] Could not write cache snapshot " + snapshotFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Disconnects from the gateway, stops the background tasks and writes the cache snapshot if enabled.
+     */
+    @Override
+    public void shutdown() {
+        if (shutdown) return;
+        shutdown = true;
+
+        if (gateway != null) gateway.close();
+        if (cacheSweeper != null) cacheSweeper.shutdown();
+        if (snapshotWriter != null) snapshotWriter.shutdown();
+        if (statsReporter != null) statsReporter.shutdown();
+
+        if (snapshotShutdownHook != null) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(snapshotShutdownHook);
+            } catch (IllegalStateException ignored) {
+                // The JVM is already exiting; the hook writes the snapshot itself
+                return;
+            }
+            writeSnapshot();
+        }
     }
 
     /**
@@ -171,11 +696,29 @@ public class FluxerImpl implements Fluxer {
             @Override
             protected User handleResponse(String jsonStr) throws Exception {
                 // Requester'ı da veriyoruz ki bu user ile DM açılabilsin
-                return new UserImpl(mapper.readTree(jsonStr), requester);
+                return entityBuilder.createUser(mapper.readTree(jsonStr));
             }
         };
     }
 
+    /**
+     * Returns the shared {@link EntityBuilder} that keeps canonical entity handles for this instance.
+     *
+     * @return The {@link EntityBuilder} instance.
+     */
+    public EntityBuilder getEntityBuilder() {
+        return entityBuilder;
+    }
+
+    /**
+     * Returns the cache of recent messages.
+     *
+     * @return The {@link MessageCache}, or {@code null} if the message cache is disabled.
+     */
+    public MessageCache getMessageCache() {
+        return messageCache;
+    }
+
     /**
      * Returns the internal {@link Requester} used by this instance.
      *
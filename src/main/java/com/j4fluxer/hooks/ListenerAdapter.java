@@ -1,12 +1,15 @@
 package com.j4fluxer.hooks;
 
 import com.j4fluxer.events.Event;
+import com.j4fluxer.events.channel.ChannelUpdateEvent;
 import com.j4fluxer.events.guild.*;
 import com.j4fluxer.events.guild.member.*;
 import com.j4fluxer.events.message.*;
 import com.j4fluxer.events.session.ReadyEvent;
 import com.j4fluxer.events.user.TypingStartEvent;
 
+import java.util.function.BiConsumer;
+
 /**
  * An abstract adapter class for receiving events.
  * <p>
@@ -14,45 +17,135 @@ import com.j4fluxer.events.user.TypingStartEvent;
  * Users of the library should extend this class and override only the methods for the events they wish to handle.
  * <p>
  * This eliminates the need to manually perform {@code instanceof} checks on every event.
+ * <p>
+ * Dispatching costs one table lookup per event: the hook for each event class is resolved once, and so is the
+ * set of hooks each subclass overrides. Events whose hook is not overridden are dropped without calling it, and
+ * {@link com.j4fluxer.fluxer.Fluxer} skips such listeners entirely (see {@link #handles(Class)}).
  */
 public abstract class ListenerAdapter implements EventListener {
 
+    /** Every hook; each one owns the bit of its index in {@link #overriddenHooks}, so there are at most 64. */
+    private static final Hook[] HOOKS = {
+            // --- MESSAGE EVENTS ---
+            hook(GuildMessageReceivedEvent.class, ListenerAdapter::onGuildMessageReceived, "onGuildMessageReceived"),
+            hook(PrivateMessageReceivedEvent.class, ListenerAdapter::onPrivateMessageReceived, "onPrivateMessageReceived"),
+            hook(MessageUpdateEvent.class, ListenerAdapter::onMessageUpdate, "onMessageUpdate"),
+            hook(MessageDeleteEvent.class, ListenerAdapter::onMessageDelete, "onMessageDelete"),
+            hook(MessageBulkDeleteEvent.class, ListenerAdapter::onMessageBulkDelete, "onMessageBulkDelete"),
+            hook(MessageReactionAddEvent.class, ListenerAdapter::onMessageReactionAdd, "onMessageReactionAdd"),
+            hook(MessageReactionRemoveEvent.class, ListenerAdapter::onMessageReactionRemove, "onMessageReactionRemove"),
+
+            // --- GUILD EVENTS ---
+            hook(GuildJoinEvent.class, ListenerAdapter::onGuildJoin, "onGuildJoin"),
+            hook(GuildLeaveEvent.class, ListenerAdapter::onGuildLeave, "onGuildLeave"),
+            hook(GuildUpdateEvent.class, ListenerAdapter::onGuildUpdate, "onGuildUpdate"),
+            hook(ChannelUpdateEvent.class, ListenerAdapter::onChannelUpdate, "onChannelUpdate"),
+            hook(GuildMemberJoinEvent.class, ListenerAdapter::onMemberJoin, "onMemberJoin"),
+            hook(GuildMemberLeaveEvent.class, ListenerAdapter::onMemberLeave, "onMemberLeave"),
+            hook(GuildMemberUpdateEvent.class, ListenerAdapter::onMemberUpdate, "onMemberUpdate"),
+            hook(GuildBanEvent.class, (listener, event) -> {
+                if (event.isBanned()) listener.onGuildBan(event);
+                else listener.onGuildUnban(event);
+            }, "onGuildBan", "onGuildUnban"),
+            hook(RoleCreateEvent.class, ListenerAdapter::onRoleCreate, "onRoleCreate"),
+            hook(RoleUpdateEvent.class, ListenerAdapter::onRoleUpdate, "onRoleUpdate"),
+            hook(RoleDeleteEvent.class, ListenerAdapter::onRoleDelete, "onRoleDelete"),
+
+            // --- OTHER EVENTS ---
+            hook(ReadyEvent.class, ListenerAdapter::onReady, "onReady"),
+            hook(TypingStartEvent.class, ListenerAdapter::onTypingStart, "onTypingStart")
+    };
+
+    /** The mask of a subclass that overrides {@link #onEvent(Event)}, which may handle any event. */
+    private static final long ALL_HOOKS = -1L;
+
+    /** The hook of every event class, or {@code null} if no hook takes it; subclasses inherit their parent's. */
+    private static final ClassValue<Hook> HOOK_BY_EVENT = new ClassValue<>() {
+        @Override
+        protected Hook computeValue(Class<?> type) {
+            for (Class<?> c = type; c != null && c != Event.class; c = c.getSuperclass()) {
+                for (Hook hook : HOOKS) {
+                    if (hook.eventType == c) return hook;
+                }
+            }
+            return null;
+        }
+    };
+
+    /** The mask of the hooks every listener class overrides, found once per class by reflection. */
+    private static final ClassValue<Long> OVERRIDDEN_HOOKS = new ClassValue<>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            try {
+                if (type.getMethod("onEvent", Event.class).getDeclaringClass() != ListenerAdapter.class) {
+                    return ALL_HOOKS;
+                }
+                long mask = 0;
+                for (int i = 0; i < HOOKS.length; i++) {
+                    for (String method : HOOKS[i].methods) {
+                        if (type.getMethod(method, HOOKS[i].eventType).getDeclaringClass() != ListenerAdapter.class) {
+                            mask |= HOOKS[i].bit;
+                        }
+                    }
+                }
+                return mask;
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("Missing hook method in " + type.getName(), e);
+            }
+        }
+    };
+
+    /** The bits of the hooks this listener overrides. */
+    private final long overriddenHooks = OVERRIDDEN_HOOKS.get(getClass());
+
     /**
-     * The entry point for all events. This method identifies the event type
-     * and dispatches it to the corresponding hook method.
+     * The entry point for all events. This method looks up the hook for the event's class
+     * and dispatches the event to it, unless this listener does not override that hook.
      *
      * @param event The event to be dispatched.
      */
     @Override
     public void onEvent(Event event) {
-        // --- MESSAGE EVENTS ---
-        if (event instanceof GuildMessageReceivedEvent)
-            onGuildMessageReceived((GuildMessageReceivedEvent) event);
-        else if (event instanceof PrivateMessageReceivedEvent)
-            onPrivateMessageReceived((PrivateMessageReceivedEvent) event);
-
-        else if (event instanceof MessageUpdateEvent) onMessageUpdate((MessageUpdateEvent) event);
-        else if (event instanceof MessageDeleteEvent) onMessageDelete((MessageDeleteEvent) event);
-        else if (event instanceof MessageBulkDeleteEvent) onMessageBulkDelete((MessageBulkDeleteEvent) event);
-        else if (event instanceof MessageReactionAddEvent) onMessageReactionAdd((MessageReactionAddEvent) event);
-        else if (event instanceof MessageReactionRemoveEvent) onMessageReactionRemove((MessageReactionRemoveEvent) event);
-
-            // --- GUILD EVENTS ---
-        else if (event instanceof GuildJoinEvent) onGuildJoin((GuildJoinEvent) event);
-        else if (event instanceof GuildLeaveEvent) onGuildLeave((GuildLeaveEvent) event);
-        else if (event instanceof GuildMemberJoinEvent) onMemberJoin((GuildMemberJoinEvent) event);
-        else if (event instanceof GuildMemberLeaveEvent) onMemberLeave((GuildMemberLeaveEvent) event);
-        else if (event instanceof GuildMemberUpdateEvent) onMemberUpdate((GuildMemberUpdateEvent) event);
-        else if (event instanceof GuildBanEvent) {
-            if (((GuildBanEvent) event).isBanned()) onGuildBan((GuildBanEvent) event);
-            else onGuildUnban((GuildBanEvent) event);
+        Hook hook = HOOK_BY_EVENT.get(event.getClass());
+        if (hook != null && (overriddenHooks & hook.bit) != 0) {
+            hook.action.accept(this, event);
         }
-        else if (event instanceof RoleCreateEvent) onRoleCreate((RoleCreateEvent) event);
-        else if (event instanceof RoleDeleteEvent) onRoleDelete((RoleDeleteEvent) event);
+    }
 
-            // --- OTHER EVENTS ---
-        else if (event instanceof ReadyEvent) onReady((ReadyEvent) event);
-        else if (event instanceof TypingStartEvent) onTypingStart((TypingStartEvent) event);
+    /**
+     * Checks whether this listener handles events of a type, i.e. overrides a hook method receiving them
+     * (or {@link #onEvent(Event)} itself).
+     *
+     * @param eventType The event class.
+     * @return {@code true} if events of this type reach code of the subclass.
+     */
+    public boolean handles(Class<? extends Event> eventType) {
+        if (overriddenHooks == ALL_HOOKS) return true;
+        Hook hook = HOOK_BY_EVENT.get(eventType);
+        return hook != null && (overriddenHooks & hook.bit) != 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Event> Hook hook(Class<E> eventType, BiConsumer<ListenerAdapter, E> action, String... methods) {
+        // Safe: a hook is only looked up for instances of its own event type
+        return new Hook(eventType, (BiConsumer<ListenerAdapter, Event>) (BiConsumer<?, ?>) action, methods);
+    }
+
+    /** An entry of the dispatch table: an event type, the hook methods receiving it and how to call them. */
+    private static final class Hook {
+        private static int count;
+
+        final Class<? extends Event> eventType;
+        final BiConsumer<ListenerAdapter, Event> action;
+        final String[] methods;
+        final long bit;
+
+        Hook(Class<? extends Event> eventType, BiConsumer<ListenerAdapter, Event> action, String[] methods) {
+            this.eventType = eventType;
+            this.action = action;
+            this.methods = methods;
+            this.bit = 1L << count++;
+        }
     }
 
     // --- HOOK METHODS ---
@@ -127,6 +220,20 @@ public abstract class ListenerAdapter implements EventListener {
      */
     public void onGuildLeave(GuildLeaveEvent event) {}
 
+    /**
+     * Called when the settings of a guild, such as its name or owner, are updated.
+     *
+     * @param event The event data containing the updated guild and the previous values.
+     */
+    public void onGuildUpdate(GuildUpdateEvent event) {}
+
+    /**
+     * Called when a channel of a guild is updated, e.g. renamed, moved or given a new topic.
+     *
+     * @param event The event data containing the updated channel and the previous values.
+     */
+    public void onChannelUpdate(ChannelUpdateEvent event) {}
+
     /**
      * Called when a new member joins a guild.
      *
@@ -176,6 +283,13 @@ public abstract class ListenerAdapter implements EventListener {
      */
     public void onRoleCreate(RoleCreateEvent event) {}
 
+    /**
+     * Called when a role of a guild is updated, e.g. renamed, recolored, moved or given new permissions.
+     *
+     * @param event The event data containing the old and the new version of the role.
+     */
+    public void onRoleUpdate(RoleUpdateEvent event) {}
+
     /**
      * Called when a role is deleted from a guild.
      *
@@ -0,0 +1,19 @@
+package com.j4fluxer.hooks;
+
+/**
+ * A handle to an event subscription created with {@link com.j4fluxer.fluxer.Fluxer#on(Class, java.util.function.Consumer)}.
+ *
+ * <pre>{@code
+ * Subscription subscription = fluxer.on(GuildMemberJoinEvent.class, event -> welcome(event.getMember()));
+ * // Later, once the handler is no longer needed:
+ * subscription.cancel();
+ * }</pre>
+ */
+public interface Subscription {
+
+    /**
+     * Stops delivering events to the subscribed handler. Once no subscriber is left for an event type,
+     * the gateway stops building events of that type. Calling this more than once has no effect.
+     */
+    void cancel();
+}
@@ -0,0 +1,261 @@
+package com.j4fluxer.internal.cache;
+
+import com.j4fluxer.entities.Permission;
+import com.j4fluxer.entities.PermissionOverwrite;
+import com.j4fluxer.entities.channel.GuildChannel;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes the effective permissions of every cached member of a guild in one pass.
+ *
+ * <p>Instead of visiting member objects, the query works on packed arrays: the sorted user IDs of all cached
+ * members and, for every role, the sorted user IDs of its members (taken from the role index of the guild).
+ * Each role is then merged into the member array with a linear scan, OR-ing its permission bits into the
+ * members it has, and the channel overwrites are applied on top. The result is one {@code long} per member.</p>
+ *
+ * <p>Large guilds are split into ranges of members that are computed in parallel on the common
+ * {@link ForkJoinPool}; every range only writes its own slice of the result, so no synchronization is needed.</p>
+ */
+public final class BulkPermissionQuery {
+
+    /** Guilds with fewer cached members are computed on the calling thread. */
+    private static final int PARALLEL_THRESHOLD = 32_768;
+
+    /** The number of members a single fork-join task computes without splitting further. */
+    private static final int TASK_SIZE = 8_192;
+
+    private static final long ADMINISTRATOR = Permission.ADMINISTRATOR.getRawValue();
+    private static final long VIEW_CHANNEL = Permission.VIEW_CHANNEL.getRawValue();
+
+    private final long[] userIds;
+    private final long ownerId;
+    private final long everyonePermissions;
+    private final long[][] roleMembers;
+    private final long[] rolePermissions;
+    private final long[] roleAllow;
+    private final long[] roleDeny;
+    private final boolean channel;
+    private final long everyoneAllow;
+    private final long everyoneDeny;
+    private final long[] memberOverwriteIds;
+    private final long[] memberAllow;
+    private final long[] memberDeny;
+
+    private BulkPermissionQuery(Snapshot snapshot, GuildChannel channel, long guildId) {
+        this.userIds = snapshot.userIds;
+        this.ownerId = snapshot.ownerId;
+        this.everyonePermissions = snapshot.everyonePermissions;
+        this.roleMembers = snapshot.roleMembers;
+        this.rolePermissions = snapshot.rolePermissions;
+        this.roleAllow = new long[roleMembers.length];
+        this.roleDeny = new long[roleMembers.length];
+        this.channel = channel != null;
+
+        long everyoneAllow = 0;
+        long everyoneDeny = 0;
+        List<PermissionOverwrite> overwrites = channel != null ? channel.getPermissionOverwrites() : List.of();
+        long[] overwriteIds = new long[overwrites.size()];
+        long[] overwriteAllow = new long[overwrites.size()];
+        long[] overwriteDeny = new long[overwrites.size()];
+        int memberOverwrites = 0;
+        for (PermissionOverwrite overwrite : overwrites) {
+            long targetId = overwrite.getIdLong();
+            if (overwrite.isMember()) {
+                overwriteIds[memberOverwrites] = targetId;
+                overwriteAllow[memberOverwrites] = overwrite.getAllowedRaw();
+                overwriteDeny[memberOverwrites] = overwrite.getDeniedRaw();
+                memberOverwrites++;
+            } else if (targetId == guildId) {
+                everyoneAllow = overwrite.getAllowedRaw();
+                everyoneDeny = overwrite.getDeniedRaw();
+            } else {
+                int role = indexOf(snapshot.roleIds, targetId);
+                if (role >= 0) {
+                    roleAllow[role] = overwrite.getAllowedRaw();
+                    roleDeny[role] = overwrite.getDeniedRaw();
+                }
+            }
+        }
+        this.everyoneAllow = everyoneAllow;
+        this.everyoneDeny = everyoneDeny;
+        this.memberOverwriteIds = Arrays.copyOf(overwriteIds, memberOverwrites);
+        this.memberAllow = Arrays.copyOf(overwriteAllow, memberOverwrites);
+        this.memberDeny = Arrays.copyOf(overwriteDeny, memberOverwrites);
+    }
+
+    /**
+     * Computes the guild-wide permissions of every member in a snapshot.
+     *
+     * @param snapshot The cache snapshot.
+     * @return The permissions, one per entry of {@link Snapshot#getUserIds()}.
+     */
+    public static long[] compute(Snapshot snapshot) {
+        return new BulkPermissionQuery(snapshot, null, 0).run();
+    }
+
+    /**
+     * Computes the permissions of every member in a snapshot in a channel.
+     *
+     * @param snapshot The cache snapshot.
+     * @param channel  The channel, whose overwrites are applied.
+     * @param guildId  The ID of the guild, which is also the ID of its {@code @everyone} role.
+     * @return The permissions, one per entry of {@link Snapshot#getUserIds()}.
+     */
+    public static long[] compute(Snapshot snapshot, GuildChannel channel, long guildId) {
+        return new BulkPermissionQuery(snapshot, channel, guildId).run();
+    }
+
+    private long[] run() {
+        long[] result = new long[userIds.length];
+        if (userIds.length == 0) {
+            return result;
+        }
+        if (userIds.length < PARALLEL_THRESHOLD) {
+            computeRange(0, userIds.length, result);
+        } else {
+            ForkJoinPool.commonPool().invoke(new RangeTask(0, userIds.length, result));
+        }
+        return result;
+    }
+
+    /** Computes the members in {@code [from, to)} of {@link #userIds}, writing only that slice of the result. */
+    private void computeRange(int from, int to, long[] result) {
+        Arrays.fill(result, from, to, everyonePermissions);
+        long[] allow = channel ? new long[to - from] : null;
+        long[] deny = channel ? new long[to - from] : null;
+
+        for (int role = 0; role < roleMembers.length; role++) {
+            long permissions = rolePermissions[role];
+            long overwriteAllow = roleAllow[role];
+            long overwriteDeny = roleDeny[role];
+            if (permissions == 0 && overwriteAllow == 0 && overwriteDeny == 0) continue;
+
+            // Both arrays are sorted, so the role's members in this range are found with one merge
+            long[] members = roleMembers[role];
+            int i = from;
+            int j = lowerBound(members, userIds[from]);
+            while (i < to && j < members.length) {
+                long userId = userIds[i];
+                long member = members[j];
+                if (userId < member) {
+                    i++;
+                } else if (userId > member) {
+                    j++;
+                } else {
+                    result[i] |= permissions;
+                    if (allow != null) {
+                        allow[i - from] |= overwriteAllow;
+                        deny[i - from] |= overwriteDeny;
+                    }
+                    i++;
+                    j++;
+                }
+            }
+        }
+
+        for (int i = from; i < to; i++) {
+            long permissions = result[i];
+            if (userIds[i] == ownerId || (permissions & ADMINISTRATOR) != 0) {
+                result[i] = Permission.ALL_PERMISSIONS;
+                continue;
+            }
+            if (allow == null) continue;
+            permissions = (permissions & ~everyoneDeny) | everyoneAllow;
+            permissions = (permissions & ~deny[i - from]) | allow[i - from];
+            int own = indexOf(memberOverwriteIds, userIds[i]);
+            if (own >= 0) {
+                permissions = (permissions & ~memberDeny[own]) | memberAllow[own];
+            }
+            result[i] = (permissions & VIEW_CHANNEL) != 0 ? permissions : 0;
+        }
+    }
+
+    /** Returns the index of the first element that is not smaller than {@code key}. */
+    private static int lowerBound(long[] sorted, long key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private static int indexOf(long[] ids, long id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) return i;
+        }
+        return -1;
+    }
+
+    private final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final long[] result;
+
+        RangeTask(int from, int to, long[] result) {
+            this.from = from;
+            this.to = to;
+            this.result = result;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TASK_SIZE) {
+                computeRange(from, to, result);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, mid, result), new RangeTask(mid, to, result));
+        }
+    }
+
+    /**
+     * The packed state of a guild's member and role caches that a query runs on. It is taken once while the
+     * member index is locked, so members and role memberships are consistent with each other.
+     */
+    public static final class Snapshot {
+        private final long[] userIds;
+        private final long ownerId;
+        private final long everyonePermissions;
+        private final long[] roleIds;
+        private final long[] rolePermissions;
+        private final long[][] roleMembers;
+
+        /**
+         * Creates a snapshot. The arrays are taken over, not copied.
+         *
+         * @param userIds             The user IDs of the cached members; sorted by this constructor.
+         * @param ownerId             The user ID of the guild owner.
+         * @param everyonePermissions The permissions of the {@code @everyone} role.
+         * @param roleIds             The IDs of the other roles.
+         * @param rolePermissions     The permissions of each role.
+         * @param roleMembers         The user IDs of the cached members of each role; sorted by this constructor.
+         */
+        public Snapshot(long[] userIds, long ownerId, long everyonePermissions, long[] roleIds,
+                        long[] rolePermissions, long[][] roleMembers) {
+            Arrays.sort(userIds);
+            for (long[] members : roleMembers) {
+                Arrays.sort(members);
+            }
+            this.userIds = userIds;
+            this.ownerId = ownerId;
+            this.everyonePermissions = everyonePermissions;
+            this.roleIds = roleIds;
+            this.rolePermissions = rolePermissions;
+            this.roleMembers = roleMembers;
+        }
+
+        /** @return The sorted user IDs of the cached members; the results of a query are in the same order. */
+        public long[] getUserIds() {
+            return userIds;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.j4fluxer.internal.cache;
+
+import com.j4fluxer.cache.CacheType;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cumulative hit, miss and eviction counters of the caches of one {@link com.j4fluxer.fluxer.Fluxer} instance.
+ *
+ * <p>Lookups happen on every event, so the counters are {@link LongAdder}s, which stay cheap when many threads
+ * record at the same time.</p>
+ */
+public final class CacheMetrics {
+
+    private final LongAdder[] hits = adders();
+    private final LongAdder[] misses = adders();
+    private final LongAdder[] evictions = adders();
+
+    private static LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[CacheType.values().length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * Records a cache lookup.
+     *
+     * @param type The cache type.
+     * @param hit  Whether the lookup was answered from the cache.
+     */
+    public void recordLookup(CacheType type, boolean hit) {
+        (hit ? hits : misses)[type.ordinal()].increment();
+    }
+
+    /**
+     * Records entities that were dropped by a cache policy or size limit.
+     *
+     * @param type  The cache type.
+     * @param count The number of evicted entities.
+     */
+    public void recordEvictions(CacheType type, long count) {
+        if (count > 0) {
+            evictions[type.ordinal()].add(count);
+        }
+    }
+
+    /** @return The number of lookups of the given type answered from the cache. */
+    public long getHitCount(CacheType type) { return hits[type.ordinal()].sum(); }
+
+    /** @return The number of lookups of the given type that missed the cache. */
+    public long getMissCount(CacheType type) { return misses[type.ordinal()].sum(); }
+
+    /** @return The number of evicted entities of the given type. */
+    public long getEvictionCount(CacheType type) { return evictions[type.ordinal()].sum(); }
+}
@@ -0,0 +1,282 @@
+package com.j4fluxer.internal.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.j4fluxer.entities.PermissionOverwrite;
+import com.j4fluxer.entities.channel.ChannelType;
+import com.j4fluxer.entities.channel.GuildChannel;
+import com.j4fluxer.entities.channel.TextChannel;
+import com.j4fluxer.entities.channel.VoiceChannel;
+import com.j4fluxer.entities.guild.Guild;
+import com.j4fluxer.entities.guild.Role;
+import com.j4fluxer.entities.member.Member;
+import com.j4fluxer.entities.user.User;
+import com.j4fluxer.internal.utils.Snowflake;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads and writes a compact binary snapshot of the guild cache, so a restarted bot can answer cache lookups
+ * before the gateway has sent every guild again.
+ *
+ * <p>The snapshot holds the guilds with their roles, channels and members. IDs are stored as {@code long}s and
+ * strings as length-prefixed UTF-8. A snapshot is written to a temporary file first and then moved over the
+ * previous one, so a crash while writing never leaves a truncated snapshot behind. Loading maps the file into
+ * memory and decodes each guild into the same payload shape as a {@code GUILD_CREATE} event, so the regular
+ * entity constructors, cache flags and member cache policy apply to restored guilds as well.</p>
+ */
+public final class CacheSnapshot {
+
+    /** The bytes {@code J4FX}, marking a snapshot file. */
+    private static final int MAGIC = 0x4A344658;
+
+    /** The format version; snapshots of other versions are ignored. */
+    private static final int VERSION = 1;
+
+    private CacheSnapshot() {}
+
+    /**
+     * Writes a snapshot of the given guilds.
+     *
+     * @param file   The snapshot file to replace.
+     * @param guilds The guilds to store.
+     * @throws IOException If the snapshot cannot be written.
+     */
+    public static void write(Path file, Collection<Guild> guilds) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream stream = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, 64 * 1024))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(System.currentTimeMillis());
+                out.writeInt(guilds.size());
+                for (Guild guild : guilds) {
+                    writeGuild(out, guild);
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Loads a snapshot and decodes every guild into a {@code GUILD_CREATE}-shaped payload.
+     *
+     * @param file The snapshot file.
+     * @return The guild payloads, or an empty list if the file does not exist or has an unknown format.
+     * @throws IOException If the file cannot be read or is corrupt.
+     */
+    public static List<JsonNode> read(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return List.of();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 20 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return List.of();
+            }
+            buffer.getLong(); // written at
+            int count = buffer.getInt();
+            List<JsonNode> guilds = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                guilds.add(readGuild(buffer));
+            }
+            return guilds;
+        } catch (RuntimeException e) {
+            // BufferUnderflowException and friends: the file does not match its own headers
+            throw new IOException("Corrupt cache snapshot: " + file, e);
+        }
+    }
+
+    // --- Writing ---
+
+    private static void writeGuild(DataOutputStream out, Guild guild) throws IOException {
+        out.writeLong(guild.getIdLong());
+        writeString(out, guild.getName());
+        out.writeLong(guild.getOwnerIdLong());
+
+        List<Role> roles = guild.getRoles();
+        out.writeInt(roles.size());
+        for (Role role : roles) {
+            out.writeLong(role.getIdLong());
+            writeString(out, role.getName());
+            out.writeLong(role.getPermissionsRaw());
+            out.writeInt(role.getPosition());
+            out.writeInt(role.getColor());
+        }
+
+        List<GuildChannel> channels = guild.getChannels();
+        out.writeInt(channels.size());
+        for (GuildChannel channel : channels) {
+            writeChannel(out, channel);
+        }
+
+        List<Member> members = guild.getMembers();
+        out.writeInt(members.size());
+        for (Member member : members) {
+            User user = member.getUser();
+            out.writeLong(user.getIdLong());
+            writeString(out, user.getUsername());
+            writeString(out, user.getDiscriminator());
+            writeString(out, user.getAvatarHash());
+            out.writeBoolean(user.isBot());
+            writeString(out, member.getNickname());
+            long[] roleIds = member.getRoleIdsLong();
+            out.writeInt(roleIds.length);
+            for (long roleId : roleIds) {
+                out.writeLong(roleId);
+            }
+        }
+    }
+
+    private static void writeChannel(DataOutputStream out, GuildChannel channel) throws IOException {
+        out.writeInt(channel.getType().getKey());
+        out.writeLong(channel.getIdLong());
+        writeString(out, channel.getName());
+        out.writeLong(Snowflake.parse(channel.getParentId()));
+        out.writeInt(channel.getPosition());
+
+        List<PermissionOverwrite> overwrites = channel.getPermissionOverwrites();
+        out.writeInt(overwrites.size());
+        for (PermissionOverwrite overwrite : overwrites) {
+            out.writeLong(Snowflake.parse(overwrite.getId()));
+            out.writeByte(overwrite.getType().getValue());
+            out.writeLong(overwrite.getAllowedRaw());
+            out.writeLong(overwrite.getDeniedRaw());
+        }
+
+        if (channel instanceof TextChannel text) {
+            writeString(out, text.getTopic());
+            out.writeBoolean(text.isNSFW());
+        } else if (channel instanceof VoiceChannel voice) {
+            out.writeInt(voice.getBitrate());
+            out.writeInt(voice.getUserLimit());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // --- Reading ---
+
+    private static JsonNode readGuild(ByteBuffer in) {
+        JsonNodeFactory factory = JsonNodeFactory.instance;
+        ObjectNode guild = factory.objectNode();
+        guild.put("id", Snowflake.toString(in.getLong()));
+        guild.put("name", readString(in));
+        putId(guild, "owner_id", in.getLong());
+
+        ArrayNode roles = guild.putArray("roles");
+        for (int i = in.getInt(); i > 0; i--) {
+            ObjectNode role = roles.addObject();
+            role.put("id", Snowflake.toString(in.getLong()));
+            role.put("name", readString(in));
+            role.put("permissions", Long.toString(in.getLong()));
+            role.put("position", in.getInt());
+            role.put("color", in.getInt());
+        }
+
+        ArrayNode channels = guild.putArray("channels");
+        for (int i = in.getInt(); i > 0; i--) {
+            channels.add(readChannel(in));
+        }
+
+        ArrayNode members = guild.putArray("members");
+        for (int i = in.getInt(); i > 0; i--) {
+            ObjectNode member = members.addObject();
+            ObjectNode user = member.putObject("user");
+            user.put("id", Snowflake.toString(in.getLong()));
+            user.put("username", readString(in));
+            user.put("discriminator", readString(in));
+            user.put("avatar", readString(in));
+            user.put("bot", in.get() != 0);
+            member.put("nick", readString(in));
+            ArrayNode memberRoles = member.putArray("roles");
+            for (int j = in.getInt(); j > 0; j--) {
+                memberRoles.add(Snowflake.toString(in.getLong()));
+            }
+        }
+        return guild;
+    }
+
+    private static JsonNode readChannel(ByteBuffer in) {
+        ObjectNode channel = JsonNodeFactory.instance.objectNode();
+        int type = in.getInt();
+        channel.put("type", type);
+        channel.put("id", Snowflake.toString(in.getLong()));
+        channel.put("name", readString(in));
+        putId(channel, "parent_id", in.getLong());
+        channel.put("position", in.getInt());
+
+        ArrayNode overwrites = channel.putArray("permission_overwrites");
+        for (int i = in.getInt(); i > 0; i--) {
+            ObjectNode overwrite = overwrites.addObject();
+            overwrite.put("id", Snowflake.toString(in.getLong()));
+            overwrite.put("type", in.get());
+            overwrite.put("allow", Long.toString(in.getLong()));
+            overwrite.put("deny", Long.toString(in.getLong()));
+        }
+
+        ChannelType channelType = ChannelType.fromKey(type);
+        if (channelType == ChannelType.TEXT) {
+            channel.put("topic", readString(in));
+            channel.put("nsfw", in.get() != 0);
+        } else if (channelType == ChannelType.VOICE) {
+            channel.put("bitrate", in.getInt());
+            channel.put("user_limit", in.getInt());
+        }
+        return channel;
+    }
+
+    private static void putId(ObjectNode node, String field, long id) {
+        if (id == Snowflake.NONE) {
+            node.putNull(field);
+        } else {
+            node.put(field, Snowflake.toString(id));
+        }
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,528 @@
+package com.j4fluxer.internal.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.j4fluxer.entities.guild.Guild;
+import com.j4fluxer.entities.member.AbstractMember;
+import com.j4fluxer.entities.member.Member;
+import com.j4fluxer.entities.user.User;
+import com.j4fluxer.internal.json.EntityBuilder;
+import com.j4fluxer.internal.requests.Requester;
+import com.j4fluxer.internal.utils.Snowflake;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * A {@link MemberStore} that keeps member data in primitive columns instead of one object graph per member.
+ *
+ * <p>Every member occupies one row across a set of parallel arrays: the user ID as a {@code long}, the role IDs
+ * as a sorted {@code long[]}, and the username, nickname and avatar hash as UTF-8 bytes. Members with the same
+ * set of roles share a single role array, a nickname equal to the username shares its bytes, and
+ * discriminators are pooled. A member therefore costs a few array slots and one or two small byte arrays
+ * instead of a {@code Member}, a {@code User}, a role list and several strings, which keeps very large guilds
+ * from dominating the heap and the time the garbage collector spends tracing it.</p>
+ *
+ * <p>Members are handed out as flyweight views that only hold the user ID and read the current row on every
+ * access, so a view always reflects the latest cached data. The views built for {@link #remove(long)} are
+ * detached copies of the removed row instead.</p>
+ */
+public class CompactMemberStore implements MemberStore {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final long[] NO_ROLES = new long[0];
+    private static final byte[] NO_NAME = new byte[0];
+
+    /** The index is grown once it is more than this full. */
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private static final byte FLAG_BOT = 1;
+
+    private final Guild guild;
+    private final Requester requester;
+    private final StampedLock lock = new StampedLock();
+
+    // --- Columns, one row per member; rows [0, size) are in use ---
+    private long[] userIds = new long[DEFAULT_CAPACITY];
+    private long[][] roleIds = new long[DEFAULT_CAPACITY][];
+    private byte[][] usernames = new byte[DEFAULT_CAPACITY][];
+    private byte[][] nicknames = new byte[DEFAULT_CAPACITY][];
+    private byte[][] avatars = new byte[DEFAULT_CAPACITY][];
+    private String[] discriminators = new String[DEFAULT_CAPACITY];
+    private byte[] flags = new byte[DEFAULT_CAPACITY];
+    private int size;
+
+    // --- Open addressing index from user ID to row; the key 0 marks an empty slot ---
+    private long[] indexKeys = new long[DEFAULT_CAPACITY * 2];
+    private int[] indexRows = new int[DEFAULT_CAPACITY * 2];
+
+    /** Shared role arrays, so members with identical roles reference the same array. */
+    private final Map<RoleSet, long[]> roleSets = new HashMap<>();
+
+    /** Shared discriminator strings. */
+    private final Map<String, String> discriminatorPool = new HashMap<>();
+
+    /**
+     * Creates an empty store for the members of a guild.
+     *
+     * @param guild     The {@link Guild} the members belong to.
+     * @param requester The {@link Requester} used by the member views.
+     */
+    public CompactMemberStore(Guild guild, Requester requester) {
+        this.guild = guild;
+        this.requester = requester;
+    }
+
+    @Override
+    public Member get(long userId) {
+        long stamp = lock.readLock();
+        try {
+            return find(userId) >= 0 ? new MemberView(userId, null) : null;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean holds(Member member) {
+        if (!(member instanceof MemberView view) || view.store() != this || view.detached != null) {
+            return false;
+        }
+        // A live view reads whatever its row holds, so it only has to still exist
+        long stamp = lock.readLock();
+        try {
+            return find(view.userId) >= 0;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void put(Member member) {
+        if (member instanceof MemberView view && view.store() == this && view.detached == null) {
+            return;
+        }
+        User user = member.getUser();
+        long userId = user.getIdLong();
+        long[] roles = sortedRoles(member.getRoleIdsLong());
+        byte[] username = encode(user.getUsername());
+        String nickname = member.getNickname();
+        byte[] nick = nickname == null ? null : nickname.equals(user.getUsername()) ? username : encode(nickname);
+        byte[] avatar = user.getAvatarHash() != null ? encode(user.getAvatarHash()) : null;
+
+        long stamp = lock.writeLock();
+        try {
+            int row = find(userId);
+            if (row < 0) {
+                row = size;
+                if (row == userIds.length) {
+                    growColumns();
+                }
+                size++;
+                userIds[row] = userId;
+                indexPut(userId, row);
+            }
+            roleIds[row] = internRoles(roles);
+            usernames[row] = username;
+            nicknames[row] = nick;
+            avatars[row] = avatar;
+            discriminators[row] = internDiscriminator(user.getDiscriminator());
+            flags[row] = user.isBot() ? FLAG_BOT : 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Member remove(long userId) {
+        long stamp = lock.writeLock();
+        try {
+            int row = find(userId);
+            if (row < 0) {
+                return null;
+            }
+            Row removed = readRow(row);
+
+            // Move the last row into the gap so the columns stay dense
+            int last = --size;
+            if (row != last) {
+                userIds[row] = userIds[last];
+                roleIds[row] = roleIds[last];
+                usernames[row] = usernames[last];
+                nicknames[row] = nicknames[last];
+                avatars[row] = avatars[last];
+                discriminators[row] = discriminators[last];
+                flags[row] = flags[last];
+                indexPut(userIds[row], row);
+            }
+            userIds[last] = 0;
+            roleIds[last] = null;
+            usernames[last] = null;
+            nicknames[last] = null;
+            avatars[last] = null;
+            discriminators[last] = null;
+            flags[last] = 0;
+            indexRemove(userId);
+            return new MemberView(userId, removed);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean matches(long userId, JsonNode userJson, JsonNode memberJson) {
+        Row row = readRow(userId);
+        if (row == null) {
+            return false;
+        }
+        if (userJson != null) {
+            if (userJson.has("username") && !userJson.get("username").asText().equals(row.username())) return false;
+            if (userJson.has("discriminator") && !userJson.get("discriminator").asText().equals(row.discriminator())) return false;
+            if (userJson.has("bot") && userJson.get("bot").asBoolean() != row.bot()) return false;
+            if (userJson.has("avatar")) {
+                JsonNode avatar = userJson.get("avatar");
+                if (avatar.isNull() ? row.avatar() != null : !avatar.asText().equals(row.avatar())) return false;
+            }
+        }
+        if (memberJson.has("nick")) {
+            JsonNode nick = memberJson.get("nick");
+            if (nick.isNull() ? row.nickname() != null : !nick.asText().equals(row.nickname())) return false;
+        }
+        if (memberJson.has("roles") && memberJson.get("roles").isArray()) {
+            JsonNode roles = memberJson.get("roles");
+            long[] parsed = new long[roles.size()];
+            int i = 0;
+            for (JsonNode roleNode : roles) {
+                parsed[i++] = Snowflake.parse(roleNode);
+            }
+            Arrays.sort(parsed);
+            if (!Arrays.equals(parsed, row.roles())) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public List<Member> values() {
+        long stamp = lock.readLock();
+        try {
+            List<Member> views = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                views.add(new MemberView(userIds[row], null));
+            }
+            return views;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Only the user ID column is copied under the lock; the views are created one at a time while the
+     * action runs, so the action may safely modify the store.</p>
+     */
+    @Override
+    public void forEach(Consumer<? super Member> action) {
+        for (long userId : userIdSnapshot()) {
+            action.accept(new MemberView(userId, null));
+        }
+    }
+
+    @Override
+    public Stream<Member> stream() {
+        return Arrays.stream(userIdSnapshot()).<Member>mapToObj(userId -> new MemberView(userId, null));
+    }
+
+    @Override
+    public long[] userIds() {
+        return userIdSnapshot();
+    }
+
+    private long[] userIdSnapshot() {
+        long stamp = lock.readLock();
+        try {
+            return Arrays.copyOf(userIds, size);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Counts the allocated columns, the name bytes of every row, the pooled role sets and the index.</p>
+     */
+    @Override
+    public long estimateBytes() {
+        long stamp = lock.readLock();
+        try {
+            int capacity = userIds.length;
+            long bytes = MemoryEstimator.array(capacity, 8)                        // userIds
+                    + 5 * MemoryEstimator.array(capacity, MemoryEstimator.REFERENCE) // reference columns
+                    + MemoryEstimator.array(capacity, 1)                           // flags
+                    + MemoryEstimator.array(indexKeys.length, 8)
+                    + MemoryEstimator.array(indexRows.length, 4);
+            for (int row = 0; row < size; row++) {
+                bytes += bytes(usernames[row]) + bytes(nicknames[row]) + bytes(avatars[row]);
+            }
+            for (long[] roles : roleSets.values()) {
+                // The pooled array, plus the map entry and key wrapper pointing at it
+                bytes += MemoryEstimator.array(roles.length, 8) + 48;
+            }
+            for (String discriminator : discriminatorPool.values()) {
+                bytes += MemoryEstimator.string(discriminator) + 32;
+            }
+            return bytes;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static long bytes(byte[] column) {
+        return column == null || column == NO_NAME ? 0 : MemoryEstimator.array(column.length, 1);
+    }
+
+    // --- Rows ---
+
+    /**
+     * A decoded copy of one row.
+     */
+    private record Row(long userId, long[] roles, byte[] usernameBytes, byte[] nicknameBytes, byte[] avatarBytes,
+                       String discriminator, boolean bot) {
+
+        String username() { return decode(usernameBytes); }
+        String nickname() { return nicknameBytes != null ? decode(nicknameBytes) : null; }
+        String avatar() { return avatarBytes != null ? decode(avatarBytes) : null; }
+    }
+
+    private Row readRow(long userId) {
+        long stamp = lock.readLock();
+        try {
+            int row = find(userId);
+            return row >= 0 ? readRow(row) : null;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private Row readRow(int row) {
+        return new Row(userIds[row], roleIds[row], usernames[row], nicknames[row], avatars[row],
+                discriminators[row], (flags[row] & FLAG_BOT) != 0);
+    }
+
+    private void growColumns() {
+        int capacity = userIds.length * 2;
+        userIds = Arrays.copyOf(userIds, capacity);
+        roleIds = Arrays.copyOf(roleIds, capacity);
+        usernames = Arrays.copyOf(usernames, capacity);
+        nicknames = Arrays.copyOf(nicknames, capacity);
+        avatars = Arrays.copyOf(avatars, capacity);
+        discriminators = Arrays.copyOf(discriminators, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+    }
+
+    // --- Index ---
+
+    /** Returns the home slot of a user ID in an index of {@code mask + 1} slots; package-private for tests. */
+    static int slot(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private int find(long userId) {
+        if (userId == 0) {
+            return -1;
+        }
+        int mask = indexKeys.length - 1;
+        for (int i = slot(userId, mask); ; i = (i + 1) & mask) {
+            long key = indexKeys[i];
+            if (key == userId) return indexRows[i];
+            if (key == 0) return -1;
+        }
+    }
+
+    private void indexPut(long userId, int row) {
+        if (size > indexKeys.length * LOAD_FACTOR) {
+            rehash(indexKeys.length * 2);
+        }
+        int mask = indexKeys.length - 1;
+        int i = slot(userId, mask);
+        while (indexKeys[i] != 0 && indexKeys[i] != userId) {
+            i = (i + 1) & mask;
+        }
+        indexKeys[i] = userId;
+        indexRows[i] = row;
+    }
+
+    private void indexRemove(long userId) {
+        int mask = indexKeys.length - 1;
+        int i = slot(userId, mask);
+        while (indexKeys[i] != userId) {
+            if (indexKeys[i] == 0) return;
+            i = (i + 1) & mask;
+        }
+        // Backward shift deletion keeps probe chains intact without tombstones
+        int gap = i;
+        for (int j = (gap + 1) & mask; indexKeys[j] != 0; j = (j + 1) & mask) {
+            int home = slot(indexKeys[j], mask);
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                indexKeys[gap] = indexKeys[j];
+                indexRows[gap] = indexRows[j];
+                gap = j;
+            }
+        }
+        indexKeys[gap] = 0;
+        indexRows[gap] = 0;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = indexKeys;
+        int[] oldRows = indexRows;
+        indexKeys = new long[capacity];
+        indexRows = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == 0) continue;
+            int j = slot(oldKeys[i], mask);
+            while (indexKeys[j] != 0) {
+                j = (j + 1) & mask;
+            }
+            indexKeys[j] = oldKeys[i];
+            indexRows[j] = oldRows[i];
+        }
+    }
+
+    // --- Pools ---
+
+    /**
+     * Wraps a role array so it can be used as a key by content.
+     */
+    private record RoleSet(long[] ids) {
+        @Override public boolean equals(Object o) { return o instanceof RoleSet other && Arrays.equals(ids, other.ids); }
+        @Override public int hashCode() { return Arrays.hashCode(ids); }
+    }
+
+    private long[] internRoles(long[] roles) {
+        if (roles.length == 0) {
+            return NO_ROLES;
+        }
+        // Role sets of removed members are only dropped from the pool once it has clearly outgrown the store
+        if (roleSets.size() > size * 2 + DEFAULT_CAPACITY) {
+            roleSets.clear();
+            for (int row = 0; row < size; row++) {
+                if (roleIds[row] != null && roleIds[row].length > 0) {
+                    roleSets.putIfAbsent(new RoleSet(roleIds[row]), roleIds[row]);
+                }
+            }
+        }
+        return roleSets.computeIfAbsent(new RoleSet(roles), RoleSet::ids);
+    }
+
+    private String internDiscriminator(String discriminator) {
+        return discriminator != null ? discriminatorPool.computeIfAbsent(discriminator, d -> d) : null;
+    }
+
+    /** Sorts a copy of the given role IDs, leaving the member's own array untouched. */
+    private static long[] sortedRoles(long[] ids) {
+        if (ids.length == 0) {
+            return NO_ROLES;
+        }
+        long[] roles = ids.clone();
+        Arrays.sort(roles);
+        return roles;
+    }
+
+    private static byte[] encode(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : NO_NAME;
+    }
+
+    private static String decode(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // --- Views ---
+
+    /**
+     * A flyweight {@link Member} backed by a row of this store.
+     */
+    private final class MemberView extends AbstractMember {
+
+        private final long userId;
+
+        /** A copy of the row for views of removed members; {@code null} while the view reads the live row. */
+        private final Row detached;
+
+        MemberView(long userId, Row detached) {
+            super(CompactMemberStore.this.guild, CompactMemberStore.this.requester);
+            this.userId = userId;
+            this.detached = detached;
+        }
+
+        CompactMemberStore store() {
+            return CompactMemberStore.this;
+        }
+
+        /**
+         * Returns the current data of this member. A member that was removed since the view was created
+         * reads as a member without name, nickname or roles.
+         */
+        private Row row() {
+            if (detached != null) {
+                return detached;
+            }
+            Row row = readRow(userId);
+            return row != null ? row : new Row(userId, NO_ROLES, NO_NAME, null, null, "0000", false);
+        }
+
+        @Override
+        protected String getUserId() {
+            return Snowflake.toString(userId);
+        }
+
+        @Override
+        public User getUser() {
+            Row row = row();
+            return EntityBuilder.of(requester).createUser(userId, row.username(), row.discriminator(), row.avatar(), row.bot());
+        }
+
+        @Override
+        public String getNickname() {
+            return row().nickname();
+        }
+
+        @Override
+        public long[] getRoleIdsLong() {
+            return row().roles();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof MemberView other && other.store() == store() && other.userId == userId
+                    && (detached == null) == (other.detached == null);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(userId);
+        }
+
+        @Override
+        public String toString() {
+            return "Member:" + getEffectiveName() + "(" + getUserId() + ")";
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package com.j4fluxer.internal.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+
+/**
+ * A thread-safe hash map from primitive {@code long} keys to objects, used for the entity caches.
+ *
+ * <p>Keys and values are stored in two flat arrays with open addressing and linear probing, so an entry
+ * costs two array slots instead of a boxed key plus a node object. Lookups are lock-free in the common case
+ * (an optimistic {@link StampedLock} read that is only retried under a read lock if a write raced with it),
+ * while writes are serialized.</p>
+ *
+ * <p>The key {@code 0} is reserved to mark empty slots; it is never a valid snowflake, so looking it up
+ * simply returns {@code null}.</p>
+ *
+ * @param <V> The value type.
+ */
+public class LongObjectMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** The table is grown once it is more than this full. */
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private final StampedLock lock = new StampedLock();
+    private Table table;
+    private int size;
+
+    /**
+     * Creates an empty map.
+     */
+    public LongObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map sized for the given number of entries.
+     *
+     * @param expectedSize The number of entries the map should hold without resizing.
+     */
+    public LongObjectMap(int expectedSize) {
+        this.table = new Table(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Returns the value mapped to the given key.
+     *
+     * @param key The key.
+     * @return The value, or {@code null} if there is none.
+     */
+    public V get(long key) {
+        if (key == 0) return null;
+        long stamp = lock.tryOptimisticRead();
+        V value = find(table, key);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = find(table, key);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Checks whether the given key is mapped to a value.
+     *
+     * @param key The key.
+     * @return {@code true} if a value is present.
+     */
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Maps the given key to a value, replacing any previous value.
+     *
+     * @param key   The key; must not be {@code 0}.
+     * @param value The value; must not be {@code null}.
+     * @return The previous value, or {@code null} if there was none.
+     */
+    public V put(long key, V value) {
+        checkEntry(key, value);
+        long stamp = lock.writeLock();
+        try {
+            return insert(key, value);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Maps the given key to a value unless it is already mapped, in one atomic step.
+     *
+     * @param key   The key; must not be {@code 0}.
+     * @param value The value; must not be {@code null}.
+     * @return The value already present, or {@code null} if the given value was stored.
+     */
+    public V putIfAbsent(long key, V value) {
+        checkEntry(key, value);
+        long stamp = lock.writeLock();
+        try {
+            V existing = find(table, key);
+            if (existing != null) return existing;
+            insert(key, value);
+            return null;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the value mapped to the given key, creating and storing it if there is none.
+     * The factory runs while the map is locked for writing, so it must be cheap and must not use this map.
+     *
+     * @param key     The key; must not be {@code 0}.
+     * @param factory Creates the value if it is missing.
+     * @return The existing or newly created value.
+     */
+    public V computeIfAbsent(long key, LongFunction<? extends V> factory) {
+        V existing = get(key);
+        if (existing != null) return existing;
+
+        long stamp = lock.writeLock();
+        try {
+            existing = find(table, key);
+            if (existing != null) return existing;
+            V created = factory.apply(key);
+            checkEntry(key, created);
+            insert(key, created);
+            return created;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the value mapped to the given key.
+     *
+     * @param key The key.
+     * @return The removed value, or {@code null} if there was none.
+     */
+    public V remove(long key) {
+        if (key == 0) return null;
+        long stamp = lock.writeLock();
+        try {
+            return delete(key, null);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the given key only if it is currently mapped to the given value.
+     *
+     * @param key   The key.
+     * @param value The expected value.
+     * @return {@code true} if the entry was removed.
+     */
+    public boolean remove(long key, V value) {
+        if (key == 0 || value == null) return false;
+        long stamp = lock.writeLock();
+        try {
+            return delete(key, value) != null;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return The size of the map.
+     */
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Checks whether the map is empty.
+     *
+     * @return {@code true} if there are no entries.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns a snapshot of all values. Later changes to the map are not reflected in the list.
+     *
+     * @return A new list containing every value.
+     */
+    @SuppressWarnings("unchecked")
+    public List<V> values() {
+        long stamp = lock.readLock();
+        try {
+            List<V> result = new ArrayList<>(size);
+            for (Object value : table.values) {
+                if (value != null) result.add((V) value);
+            }
+            return result;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Passes every value to the given action without building a list first.
+     *
+     * <p>Each call copies the table's value array under the read lock and runs the action on the copy. The
+     * copy is O(capacity): one reference per slot, roughly 7 to 14 bytes per entry depending on the load.
+     * Every value present when the call starts is seen exactly once, and later changes are not reflected.
+     * Walking the live table instead could skip values that a concurrent removal shifts backwards. The action
+     * may safely modify the map.</p>
+     *
+     * @param action The action to run for each value.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> action) {
+        for (Object value : valueSlots()) {
+            if (value != null) action.accept((V) value);
+        }
+    }
+
+    /**
+     * Returns a sequential stream over the values without building a list first.
+     * Like {@link #forEachValue(Consumer)}, each call copies the table's value array when it is called.
+     *
+     * @return A stream of the values.
+     */
+    @SuppressWarnings("unchecked")
+    public Stream<V> stream() {
+        return Arrays.stream(valueSlots()).filter(Objects::nonNull).map(value -> (V) value);
+    }
+
+    /**
+     * Returns a snapshot of all keys. Later changes to the map are not reflected in the array.
+     *
+     * @return A new array containing every key.
+     */
+    public long[] keys() {
+        long stamp = lock.readLock();
+        try {
+            long[] result = new long[size];
+            int n = 0;
+            for (long key : table.keys) {
+                if (key != 0) result[n++] = key;
+            }
+            return result;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            table = new Table(DEFAULT_CAPACITY);
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // --- Internals; callers hold the lock (or validate an optimistic stamp afterwards) ---
+
+    /** Copies the value array under the read lock; empty slots are {@code null}. */
+    private Object[] valueSlots() {
+        long stamp = lock.readLock();
+        try {
+            return table.values.clone();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Probes for a key. Under an optimistic read the table may change underneath, so the probe is bounded
+     * by the table length and any result is only trusted after the stamp has been validated.
+     */
+    @SuppressWarnings("unchecked")
+    private V find(Table t, long key) {
+        long[] keys = t.keys;
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        for (int probes = 0; probes <= mask; probes++) {
+            long current = keys[index];
+            if (current == key) return (V) t.values[index];
+            if (current == 0) return null;
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V insert(long key, V value) {
+        Table t = table;
+        int mask = t.keys.length - 1;
+        int index = hash(key) & mask;
+        while (t.keys[index] != 0) {
+            if (t.keys[index] == key) {
+                V previous = (V) t.values[index];
+                t.values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        t.keys[index] = key;
+        t.values[index] = value;
+        if (++size > t.keys.length * LOAD_FACTOR) {
+            resize(t.keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Deletes a key using backward-shift deletion, so no tombstones are left behind and probe chains stay short.
+     *
+     * @param expected If not {@code null}, the key is only removed while it maps to this value.
+     */
+    @SuppressWarnings("unchecked")
+    private V delete(long key, V expected) {
+        Table t = table;
+        long[] keys = t.keys;
+        Object[] values = t.values;
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        while (keys[index] != key) {
+            if (keys[index] == 0) return null;
+            index = (index + 1) & mask;
+        }
+        V removed = (V) values[index];
+        if (expected != null && removed != expected) return null;
+
+        int gap = index;
+        int next = gap;
+        while (true) {
+            next = (next + 1) & mask;
+            long candidate = keys[next];
+            if (candidate == 0) break;
+            int home = hash(candidate) & mask;
+            // Entries whose home slot lies cyclically in (gap, next] are already as close to home as they can be
+            boolean stays = gap <= next ? (gap < home && home <= next) : (gap < home || home <= next);
+            if (stays) continue;
+            keys[gap] = candidate;
+            values[gap] = values[next];
+            gap = next;
+        }
+        keys[gap] = 0;
+        values[gap] = null;
+        size--;
+        return removed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity) {
+        Table old = table;
+        Table grown = new Table(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < old.keys.length; i++) {
+            long key = old.keys[i];
+            if (key == 0) continue;
+            int index = hash(key) & mask;
+            while (grown.keys[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            grown.keys[index] = key;
+            grown.values[index] = old.values[i];
+        }
+        // Published in one step, so optimistic readers never see a key array paired with a value array of another size
+        table = grown;
+    }
+
+    private static void checkEntry(long key, Object value) {
+        if (key == 0) throw new IllegalArgumentException("Key 0 is reserved");
+        if (value == null) throw new NullPointerException("Value cannot be null");
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int needed = (int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR);
+        int capacity = Integer.highestOneBit(Math.max(needed, DEFAULT_CAPACITY) - 1) << 1;
+        return Math.max(capacity, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * The key and value arrays, swapped together on resize.
+     */
+    private static final class Table {
+        final long[] keys;
+        final Object[] values;
+
+        Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+        }
+    }
+}
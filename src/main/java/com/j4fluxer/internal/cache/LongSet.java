@@ -0,0 +1,144 @@
+package com.j4fluxer.internal.cache;
+
+/**
+ * A hash set of primitive {@code long} values, used for secondary indexes such as the members of a role.
+ *
+ * <p>Values are stored in one flat array with open addressing and linear probing, so an element costs 8 to 16
+ * bytes instead of a boxed {@link Long} plus a hash map node. Like {@link LongObjectMap}, the value {@code 0}
+ * is reserved to mark empty slots.</p>
+ *
+ * <p>This class is <b>not</b> thread-safe; its owner has to guard every access with a lock.</p>
+ */
+public class LongSet {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /** The table is grown once it is more than this full. */
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] values = new long[DEFAULT_CAPACITY];
+    private int size;
+
+    /**
+     * Adds a value.
+     *
+     * @param value The value, must not be {@code 0}.
+     * @return {@code true} if the value was not contained before.
+     */
+    public boolean add(long value) {
+        if (value == 0) throw new IllegalArgumentException("Value 0 is reserved");
+        int mask = values.length - 1;
+        int index = hash(value) & mask;
+        while (values[index] != 0) {
+            if (values[index] == value) return false;
+            index = (index + 1) & mask;
+        }
+        values[index] = value;
+        if (++size > values.length * LOAD_FACTOR) {
+            resize(values.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a value is contained.
+     *
+     * @param value The value.
+     * @return {@code true} if the set contains the value.
+     */
+    public boolean contains(long value) {
+        if (value == 0) return false;
+        int mask = values.length - 1;
+        int index = hash(value) & mask;
+        while (values[index] != 0) {
+            if (values[index] == value) return true;
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Removes a value, using backward-shift deletion so no tombstones are left behind.
+     *
+     * @param value The value.
+     * @return {@code true} if the value was contained.
+     */
+    public boolean remove(long value) {
+        if (value == 0) return false;
+        long[] table = values;
+        int mask = table.length - 1;
+        int index = hash(value) & mask;
+        while (table[index] != value) {
+            if (table[index] == 0) return false;
+            index = (index + 1) & mask;
+        }
+
+        int gap = index;
+        int next = gap;
+        while (true) {
+            next = (next + 1) & mask;
+            long candidate = table[next];
+            if (candidate == 0) break;
+            int home = hash(candidate) & mask;
+            boolean stays = gap <= next ? (gap < home && home <= next) : (gap < home || home <= next);
+            if (stays) continue;
+            table[gap] = candidate;
+            gap = next;
+        }
+        table[gap] = 0;
+        size--;
+        return true;
+    }
+
+    /** @return The number of values in the set. */
+    public int size() {
+        return size;
+    }
+
+    /** @return {@code true} if the set is empty. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Copies the values into a new array.
+     *
+     * @return The values, in no particular order.
+     */
+    public long[] toArray() {
+        long[] result = new long[size];
+        int i = 0;
+        for (long value : values) {
+            if (value != 0) {
+                result[i++] = value;
+            }
+        }
+        return result;
+    }
+
+    /** @return The estimated heap retained by this set, in bytes. */
+    public long estimateBytes() {
+        return MemoryEstimator.align(MemoryEstimator.OBJECT_HEADER + MemoryEstimator.REFERENCE + 4)
+                + MemoryEstimator.array(values.length, 8);
+    }
+
+    private void resize(int capacity) {
+        long[] old = values;
+        long[] grown = new long[capacity];
+        int mask = capacity - 1;
+        for (long value : old) {
+            if (value == 0) continue;
+            int index = hash(value) & mask;
+            while (grown[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            grown[index] = value;
+        }
+        values = grown;
+    }
+
+    private static int hash(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
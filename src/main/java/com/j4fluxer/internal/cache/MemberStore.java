@@ -0,0 +1,108 @@
+package com.j4fluxer.internal.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.j4fluxer.entities.member.Member;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Holds the cached members of a single guild, keyed by user ID.
+ *
+ * <p>{@link ObjectMemberStore} keeps one {@link Member} object per member. {@link CompactMemberStore} keeps the
+ * member data in primitive columns and hands out lightweight views, which is meant for very large guilds.</p>
+ */
+public interface MemberStore {
+
+    /**
+     * Returns the cached member of the given user.
+     *
+     * @param userId The user ID.
+     * @return The cached {@link Member}, or {@code null} if it is not cached.
+     */
+    Member get(long userId);
+
+    /**
+     * Stores a member, replacing any member previously cached for the same user.
+     *
+     * @param member The member to store.
+     */
+    void put(Member member);
+
+    /**
+     * Removes the member of the given user.
+     *
+     * @param userId The user ID.
+     * @return The removed {@link Member}, or {@code null} if it was not cached.
+     */
+    Member remove(long userId);
+
+    /**
+     * Checks whether the cached member of the given user still reflects the given payload.
+     * Fields missing from a partial payload are not compared.
+     *
+     * @param userId     The user ID.
+     * @param userJson   The user payload, or {@code null} if the user is not part of the update.
+     * @param memberJson The member payload.
+     * @return {@code true} if the member is cached and none of the fields present in the payloads differ.
+     */
+    boolean matches(long userId, JsonNode userJson, JsonNode memberJson);
+
+    /**
+     * Checks whether a member is what this store already holds for its user, so storing it again would change
+     * nothing. For {@link CompactMemberStore} this is true of every live view of a cached row, even though
+     * {@link #get(long)} returns a new view on each call.
+     *
+     * @param member The member.
+     * @return {@code true} if the member is cached with exactly this data.
+     */
+    boolean holds(Member member);
+
+    /**
+     * Returns a snapshot of all cached members.
+     *
+     * @return A new list of the cached members.
+     */
+    List<Member> values();
+
+    /**
+     * Passes every cached member to the given action without building a list first.
+     * Each call copies one array of the store, such as the slot array of a hash table or a column of user
+     * IDs, and iterates the copy, so members added or removed meanwhile are not reflected.
+     *
+     * @param action The action to run for each member.
+     */
+    void forEach(Consumer<? super Member> action);
+
+    /**
+     * Returns a sequential stream over the cached members without building a list first.
+     * Like {@link #forEach(Consumer)}, each call copies one array of the store when it is called, so later
+     * additions and removals are not reflected.
+     *
+     * @return A stream of the cached members.
+     */
+    Stream<Member> stream();
+
+    /**
+     * Returns the user IDs of all cached members.
+     *
+     * @return A new array of the user IDs, in no particular order.
+     */
+    long[] userIds();
+
+    /**
+     * Returns the number of cached members.
+     *
+     * @return The number of members.
+     */
+    int size();
+
+    /**
+     * Estimates the heap retained by the cached members, excluding the shared user objects.
+     *
+     * @return The estimated size in bytes.
+     * @see MemoryEstimator
+     */
+    long estimateBytes();
+}
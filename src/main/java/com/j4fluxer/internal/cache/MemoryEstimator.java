@@ -0,0 +1,101 @@
+package com.j4fluxer.internal.cache;
+
+import com.j4fluxer.entities.channel.GuildChannel;
+import com.j4fluxer.entities.channel.TextChannel;
+import com.j4fluxer.entities.guild.Role;
+import com.j4fluxer.entities.member.Member;
+import com.j4fluxer.entities.message.CachedMessage;
+import com.j4fluxer.entities.user.User;
+
+/**
+ * Rough estimates of the heap retained by cached entities, for {@link com.j4fluxer.cache.CacheStats}.
+ *
+ * <p>The figures assume a 64-bit JVM with compressed references (12-byte object headers, 4-byte references,
+ * 8-byte alignment) and Latin-1 compact strings. They ignore sharing, such as interned strings, so they tend to
+ * over-estimate slightly, which is the safe direction for sizing a heap.</p>
+ */
+public final class MemoryEstimator {
+
+    /** The header of a plain object. */
+    static final int OBJECT_HEADER = 12;
+
+    /** The header of an array, including its length. */
+    static final int ARRAY_HEADER = 16;
+
+    /** A compressed object reference. */
+    static final int REFERENCE = 4;
+
+    /** One slot of a {@link LongObjectMap} at its typical load: a key, a value reference and some free space. */
+    static final int MAP_SLOT = 2 * (8 + REFERENCE);
+
+    private MemoryEstimator() {}
+
+    /**
+     * Rounds a size up to the JVM's object alignment.
+     *
+     * @param bytes The unaligned size.
+     * @return The aligned size.
+     */
+    public static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * Estimates the size of an array.
+     *
+     * @param length      The number of elements.
+     * @param elementSize The size of each element in bytes.
+     * @return The estimated size in bytes.
+     */
+    public static long array(long length, int elementSize) {
+        return align(ARRAY_HEADER + length * elementSize);
+    }
+
+    /**
+     * Estimates the size of a string together with its backing array.
+     *
+     * @param value The string, may be {@code null}.
+     * @return The estimated size in bytes, {@code 0} for {@code null}.
+     */
+    public static long string(String value) {
+        if (value == null) return 0;
+        return align(OBJECT_HEADER + REFERENCE + 4 + 4) + array(value.length(), 1);
+    }
+
+    /** @return The estimated size of a cached role. */
+    public static long role(Role role) {
+        return align(OBJECT_HEADER + 8 + REFERENCE + 8 + 4 + 4) + string(role.getName()) + MAP_SLOT;
+    }
+
+    /** @return The estimated size of a cached channel, including its permission overwrites. */
+    public static long channel(GuildChannel channel) {
+        // The channel itself plus its current state: name, parent, position, overwrites and the type's own fields
+        long size = align(OBJECT_HEADER + 8 + 3 * REFERENCE) + align(OBJECT_HEADER + 2 * REFERENCE + 8 + 4 + 8)
+                + string(channel.getName()) + MAP_SLOT;
+        int overwrites = channel.getPermissionOverwrites().size();
+        if (overwrites > 0) {
+            size += array(overwrites, REFERENCE) + overwrites * (align(OBJECT_HEADER + 2 * REFERENCE + 16) + 40);
+        }
+        if (channel instanceof TextChannel text) {
+            size += string(text.getTopic());
+        }
+        return size;
+    }
+
+    /** @return The estimated size of a user object. */
+    public static long user(User user) {
+        return align(OBJECT_HEADER + 8 + 4 * REFERENCE + 1) + string(user.getUsername())
+                + string(user.getDiscriminator()) + string(user.getAvatarHash());
+    }
+
+    /** @return The estimated size of a member object, excluding its shared user. */
+    public static long member(Member member) {
+        int roles = member.getRoleIdsLong().length;
+        return align(OBJECT_HEADER + 5 * REFERENCE) + string(member.getNickname()) + array(roles, 8) + MAP_SLOT;
+    }
+
+    /** @return The estimated size of a cached message, excluding its shared author. */
+    public static long message(CachedMessage message) {
+        return align(OBJECT_HEADER + 3 * 8 + 2 * REFERENCE) + string(message.getContent());
+    }
+}
@@ -0,0 +1,272 @@
+package com.j4fluxer.internal.cache;
+
+import com.j4fluxer.cache.CacheType;
+import com.j4fluxer.entities.message.CachedMessage;
+import com.j4fluxer.internal.utils.Snowflake;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A bounded cache of the most recent messages of every channel.
+ *
+ * <p>Each channel gets a fixed-size ring buffer, so a busy channel only ever overwrites its own oldest
+ * messages. On top of that, the approximate size of all cached messages is kept under a global byte budget:
+ * once it is exceeded, the oldest messages are evicted across all channels. Edited messages are replaced in
+ * their slot, and deleted messages are removed from it.</p>
+ *
+ * <p>The cache is filled and drained from the gateway thread, but may be read from listener threads, so every
+ * operation runs under the cache's monitor. All operations are constant time or bounded by the ring size.</p>
+ */
+public final class MessageCache {
+
+    /** Rough size of the bookkeeping of a cached message: its entry, its ring slot and its queue slot. */
+    private static final int ENTRY_OVERHEAD = 40;
+
+    private final int messagesPerChannel;
+    private final long maxBytes;
+    private final CacheMetrics metrics;
+
+    private final LongObjectMap<Ring> channels = new LongObjectMap<>();
+
+    /** Every entry in insertion order, for evicting the oldest entry when the byte budget is exceeded. */
+    private final ArrayDeque<Entry> insertionOrder = new ArrayDeque<>();
+
+    private long usedBytes;
+    private int liveEntries;
+
+    /**
+     * Creates an empty message cache.
+     *
+     * @param messagesPerChannel The number of messages kept per channel.
+     * @param maxBytes           The approximate number of bytes all cached messages may use together.
+     * @param metrics            The counters that lookups and evictions are recorded in.
+     */
+    public MessageCache(int messagesPerChannel, long maxBytes, CacheMetrics metrics) {
+        if (messagesPerChannel <= 0) {
+            throw new IllegalArgumentException("messagesPerChannel must be positive");
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+        this.messagesPerChannel = messagesPerChannel;
+        this.maxBytes = maxBytes;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Stores a new message, overwriting the oldest message of its channel if the channel's ring is full.
+     *
+     * @param message The message to store.
+     */
+    public synchronized void add(CachedMessage message) {
+        long channelId = message.getChannelIdLong();
+        if (channelId == Snowflake.NONE) {
+            return;
+        }
+        Ring ring = channels.get(channelId);
+        if (ring == null) {
+            ring = new Ring(channelId, messagesPerChannel);
+            channels.put(channelId, ring);
+        }
+        int slot = ring.next;
+        ring.next = (slot + 1) % ring.slots.length;
+        if (ring.slots[slot] != null) {
+            release(ring.slots[slot]);
+            metrics.recordEvictions(CacheType.MESSAGE, 1);
+        }
+        store(ring, slot, message);
+        trim();
+    }
+
+    /**
+     * Replaces a cached message with its edited version.
+     *
+     * @param channelId  The ID of the channel the message was sent in.
+     * @param messageId  The ID of the edited message.
+     * @param newContent The new content, or {@code null} if the edit did not change it.
+     * @return The message as it was cached before the edit, or {@code null} if it was not cached.
+     */
+    public synchronized CachedMessage update(long channelId, long messageId, String newContent) {
+        Ring ring = channels.get(channelId);
+        int slot = find(ring, messageId);
+        if (slot < 0) {
+            return null;
+        }
+        Entry previous = ring.slots[slot];
+        if (newContent != null && !newContent.equals(previous.message.getContent())) {
+            release(previous);
+            store(ring, slot, previous.message.withContent(newContent));
+            trim();
+        }
+        return previous.message;
+    }
+
+    /**
+     * Removes a deleted message.
+     *
+     * @param channelId The ID of the channel the message was sent in.
+     * @param messageId The ID of the deleted message.
+     * @return The removed message, or {@code null} if it was not cached.
+     */
+    public synchronized CachedMessage remove(long channelId, long messageId) {
+        Ring ring = channels.get(channelId);
+        int slot = find(ring, messageId);
+        if (slot < 0) {
+            return null;
+        }
+        Entry entry = ring.slots[slot];
+        release(entry);
+        return entry.message;
+    }
+
+    /**
+     * Removes several deleted messages of the same channel.
+     *
+     * @param channelId  The ID of the channel the messages were sent in.
+     * @param messageIds The IDs of the deleted messages.
+     * @return The removed messages that were cached, in the order of the given IDs.
+     */
+    public synchronized List<CachedMessage> removeAll(long channelId, long[] messageIds) {
+        List<CachedMessage> removed = new ArrayList<>();
+        for (long messageId : messageIds) {
+            CachedMessage message = remove(channelId, messageId);
+            if (message != null) {
+                removed.add(message);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Drops all cached messages of a channel, for example because it was deleted.
+     *
+     * @param channelId The channel ID.
+     */
+    public synchronized void removeChannel(long channelId) {
+        Ring ring = channels.remove(channelId);
+        if (ring != null) {
+            for (Entry entry : ring.slots) {
+                if (entry != null) {
+                    release(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Looks up a cached message.
+     *
+     * @param channelId The ID of the channel the message was sent in.
+     * @param messageId The message ID.
+     * @return The cached message, or {@code null} if it is not cached.
+     */
+    public synchronized CachedMessage get(long channelId, long messageId) {
+        Ring ring = channels.get(channelId);
+        int slot = find(ring, messageId);
+        return slot >= 0 ? ring.slots[slot].message : null;
+    }
+
+    /** @return The number of cached messages. */
+    public synchronized int size() {
+        return liveEntries;
+    }
+
+    /** @return The approximate number of bytes used by the cached messages. */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /** Finds the slot of a message and records the lookup. */
+    private int find(Ring ring, long messageId) {
+        int slot = ring != null ? ring.indexOf(messageId) : -1;
+        metrics.recordLookup(CacheType.MESSAGE, slot >= 0);
+        return slot;
+    }
+
+    private void store(Ring ring, int slot, CachedMessage message) {
+        Entry entry = new Entry(message, ring, slot);
+        ring.slots[slot] = entry;
+        insertionOrder.addLast(entry);
+        usedBytes += entry.bytes;
+        liveEntries++;
+    }
+
+    /** Takes an entry out of its ring. It stays in {@link #insertionOrder} until it is polled or compacted. */
+    private void release(Entry entry) {
+        entry.ring.slots[entry.slot] = null;
+        entry.live = false;
+        usedBytes -= entry.bytes;
+        liveEntries--;
+    }
+
+    /** Evicts the oldest messages until the byte budget is met, and drops released entries from the queue. */
+    private void trim() {
+        while (usedBytes > maxBytes) {
+            Entry oldest = insertionOrder.pollFirst();
+            if (oldest == null) {
+                break;
+            }
+            if (oldest.live) {
+                release(oldest);
+                metrics.recordEvictions(CacheType.MESSAGE, 1);
+                if (oldest.ring.isEmpty()) {
+                    channels.remove(oldest.ring.channelId);
+                }
+            }
+        }
+        // Overwritten, edited and deleted entries are only released, so the queue would keep growing on a
+        // cache that never reaches its byte budget. Compact it once most of it is dead weight.
+        if (insertionOrder.size() > 2 * liveEntries + 64) {
+            insertionOrder.removeIf(entry -> !entry.live);
+        }
+    }
+
+    private static final class Ring {
+        final long channelId;
+        final Entry[] slots;
+        int next;
+
+        Ring(long channelId, int capacity) {
+            this.channelId = channelId;
+            this.slots = new Entry[capacity];
+        }
+
+        int indexOf(long messageId) {
+            // Search backwards from the newest slot, since recent messages are edited and deleted the most
+            for (int i = 1; i <= slots.length; i++) {
+                int slot = Math.floorMod(next - i, slots.length);
+                Entry entry = slots[slot];
+                if (entry != null && entry.message.getIdLong() == messageId) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        boolean isEmpty() {
+            for (Entry entry : slots) {
+                if (entry != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Entry {
+        final CachedMessage message;
+        final Ring ring;
+        final int slot;
+        final int bytes;
+        boolean live = true;
+
+        Entry(CachedMessage message, Ring ring, int slot) {
+            this.message = message;
+            this.ring = ring;
+            this.slot = slot;
+            this.bytes = ENTRY_OVERHEAD + (int) MemoryEstimator.message(message);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.j4fluxer.internal.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.j4fluxer.entities.member.Member;
+import com.j4fluxer.entities.member.MemberImpl;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * The default {@link MemberStore}, keeping one {@link Member} object per cached member.
+ */
+public class ObjectMemberStore implements MemberStore {
+
+    private final LongObjectMap<Member> members = new LongObjectMap<>();
+
+    @Override
+    public Member get(long userId) {
+        return members.get(userId);
+    }
+
+    @Override
+    public void put(Member member) {
+        long userId = member.getUser().getIdLong();
+        if (members.get(userId) != member) {
+            members.put(userId, member);
+        }
+    }
+
+    @Override
+    public Member remove(long userId) {
+        return members.remove(userId);
+    }
+
+    @Override
+    public boolean matches(long userId, JsonNode userJson, JsonNode memberJson) {
+        return members.get(userId) instanceof MemberImpl cached && cached.matches(userJson, memberJson);
+    }
+
+    @Override
+    public boolean holds(Member member) {
+        return members.get(member.getUser().getIdLong()) == member;
+    }
+
+    @Override
+    public List<Member> values() {
+        return members.values();
+    }
+
+    @Override
+    public void forEach(Consumer<? super Member> action) {
+        members.forEachValue(action);
+    }
+
+    @Override
+    public Stream<Member> stream() {
+        return members.stream();
+    }
+
+    @Override
+    public long[] userIds() {
+        return members.keys();
+    }
+
+    @Override
+    public int size() {
+        return members.size();
+    }
+
+    @Override
+    public long estimateBytes() {
+        long bytes = 0;
+        for (Member member : members.values()) {
+            bytes += MemoryEstimator.member(member);
+        }
+        return bytes;
+    }
+}
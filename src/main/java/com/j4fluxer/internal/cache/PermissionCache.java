@@ -0,0 +1,115 @@
+package com.j4fluxer.internal.cache;
+
+import com.j4fluxer.entities.channel.GuildChannel;
+import com.j4fluxer.entities.guild.Guild;
+import com.j4fluxer.entities.member.Member;
+import com.j4fluxer.internal.utils.PermissionUtil;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Remembers the effective permissions of the members of one guild, so repeated checks cost a map lookup
+ * instead of walking roles and overwrites.
+ *
+ * <p>Each member has an entry holding its guild permissions and, filled lazily, its permissions in every
+ * channel it was checked in. An entry is only used while the member still has the roles it was computed
+ * for, so stale member objects never see results of a newer role set and vice versa. Role, overwrite and
+ * owner changes affect many members at once; they bump a generation counter that makes every entry
+ * stale.</p>
+ */
+public final class PermissionCache {
+
+    private final Guild guild;
+    private final LongObjectMap<Entry> entries = new LongObjectMap<>();
+    private final AtomicInteger generation = new AtomicInteger();
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param guild The guild whose members are cached.
+     */
+    public PermissionCache(Guild guild) {
+        this.guild = guild;
+    }
+
+    /**
+     * Returns the guild-wide permissions of a member.
+     *
+     * @param member The member.
+     * @return The permission bitmask.
+     */
+    public long getPermissions(Member member) {
+        return entry(member).guildPermissions;
+    }
+
+    /**
+     * Returns the permissions of a member in a channel.
+     *
+     * @param member  The member.
+     * @param channel The channel, which must belong to the guild.
+     * @return The permission bitmask.
+     */
+    public long getPermissions(Member member, GuildChannel channel) {
+        Entry entry = entry(member);
+        Long cached = entry.channelPermissions.get(channel.getIdLong());
+        if (cached != null) {
+            return cached;
+        }
+        long permissions = PermissionUtil.applyOverwrites(entry.guildPermissions, guild, member, channel);
+        entry.channelPermissions.put(channel.getIdLong(), permissions);
+        return permissions;
+    }
+
+    /**
+     * Drops the cached permissions of one member, for example because its roles changed or it left.
+     *
+     * @param userId The ID of the member's user.
+     */
+    public void invalidate(long userId) {
+        entries.remove(userId);
+    }
+
+    /**
+     * Drops the cached permissions of every member, because a role, an overwrite or the owner changed.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    /** @return The number of members with cached permissions. */
+    public int size() {
+        return entries.size();
+    }
+
+    private Entry entry(Member member) {
+        long userId = member.getUser().getIdLong();
+        long[] roleIds = member.getRoleIdsLong();
+        int currentGeneration = generation.get();
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.generation == currentGeneration
+                && (entry.roleIds == roleIds || Arrays.equals(entry.roleIds, roleIds))) {
+            return entry;
+        }
+        // Read the generation before computing, so an invalidation that races with us marks the result stale
+        entry = new Entry(currentGeneration, roleIds, PermissionUtil.computeGuildPermissions(guild, member));
+        if (userId != 0) {
+            entries.put(userId, entry);
+        }
+        return entry;
+    }
+
+    private static final class Entry {
+        final int generation;
+        final long[] roleIds;
+        final long guildPermissions;
+        final LongObjectMap<Long> channelPermissions = new LongObjectMap<>(4);
+
+        Entry(int generation, long[] roleIds, long guildPermissions) {
+            this.generation = generation;
+            this.roleIds = roleIds;
+            this.guildPermissions = guildPermissions;
+        }
+    }
+}
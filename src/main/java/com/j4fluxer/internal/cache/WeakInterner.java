@@ -0,0 +1,116 @@
+package com.j4fluxer.internal.cache;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A thread-safe identity map that hands out one canonical instance per key while holding the
+ * instances only weakly.
+ *
+ * <p>As long as anyone still references an instance, looking up its key returns that same instance.
+ * Once it becomes unreachable, the garbage collector may reclaim it and the entry is dropped the next time
+ * the interner is used, so the map never keeps entities alive on its own.</p>
+ *
+ * @param <K> The key type, usually a snowflake ID.
+ * @param <V> The type of the interned instances.
+ */
+public class WeakInterner<K, V> {
+
+    private final Map<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<V> queue = new ReferenceQueue<>();
+
+    /**
+     * Returns the canonical instance for the given key, creating it if there is none.
+     *
+     * @param key     The key to look up.
+     * @param factory Creates a new instance if no live one exists.
+     * @return The canonical instance for the key.
+     */
+    public V get(K key, Function<? super K, ? extends V> factory) {
+        expunge();
+        Entry<K, V> entry = entries.get(key);
+        V value = entry != null ? entry.get() : null;
+        if (value != null) return value;
+
+        V created = factory.apply(key);
+        Entry<K, V> winner = entries.compute(key, (k, existing) ->
+                existing != null && existing.get() != null ? existing : new Entry<>(k, created, queue));
+        V canonical = winner.get();
+        return canonical != null ? canonical : created;
+    }
+
+    /**
+     * Returns the canonical instance for the given key without creating one.
+     *
+     * @param key The key to look up.
+     * @return The live instance, or {@code null} if there is none.
+     */
+    public V getIfPresent(K key) {
+        expunge();
+        Entry<K, V> entry = entries.get(key);
+        return entry != null ? entry.get() : null;
+    }
+
+    /**
+     * Replaces the canonical instance for the given key.
+     *
+     * @param key   The key.
+     * @param value The new canonical instance.
+     */
+    public void put(K key, V value) {
+        expunge();
+        entries.put(key, new Entry<>(key, value, queue));
+    }
+
+    /**
+     * Returns the number of entries, including ones whose instance was just reclaimed.
+     *
+     * @return The approximate number of live instances.
+     */
+    public int size() {
+        expunge();
+        return entries.size();
+    }
+
+    /**
+     * Calls the given action for every live instance.
+     *
+     * @param action The action to run.
+     */
+    public void forEachValue(Consumer<? super V> action) {
+        expunge();
+        for (Entry<K, V> entry : entries.values()) {
+            V value = entry.get();
+            if (value != null) {
+                action.accept(value);
+            }
+        }
+    }
+
+    /**
+     * Removes the entries whose instances have been garbage collected.
+     */
+    @SuppressWarnings("unchecked")
+    private void expunge() {
+        Entry<K, V> entry;
+        while ((entry = (Entry<K, V>) queue.poll()) != null) {
+            entries.remove(entry.key, entry);
+        }
+    }
+
+    /**
+     * A weak reference that remembers its key, so it can be removed once it is cleared.
+     */
+    private static final class Entry<K, V> extends WeakReference<V> {
+        final K key;
+
+        Entry(K key, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
@@ -3,10 +3,17 @@ package com.j4fluxer.internal.gateway;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.j4fluxer.entities.OnlineStatus;
+import com.j4fluxer.entities.channel.Channel;
+import com.j4fluxer.entities.channel.GuildChannel;
 import com.j4fluxer.entities.guild.GuildImpl;
+import com.j4fluxer.entities.guild.Role;
+import com.j4fluxer.entities.member.Member;
+import com.j4fluxer.entities.member.MemberImpl;
+import com.j4fluxer.entities.message.CachedMessage;
 import com.j4fluxer.entities.message.Message;
 import com.j4fluxer.entities.message.MessageImpl;
 import com.j4fluxer.events.Event;
+import com.j4fluxer.events.channel.ChannelUpdateEvent;
 import com.j4fluxer.events.guild.*;
 import com.j4fluxer.events.guild.member.GuildMemberJoinEvent;
 import com.j4fluxer.events.guild.member.GuildMemberLeaveEvent;
@@ -15,11 +22,16 @@ import com.j4fluxer.events.message.*;
 import com.j4fluxer.events.session.ReadyEvent;
 import com.j4fluxer.events.user.TypingStartEvent;
 import com.j4fluxer.fluxer.FluxerImpl;
+import com.j4fluxer.internal.cache.MessageCache;
+import com.j4fluxer.internal.json.EntityBuilder;
+import com.j4fluxer.internal.utils.Snowflake;
 import org.java_websocket.client.WebSocketClient;
 import org.java_websocket.handshake.ServerHandshake;
 import org.json.JSONObject;
 
 import java.net.URI;
+import java.util.List;
+import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
 
@@ -42,6 +54,9 @@ public class GatewayClient extends WebSocketClient {
     /** The core API implementation instance. */
     private final FluxerImpl api;
 
+    /** The thread delivering gateway messages, which also runs the event listeners. */
+    private volatile Thread eventThread;
+
     /** JSON mapper for converting gateway payloads into data nodes. */
     private final ObjectMapper mapper = new ObjectMapper();
 
@@ -101,6 +116,17 @@ public class GatewayClient extends WebSocketClient {
         System.out.println("[GATEWAY] Status Changed: " + status.getKey());
     }
 
+    /**
+     * Checks whether the calling thread is the one dispatching gateway events.
+     * <p>Blocking this thread stalls the intake of every further event, so cache lookups on it must not wait
+     * for REST requests.</p>
+     *
+     * @return {@code true} if called from the event thread.
+     */
+    public boolean isEventThread() {
+        return Thread.currentThread() == eventThread;
+    }
+
     /**
      * Handles incoming messages from the Fluxer Gateway.
      * <p>Parses OpCodes (like Heartbeat requests) and dispatches typed events
@@ -110,6 +136,7 @@ public class GatewayClient extends WebSocketClient {
      */
     @Override
     public void onMessage(String message) {
+        eventThread = Thread.currentThread();
         try {
             JSONObject json = new JSONObject(message);
             int op = json.optInt("op", -1);
@@ -130,17 +157,39 @@ public class GatewayClient extends WebSocketClient {
             if (type == null || type.isEmpty()) return;
 
             Event event = null;
+            MessageCache messageCache = api.getMessageCache();
 
             // Dispatch events based on Fluxer Event Type
             switch (type) {
                 case "READY":
                     System.out.println("[LOG] Login Successful: " + d.get("user").get("username").asText());
-                    event = new ReadyEvent(api, d);
+                    api.setSelfUserId(Snowflake.parse(d.get("user").get("id")));
+                    api.reconcileSnapshot(d.get("guilds"));
+                    if (api.hasSubscribers(ReadyEvent.class)) event = new ReadyEvent(api, d);
                     break;
 
                 case "MESSAGE_CREATE":
+                    boolean inGuild = d.hasNonNull("guild_id");
+                    boolean wanted = api.hasSubscribers(inGuild ? GuildMessageReceivedEvent.class : PrivateMessageReceivedEvent.class);
+                    if (!wanted && messageCache == null) {
+                        // Nobody needs the message, only the cache needs its member
+                        if (inGuild && d.has("member") && d.has("author")) {
+                            GuildImpl memberGuild = (GuildImpl) api.getCachedGuild(d.get("guild_id").asText());
+                            if (memberGuild != null) {
+                                memberGuild.upsertMember(d.get("author"), d.get("member"));
+                            }
+                        }
+                        break;
+                    }
                     Message msg = new MessageImpl(d, api.getRequester());
+                    if (msg.getMember() != null) {
+                        cacheMember(msg.getGuildId(), msg.getMember());
+                    }
+                    if (messageCache != null) {
+                        messageCache.add(CachedMessage.of(msg));
+                    }
 
+                    if (!wanted) break;
                     if (msg.getGuildId() != null) {
                         api.fireEvent(new GuildMessageReceivedEvent(api, msg));
                     } else {
@@ -148,37 +197,76 @@ public class GatewayClient extends WebSocketClient {
                     }
                     break;
                 case "MESSAGE_UPDATE":
-                    event = new MessageUpdateEvent(api, d);
+                    CachedMessage oldMessage = null;
+                    if (messageCache != null) {
+                        // Updates without content (e.g. embeds being resolved) keep the cached content
+                        String newContent = d.hasNonNull("content") ? d.get("content").asText() : null;
+                        oldMessage = messageCache.update(Snowflake.parse(d.get("channel_id")),
+                                Snowflake.parse(d.get("id")), newContent);
+                    }
+                    if (api.hasSubscribers(MessageUpdateEvent.class)) event = new MessageUpdateEvent(api, d, oldMessage);
                     break;
                 case "MESSAGE_DELETE":
-                    event = new MessageDeleteEvent(api, d);
+                    CachedMessage deletedMessage = null;
+                    if (messageCache != null) {
+                        deletedMessage = messageCache.remove(Snowflake.parse(d.get("channel_id")),
+                                Snowflake.parse(d.get("id")));
+                    }
+                    if (api.hasSubscribers(MessageDeleteEvent.class)) event = new MessageDeleteEvent(api, d, deletedMessage);
                     break;
                 case "MESSAGE_DELETE_BULK":
-                    event = new MessageBulkDeleteEvent(api, d);
+                    List<CachedMessage> deletedMessages = List.of();
+                    if (messageCache != null && d.has("ids")) {
+                        JsonNode ids = d.get("ids");
+                        long[] messageIds = new long[ids.size()];
+                        for (int i = 0; i < messageIds.length; i++) {
+                            messageIds[i] = Snowflake.parse(ids.get(i));
+                        }
+                        deletedMessages = messageCache.removeAll(Snowflake.parse(d.get("channel_id")), messageIds);
+                    }
+                    if (api.hasSubscribers(MessageBulkDeleteEvent.class)) event = new MessageBulkDeleteEvent(api, d, deletedMessages);
                     break;
                 case "MESSAGE_REACTION_ADD":
-                    event = new MessageReactionAddEvent(api, d);
+                    if (api.hasSubscribers(MessageReactionAddEvent.class)) event = new MessageReactionAddEvent(api, d);
                     break;
                 case "MESSAGE_REACTION_REMOVE":
-                    event = new MessageReactionRemoveEvent(api, d);
+                    if (api.hasSubscribers(MessageReactionRemoveEvent.class)) event = new MessageReactionRemoveEvent(api, d);
                     break;
 
                 case "CHANNEL_CREATE":
-                case "CHANNEL_UPDATE":
                     if (d.has("guild_id")) {
                         String gId = d.get("guild_id").asText();
-                        GuildImpl guild = (GuildImpl) api.getGuildById(gId);
+                        GuildImpl guild = (GuildImpl) api.getCachedGuild(gId);
                         if (guild != null) {
                             guild.updateChannelCache(d);
                         }
                     }
                     break;
+                case "CHANNEL_UPDATE":
+                    if (d.has("guild_id")) {
+                        GuildImpl guild = (GuildImpl) api.getCachedGuild(d.get("guild_id").asText());
+                        if (guild != null) {
+                            Map<String, Object> oldValues = guild.applyChannelUpdate(d);
+                            if (!api.hasSubscribers(ChannelUpdateEvent.class)) break;
+                            // Without a cached channel there is nothing to patch, so the event gets a fresh one
+                            Channel channel = oldValues != null
+                                    ? guild.getGuildChannelById(d.get("id").asText())
+                                    : EntityBuilder.of(api.getRequester()).createChannel(d, guild);
+                            if (channel instanceof GuildChannel guildChannel && (oldValues == null || !oldValues.isEmpty())) {
+                                event = new ChannelUpdateEvent(api, guildChannel, oldValues);
+                            }
+                        }
+                    }
+                    break;
 
                 case "CHANNEL_DELETE":
+                    if (messageCache != null) {
+                        messageCache.removeChannel(Snowflake.parse(d.get("id")));
+                    }
                     if (d.has("guild_id")) {
                         String gId = d.get("guild_id").asText();
                         String cId = d.get("id").asText();
-                        GuildImpl guild = (GuildImpl) api.getGuildById(gId);
+                        GuildImpl guild = (GuildImpl) api.getCachedGuild(gId);
                         if (guild != null) {
                             guild.removeChannelFromCache(cId);
                         }
@@ -188,40 +276,65 @@ public class GatewayClient extends WebSocketClient {
                 case "GUILD_CREATE":
                     GuildImpl guild = new GuildImpl(d, api.getRequester());
                     api.cacheGuild(guild);
-                    event = new GuildJoinEvent(api, d);
+                    if (api.hasSubscribers(GuildJoinEvent.class)) event = new GuildJoinEvent(api, guild);
+                    break;
+                case "GUILD_UPDATE":
+                    GuildImpl updatedGuild = (GuildImpl) api.getCachedGuild(d.get("id").asText());
+                    if (updatedGuild != null) {
+                        Map<String, Object> changes = updatedGuild.update(d);
+                        if (!changes.isEmpty() && api.hasSubscribers(GuildUpdateEvent.class)) {
+                            event = new GuildUpdateEvent(api, updatedGuild, changes);
+                        }
+                    }
                     break;
                 case "GUILD_DELETE":
                     if (!d.has("unavailable") || !d.get("unavailable").asBoolean()) {
-                        event = new GuildLeaveEvent(api, d);
+                        api.uncacheGuild(d.get("id").asText());
+                        if (api.hasSubscribers(GuildLeaveEvent.class)) event = new GuildLeaveEvent(api, d);
                     }
                     break;
 
                 case "GUILD_MEMBER_ADD":
-                    event = new GuildMemberJoinEvent(api, d);
+                    Member joinedMember = upsertMember(d);
+                    if (api.hasSubscribers(GuildMemberJoinEvent.class)) event = new GuildMemberJoinEvent(api, d, joinedMember);
                     break;
                 case "GUILD_MEMBER_REMOVE":
-                    event = new GuildMemberLeaveEvent(api, d);
+                    GuildImpl leftGuild = (GuildImpl) api.getCachedGuild(d.get("guild_id").asText());
+                    Member leftMember = leftGuild != null ? leftGuild.removeMember(d.get("user").get("id").asText()) : null;
+                    if (api.hasSubscribers(GuildMemberLeaveEvent.class)) event = new GuildMemberLeaveEvent(api, d, leftMember);
                     break;
                 case "GUILD_MEMBER_UPDATE":
-                    event = new GuildMemberUpdateEvent(api, d);
+                    Member updatedMember = upsertMember(d);
+                    if (api.hasSubscribers(GuildMemberUpdateEvent.class)) event = new GuildMemberUpdateEvent(api, d, updatedMember);
                     break;
 
                 case "GUILD_BAN_ADD":
-                    event = new GuildBanEvent(api, d, true);
+                    if (api.hasSubscribers(GuildBanEvent.class)) event = new GuildBanEvent(api, d, true);
                     break;
                 case "GUILD_BAN_REMOVE":
-                    event = new GuildBanEvent(api, d, false);
+                    if (api.hasSubscribers(GuildBanEvent.class)) event = new GuildBanEvent(api, d, false);
                     break;
 
                 case "GUILD_ROLE_CREATE":
-                    event = new RoleCreateEvent(api, d);
+                    GuildImpl roleGuild = (GuildImpl) api.getCachedGuild(d.get("guild_id").asText());
+                    if (roleGuild != null && d.has("role")) {
+                        roleGuild.updateRoleCache(d.get("role"));
+                    }
+                    if (api.hasSubscribers(RoleCreateEvent.class)) event = new RoleCreateEvent(api, d);
+                    break;
+                case "GUILD_ROLE_UPDATE":
+                    GuildImpl updatedRoleGuild = (GuildImpl) api.getCachedGuild(d.get("guild_id").asText());
+                    Role oldRole = updatedRoleGuild != null && d.has("role") ? updatedRoleGuild.updateRoleCache(d.get("role")) : null;
+                    if (api.hasSubscribers(RoleUpdateEvent.class)) event = new RoleUpdateEvent(api, d, oldRole);
                     break;
                 case "GUILD_ROLE_DELETE":
-                    event = new RoleDeleteEvent(api, d);
+                    GuildImpl roleOwner = (GuildImpl) api.getCachedGuild(d.get("guild_id").asText());
+                    Role deletedRole = roleOwner != null && d.has("role_id") ? roleOwner.removeRoleFromCache(d.get("role_id").asText()) : null;
+                    if (api.hasSubscribers(RoleDeleteEvent.class)) event = new RoleDeleteEvent(api, d, deletedRole);
                     break;
 
                 case "TYPING_START":
-                    event = new TypingStartEvent(api, d);
+                    if (api.hasSubscribers(TypingStartEvent.class)) event = new TypingStartEvent(api, d);
                     break;
 
                 default:
@@ -238,6 +351,37 @@ public class GatewayClient extends WebSocketClient {
         }
     }
 
+    /**
+     * Offers a member received from the gateway to the member cache of its guild.
+     * The guild's {@link com.j4fluxer.cache.MemberCachePolicy} decides whether it is stored.
+     *
+     * @param guildId The ID of the member's guild.
+     * @param member  The received member.
+     */
+    private void cacheMember(String guildId, Member member) {
+        GuildImpl guild = (GuildImpl) api.getCachedGuild(guildId);
+        if (guild != null) {
+            guild.cacheMember(member);
+        }
+    }
+
+    /**
+     * Inserts or refreshes the member carried by a {@code GUILD_MEMBER_*} payload in its guild's cache.
+     * If the guild is not cached, a detached member bound to a minimal guild is returned instead.
+     *
+     * @param d The member payload, including {@code guild_id} and {@code user}.
+     * @return The up-to-date {@link Member}.
+     */
+    private Member upsertMember(JsonNode d) {
+        String guildId = d.get("guild_id").asText();
+        GuildImpl guild = (GuildImpl) api.getCachedGuild(guildId);
+        if (guild != null) {
+            return guild.upsertMember(d.get("user"), d);
+        }
+        EntityBuilder builder = api.getEntityBuilder();
+        return new MemberImpl(builder.createUser(d.get("user")), d, builder.getPlaceholderGuild(guildId), api.getRequester());
+    }
+
     /**
      * Called when the connection to the Fluxer Gateway is closed.
      * Stops the heartbeat timer.
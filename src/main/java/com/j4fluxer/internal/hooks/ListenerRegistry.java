@@ -0,0 +1,137 @@
+package com.j4fluxer.internal.hooks;
+
+import com.j4fluxer.events.Event;
+import com.j4fluxer.hooks.EventListener;
+import com.j4fluxer.hooks.ListenerAdapter;
+import com.j4fluxer.hooks.Subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the registered event listeners and typed subscriptions, and knows which event types anyone consumes.
+ *
+ * <p>For every event class, the listeners that want it are resolved once and remembered until a listener is
+ * added or removed. A {@link ListenerAdapter} only wants the events whose hooks it overrides, a typed
+ * subscription the events of its type and its subtypes, and any other {@link EventListener} every event. The
+ * gateway asks {@link #hasSubscribers(Class)} before building an event, so events without a consumer are never
+ * constructed.</p>
+ *
+ * <p>This class is thread-safe; listeners may be added and removed while events are dispatched.</p>
+ */
+public final class ListenerRegistry {
+
+    private static final EventListener[] NONE = new EventListener[0];
+
+    /** Every listener and subscription, in registration order. */
+    private final List<EventListener> listeners = new CopyOnWriteArrayList<>();
+
+    /** The listeners wanting each event class; replaced with an empty map whenever {@link #listeners} changes. */
+    private volatile Map<Class<?>, EventListener[]> targets = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a listener.
+     *
+     * @param listener The listener.
+     */
+    public void add(EventListener listener) {
+        listeners.add(listener);
+        targets = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener The listener.
+     */
+    public void remove(EventListener listener) {
+        if (listeners.remove(listener)) {
+            targets = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Subscribes a handler to one event type, including its subtypes.
+     *
+     * @param eventType The event class.
+     * @param handler   The handler.
+     * @param <E>       The event type.
+     * @return The handle that cancels the subscription.
+     */
+    public <E extends Event> Subscription subscribe(Class<E> eventType, Consumer<? super E> handler) {
+        TypedListener<E> listener = new TypedListener<>(eventType, handler);
+        add(listener);
+        return () -> remove(listener);
+    }
+
+    /**
+     * Checks whether any listener wants events of a type.
+     *
+     * @param eventType The event class.
+     * @return {@code true} if an event of this type would reach at least one listener.
+     */
+    public boolean hasSubscribers(Class<? extends Event> eventType) {
+        return targets(eventType).length > 0;
+    }
+
+    /**
+     * Passes an event to every listener that wants it.
+     * Any exception thrown by a listener is caught and printed to prevent blocking the event thread.
+     *
+     * @param event The event.
+     */
+    public void fire(Event event) {
+        for (EventListener listener : targets(event.getClass())) {
+            try {
+                listener.onEvent(event);
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private EventListener[] targets(Class<? extends Event> eventType) {
+        // Read the map before the listeners: a concurrent change installs a new map after updating the list,
+        // so a stale result can only end up in a map that is already discarded
+        Map<Class<?>, EventListener[]> current = targets;
+        EventListener[] cached = current.get(eventType);
+        if (cached != null) {
+            return cached;
+        }
+        List<EventListener> wanted = new ArrayList<>();
+        for (EventListener listener : listeners) {
+            if (wants(listener, eventType)) {
+                wanted.add(listener);
+            }
+        }
+        EventListener[] result = wanted.isEmpty() ? NONE : wanted.toArray(NONE);
+        current.put(eventType, result);
+        return result;
+    }
+
+    private static boolean wants(EventListener listener, Class<? extends Event> eventType) {
+        if (listener instanceof TypedListener<?> typed) return typed.eventType.isAssignableFrom(eventType);
+        if (listener instanceof ListenerAdapter adapter) return adapter.handles(eventType);
+        return true;
+    }
+
+    /** A {@link #subscribe(Class, Consumer) typed subscription}, dispatched like any other listener. */
+    private static final class TypedListener<E extends Event> implements EventListener {
+        private final Class<E> eventType;
+        private final Consumer<? super E> handler;
+
+        TypedListener(Class<E> eventType, Consumer<? super E> handler) {
+            this.eventType = eventType;
+            this.handler = handler;
+        }
+
+        @Override
+        public void onEvent(Event event) {
+            handler.accept(eventType.cast(event));
+        }
+    }
+}
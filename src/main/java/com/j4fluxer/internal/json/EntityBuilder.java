@@ -1,20 +1,38 @@
 package com.j4fluxer.internal.json;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.j4fluxer.cache.CacheType;
 import com.j4fluxer.entities.channel.*;
 import com.j4fluxer.entities.guild.Guild;
+import com.j4fluxer.entities.guild.GuildImpl;
+import com.j4fluxer.entities.user.UserImpl;
+import com.j4fluxer.fluxer.FluxerImpl;
+import com.j4fluxer.internal.cache.MemoryEstimator;
+import com.j4fluxer.internal.cache.WeakInterner;
 import com.j4fluxer.internal.requests.Requester;
+import com.j4fluxer.internal.utils.Snowflake;
 
 /**
  * A factory class responsible for building Fluxer entities from JSON data.
  * <p>This utility parses raw JSON responses from the Fluxer API and converts them
  * into concrete implementations of entities such as channels, roles, or users.</p>
+ *
+ * <p>Users and placeholder guilds are canonicalized: as long as an instance is referenced anywhere,
+ * building the same snowflake again returns that instance instead of allocating a duplicate. The builder
+ * owned by a {@link FluxerImpl} is shared through {@link #of(Requester)}, so every part of the library
+ * sees the same handles.</p>
  */
 public class EntityBuilder {
 
     /** The requester used to perform internal API actions within built entities. */
     private final Requester requester;
 
+    /** Canonical users by ID, held weakly. */
+    private final WeakInterner<Long, UserImpl> users = new WeakInterner<>();
+
+    /** Canonical ID-only guilds for guilds that are not cached, held weakly. */
+    private final WeakInterner<Long, GuildImpl> placeholderGuilds = new WeakInterner<>();
+
     /**
      * Constructs a new {@code EntityBuilder}.
      *
@@ -24,6 +42,91 @@ public class EntityBuilder {
         this.requester = requester;
     }
 
+    /**
+     * Returns the shared builder of the {@link FluxerImpl} the requester belongs to, or a standalone
+     * builder if the requester is not bound to one (e.g., a webhook requester).
+     *
+     * @param requester The requester of the entity being built.
+     * @return An {@code EntityBuilder} for the requester.
+     */
+    public static EntityBuilder of(Requester requester) {
+        FluxerImpl api = requester != null ? requester.getApi() : null;
+        return api != null ? api.getEntityBuilder() : new EntityBuilder(requester);
+    }
+
+    /**
+     * Returns the canonical {@link UserImpl} for the given user payload.
+     * <p>If the user is already known, its fields are refreshed from the payload and the existing
+     * instance is returned.</p>
+     *
+     * @param json The user payload.
+     * @return The canonical user.
+     */
+    public UserImpl createUser(JsonNode json) {
+        long userId = Snowflake.parse(json.get("id"));
+        UserImpl user = users.getIfPresent(userId);
+        recordLookup(user != null);
+        if (user == null) {
+            user = users.get(userId, id -> new UserImpl(json, requester));
+        }
+        if (!user.matches(json)) {
+            user.update(json);
+        }
+        return user;
+    }
+
+    /**
+     * Returns the canonical {@link UserImpl} for the given ID, building it from the given fields if the user
+     * is not known yet. A known user is returned as is, since it is refreshed by every payload it appears in.
+     *
+     * @param id            The user ID.
+     * @param username      The username.
+     * @param discriminator The discriminator.
+     * @param avatarHash    The avatar hash, or {@code null} if the user has no avatar.
+     * @param isBot         Whether the user is a bot.
+     * @return The canonical user.
+     */
+    public UserImpl createUser(long id, String username, String discriminator, String avatarHash, boolean isBot) {
+        return users.get(id, key -> new UserImpl(id, username, discriminator, avatarHash, isBot, requester));
+    }
+
+    /**
+     * Returns the number of live canonical users.
+     *
+     * @return The number of users.
+     */
+    public int getUserCount() {
+        return users.size();
+    }
+
+    /**
+     * Estimates the heap retained by the live canonical users.
+     *
+     * @return The estimated size in bytes.
+     */
+    public long estimateUserBytes() {
+        long[] bytes = {0};
+        // Each user also costs a weak reference and a map node in the interner
+        users.forEachValue(user -> bytes[0] += MemoryEstimator.user(user) + 48);
+        return bytes[0];
+    }
+
+    private void recordLookup(boolean hit) {
+        FluxerImpl api = requester != null ? requester.getApi() : null;
+        if (api != null) api.getCacheMetrics().recordLookup(CacheType.USER, hit);
+    }
+
+    /**
+     * Returns the canonical ID-only {@link GuildImpl} used when a guild is not cached.
+     * <p>The placeholder carries no data, but allows actions such as kicks or bans to be performed.</p>
+     *
+     * @param guildId The ID of the guild.
+     * @return The canonical placeholder guild.
+     */
+    public GuildImpl getPlaceholderGuild(String guildId) {
+        return placeholderGuilds.get(Snowflake.parse(guildId), id -> new GuildImpl(guildId, requester));
+    }
+
     /**
      * Creates a concrete {@link Channel} instance based on the type specified in the JSON data.
      * <p>This method identifies whether the channel is a {@link TextChannel}, {@link VoiceChannel},
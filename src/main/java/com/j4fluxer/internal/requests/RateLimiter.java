@@ -0,0 +1,129 @@
+package com.j4fluxer.internal.requests;
+
+import okhttp3.Response;
+
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of the Fluxer API rate limit buckets for a single {@link Requester}.
+ *
+ * <p>Every {@link Route.CompiledRoute} maps to a bucket through its {@link Route.CompiledRoute#bucket bucket key}.
+ * Before a request is sent, {@link #acquire(Route.CompiledRoute)} blocks the calling thread until the bucket
+ * has capacity left. After the response arrives, {@link #update(Route.CompiledRoute, Response)} refreshes the
+ * bucket from the {@code X-RateLimit-*} headers.</p>
+ *
+ * <p>Buckets are scoped to the owning requester, so two requesters (for example a bot and a webhook client)
+ * never wait on each other.</p>
+ */
+public class RateLimiter {
+
+    /** Rate limit state per bucket key. */
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /** The {@link System#nanoTime()} until which every request is on hold because of a global rate limit. */
+    private volatile long globalResetAt;
+
+    /**
+     * Blocks until a request on the given route may be sent, reserving one slot in its bucket.
+     *
+     * @param route The route about to be executed.
+     * @throws InterruptedIOException If the thread is interrupted while waiting.
+     */
+    public void acquire(Route.CompiledRoute route) throws InterruptedIOException {
+        Bucket bucket = buckets.computeIfAbsent(route.bucket, key -> new Bucket());
+        while (true) {
+            long now = System.nanoTime();
+            long wait = Math.max(globalResetAt - now, bucket.reserve(now));
+            if (wait <= 0) return;
+            sleep(TimeUnit.NANOSECONDS.toMillis(wait) + 1);
+        }
+    }
+
+    /**
+     * Updates the bucket of the given route from the rate limit headers of a response.
+     *
+     * @param route    The route that was executed.
+     * @param response The response received from the Fluxer API.
+     */
+    public void update(Route.CompiledRoute route, Response response) {
+        long now = System.nanoTime();
+        if (response.code() == 429 && "true".equalsIgnoreCase(response.header("X-RateLimit-Global"))) {
+            globalResetAt = now + TimeUnit.MILLISECONDS.toNanos(getRetryAfter(response));
+            return;
+        }
+
+        String remaining = response.header("X-RateLimit-Remaining");
+        String resetAfter = response.header("X-RateLimit-Reset-After");
+        if (remaining == null || resetAfter == null) return;
+
+        try {
+            long resetNanos = (long) (Double.parseDouble(resetAfter) * 1_000_000_000L);
+            buckets.computeIfAbsent(route.bucket, key -> new Bucket())
+                    .set(Integer.parseInt(remaining), now + resetNanos);
+        } catch (NumberFormatException ignored) {
+            // Malformed headers are ignored; the next 429 will correct the bucket.
+        }
+    }
+
+    /**
+     * Reads how long to wait before retrying a request that was answered with {@code 429 Too Many Requests}.
+     *
+     * @param response The 429 response.
+     * @return The delay in milliseconds.
+     */
+    public long getRetryAfter(Response response) {
+        String header = response.header("X-RateLimit-Reset-After");
+        if (header == null) header = response.header("Retry-After");
+        try {
+            return header == null ? 1000 : (long) Math.ceil(Double.parseDouble(header) * 1000);
+        } catch (NumberFormatException e) {
+            return 1000;
+        }
+    }
+
+    /**
+     * Sleeps for the given amount of milliseconds, translating interrupts into an {@link InterruptedIOException}.
+     *
+     * @param millis The time to sleep.
+     * @throws InterruptedIOException If the thread is interrupted.
+     */
+    static void sleep(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for rate limit");
+        }
+    }
+
+    /**
+     * The mutable state of a single rate limit bucket.
+     */
+    private static final class Bucket {
+        /** Requests left in the current window, or {@code -1} if unknown. */
+        private int remaining = -1;
+        private long resetAt;
+
+        /**
+         * Reserves a request slot.
+         *
+         * @return {@code 0} if a slot was reserved, otherwise the nanoseconds until the bucket resets.
+         */
+        synchronized long reserve(long now) {
+            if (remaining == 0) {
+                if (now < resetAt) return resetAt - now;
+                remaining = -1;
+            }
+            if (remaining > 0) remaining--;
+            return 0;
+        }
+
+        synchronized void set(int remaining, long resetAt) {
+            this.remaining = remaining;
+            this.resetAt = resetAt;
+        }
+    }
+}
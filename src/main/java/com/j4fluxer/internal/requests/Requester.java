@@ -1,9 +1,16 @@
 package com.j4fluxer.internal.requests;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.j4fluxer.entities.message.FileUpload;
+import com.j4fluxer.exceptions.ErrorResponseException;
 import com.j4fluxer.fluxer.FluxerImpl;
 import com.j4fluxer.internal.constants.Constants;
+import com.j4fluxer.requests.RetryPolicy;
 import okhttp3.*;
+import okio.BufferedSource;
 import java.io.IOException;
+import java.util.List;
 
 /**
  * The central engine responsible for sending RESTful HTTP requests to the Fluxer API.
@@ -13,10 +20,27 @@ import java.io.IOException;
  */
 public class Requester {
 
+    /** How often a request is retried after being answered with {@code 429 Too Many Requests}. */
+    private static final int MAX_RATE_LIMIT_RETRIES = 5;
+
+    /** Error bodies are read up to this size; anything beyond it is discarded. */
+    private static final long MAX_ERROR_BODY_BYTES = 8 * 1024;
+
+    private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
+
     private final OkHttpClient httpClient;
+    private final RateLimiter rateLimiter = new RateLimiter();
+    private final ObjectMapper mapper = new ObjectMapper();
     private final String token;
+    private volatile RetryPolicy retryPolicy = RetryPolicy.defaultPolicy();
     private FluxerImpl api;
 
+    /**
+     * Creates a new requester.
+     *
+     * @param token The bot token sent in the {@code Authorization} header, or {@code null} for requests that
+     *              authenticate through their URL (e.g., webhook executions).
+     */
     public Requester(String token) {
         this.token = token;
         this.httpClient = new OkHttpClient.Builder().build();
@@ -30,49 +54,143 @@ public class Requester {
      *     <li>Ensures the Authorization header is correctly formatted.</li>
      *     <li>Sets the {@code User-Agent} defined in constants.</li>
      *     <li>Handles JSON body serialization or empty body requirements.</li>
-     *     <li>Logs detailed error information if the response status is not successful.</li>
+     *     <li>Waits for the route's rate limit bucket and retries requests answered with {@code 429}.</li>
+     *     <li>Retries failed requests according to the configured {@link RetryPolicy}.</li>
      * </ul>
      *
      * @param route    The compiled {@link Route.CompiledRoute} containing the target URL and HTTP method.
      * @param jsonBody The JSON string to be sent as the request body, or {@code null} if no body is needed.
-     * @return The {@link Response} received from the Fluxer API.
+     * @return The successful {@link Response} received from the Fluxer API.
+     * @throws ErrorResponseException If the API answered with a non-successful status.
      * @throws IOException If the request could not be executed due to connectivity problems.
      */
     public Response execute(Route.CompiledRoute route, String jsonBody) throws IOException {
+        return execute(route, jsonBody, List.of());
+    }
+
+    /**
+     * Executes a synchronous HTTP request to the Fluxer API, attaching the given files.
+     *
+     * <p>If files are present, the request is sent as {@code multipart/form-data} with the JSON body in the
+     * {@code payload_json} part. File contents are streamed from their source while the request is written
+     * and re-opened if the request has to be retried.</p>
+     *
+     * @param route    The compiled {@link Route.CompiledRoute} containing the target URL and HTTP method.
+     * @param jsonBody The JSON string to be sent as the request body, or {@code null} if no body is needed.
+     * @param files    The files to attach; may be empty.
+     * @return The successful {@link Response} received from the Fluxer API.
+     * @throws ErrorResponseException If the API answered with a non-successful status.
+     * @throws IOException If the request could not be executed due to connectivity problems.
+     */
+    public Response execute(Route.CompiledRoute route, String jsonBody, List<FileUpload> files) throws IOException {
         String authHeader = token;
-        if (!token.startsWith("Bot ") && !token.startsWith("flx_")) {
+        if (token != null && !token.startsWith("Bot ") && !token.startsWith("flx_")) {
             authHeader = "Bot " + token;
         }
 
         RequestBody body = null;
 
-        if (jsonBody != null) {
-            MediaType mediaType = MediaType.parse("application/json; charset=utf-8");
-            body = RequestBody.create(jsonBody, mediaType);
+        if (!files.isEmpty()) {
+            MultipartBody.Builder multipart = new MultipartBody.Builder().setType(MultipartBody.FORM);
+            if (jsonBody != null) {
+                multipart.addFormDataPart("payload_json", null, RequestBody.create(jsonBody, JSON));
+            }
+            for (int i = 0; i < files.size(); i++) {
+                FileUpload file = files.get(i);
+                multipart.addFormDataPart("files[" + i + "]", file.getName(), file.asRequestBody());
+            }
+            body = multipart.build();
+        } else if (jsonBody != null) {
+            body = RequestBody.create(jsonBody, JSON);
         } else if (route.method == Route.Method.PUT || route.method == Route.Method.POST) {
             body = RequestBody.create(new byte[0], null);
         }
 
         Request.Builder builder = new Request.Builder()
                 .url(route.url)
-                .header("Authorization", authHeader)
                 .header("User-Agent", Constants.USER_AGENT)
                 .method(route.method.name(), body);
+        if (authHeader != null) {
+            builder.header("Authorization", authHeader);
+        }
 
-        Response response = httpClient.newCall(builder.build()).execute();
+        Request request = builder.build();
+        // MultipartBody does not report one-shot parts, so ask the attachments directly
+        boolean oneShot = files.stream().anyMatch(FileUpload::isOneShot);
 
-        if (!response.isSuccessful()) {
-            System.err.println("Fluxer API Error [" + response.code() + "]");
-            System.err.println("URL: " + route.url);
-            System.err.println("Method: " + route.method);
+        for (int attempt = 1; ; attempt++) {
             try {
-                System.err.println("Response: " + response.peekBody(Long.MAX_VALUE).string());
-            } catch (Exception ignored) {}
+                return executeOnce(route, request, oneShot);
+            } catch (ErrorResponseException | IOException e) {
+                long delay = oneShot ? -1 : retryPolicy.getRetryDelay(route, attempt, e);
+                if (delay < 0) throw e;
+                RateLimiter.sleep(delay);
+            }
+        }
+    }
+
+    /**
+     * Sends a request once, waiting out rate limits, and converts error responses into exceptions.
+     */
+    private Response executeOnce(Route.CompiledRoute route, Request request, boolean oneShot) throws IOException {
+        Response response;
+        for (int attempt = 0; ; attempt++) {
+            rateLimiter.acquire(route);
+            response = httpClient.newCall(request).execute();
+            rateLimiter.update(route, response);
+
+            if (response.code() != 429 || attempt >= MAX_RATE_LIMIT_RETRIES) break;
+            // A consumed stream cannot be sent again, so the 429 is handed back to the caller
+            if (oneShot) break;
+
+            long retryAfter = rateLimiter.getRetryAfter(response);
+            response.close();
+            RateLimiter.sleep(retryAfter);
         }
 
+        if (!response.isSuccessful()) {
+            throw toException(route, response);
+        }
         return response;
     }
 
+    /**
+     * Reads the body of an error response exactly once (up to {@link #MAX_ERROR_BODY_BYTES}),
+     * closes the response and builds the matching {@link ErrorResponseException}.
+     */
+    private ErrorResponseException toException(Route.CompiledRoute route, Response response) {
+        String body = "";
+        String errorCode = null;
+        String apiMessage = null;
+
+        try (response) {
+            ResponseBody responseBody = response.body();
+            if (responseBody != null) {
+                BufferedSource source = responseBody.source();
+                source.request(MAX_ERROR_BODY_BYTES);
+                body = source.getBuffer().readUtf8(Math.min(source.getBuffer().size(), MAX_ERROR_BODY_BYTES));
+            }
+            if (body.startsWith("{")) {
+                JsonNode json = mapper.readTree(body);
+                if (json.hasNonNull("code")) errorCode = json.get("code").asText();
+                if (json.hasNonNull("message")) apiMessage = json.get("message").asText();
+            }
+        } catch (Exception ignored) {
+            // The status code alone is still enough to describe the failure
+        }
+
+        return new ErrorResponseException(response.code(), errorCode, apiMessage, route, body);
+    }
+
+    /**
+     * Replaces the policy that decides whether failed requests are retried.
+     *
+     * @param retryPolicy The new {@link RetryPolicy}; {@code null} disables retries.
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy != null ? retryPolicy : RetryPolicy.NONE;
+    }
+
     public void setApi(FluxerImpl api) {
         this.api = api;
     }
@@ -1,8 +1,12 @@
 package com.j4fluxer.internal.requests;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.j4fluxer.entities.message.FileUpload;
 import okhttp3.Response;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.*;
 import java.util.function.Consumer;
 
@@ -24,6 +28,7 @@ public abstract class RestAction<T> {
     protected final Route.CompiledRoute route;
     protected final ObjectMapper mapper = new ObjectMapper();
     protected String requestBody = null;
+    protected List<FileUpload> files = Collections.emptyList();
 
     /**
      * Internal scheduler for planned executions (e.g., queueAfter).
@@ -61,6 +66,19 @@ public abstract class RestAction<T> {
         return this;
     }
 
+    /**
+     * Attaches files to this request. The request will be sent as {@code multipart/form-data},
+     * with the JSON body (if any) carried in the {@code payload_json} part.
+     *
+     * @param uploads The files to attach.
+     * @return The current RestAction instance for chaining.
+     */
+    public RestAction<T> addFiles(List<FileUpload> uploads) {
+        if (files.isEmpty()) files = new ArrayList<>();
+        files.addAll(uploads);
+        return this;
+    }
+
     /**
      * Executes this action asynchronously.
      * Hata warnings are printed to the standard error stream.
@@ -85,17 +103,11 @@ public abstract class RestAction<T> {
      * @param failure The consumer to handle errors on failure.
      */
     public void queue(Consumer<T> success, Consumer<Throwable> failure) {
-        CompletableFuture.supplyAsync(() -> {
-            try {
-                return executeAndParse();
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
-        }).thenAccept(result -> {
+        submit().thenAccept(result -> {
             if (success != null) success.accept(result);
         }).exceptionally(error -> {
             if (failure != null) {
-                failure.accept(error);
+                failure.accept(unwrap(error));
             } else {
                 System.err.println("RestAction queue() encountered an error:");
                 error.printStackTrace();
@@ -146,8 +158,10 @@ public abstract class RestAction<T> {
         return CompletableFuture.supplyAsync(() -> {
             try {
                 return executeAndParse();
+            } catch (RuntimeException e) {
+                throw e;
             } catch (Exception e) {
-                throw new RuntimeException(e);
+                throw new CompletionException(e);
             }
         });
     }
@@ -179,11 +193,14 @@ public abstract class RestAction<T> {
      * event listeners, as it will freeze the bot.
      *
      * @return The result of the request.
-     * @throws RuntimeException If an error occurs during execution.
+     * @throws com.j4fluxer.exceptions.ErrorResponseException If the API answers with an error status.
+     * @throws RuntimeException If any other error occurs during execution.
      */
     public T complete() {
         try {
             return executeAndParse();
+        } catch (RuntimeException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -193,16 +210,11 @@ public abstract class RestAction<T> {
      * Internal logic to execute the request and handle the HTTP response.
      *
      * @return The parsed object of type T.
-     * @throws Exception If the API returns an error or parsing fails.
+     * @throws com.j4fluxer.exceptions.ErrorResponseException If the API returns an error status.
+     * @throws Exception If the request or parsing fails.
      */
     private T executeAndParse() throws Exception {
-        Response response = requester.execute(route, requestBody);
-
-        if (!response.isSuccessful()) {
-            String msg = "API Error: " + response.code() + " " + response.message();
-            response.close();
-            throw new RuntimeException(msg);
-        }
+        Response response = requester.execute(route, requestBody, files);
 
         // Handle 204 No Content (Common in delete or role actions)
         if (response.code() == 204) {
@@ -214,6 +226,14 @@ public abstract class RestAction<T> {
         return handleResponse(jsonString);
     }
 
+    /**
+     * Strips the {@link CompletionException} wrapper added by the async pipeline so failure
+     * consumers receive the original exception.
+     */
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
     /**
      * Abstract method implemented by subclasses to parse the raw JSON response.
      *
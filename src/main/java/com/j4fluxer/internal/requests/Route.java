@@ -2,6 +2,8 @@ package com.j4fluxer.internal.requests;
 
 import com.j4fluxer.internal.constants.Constants;
 
+import java.util.Set;
+
 /**
  * Defines the structure of all supported API endpoints for the Fluxer platform.
  *
@@ -30,6 +32,9 @@ public class Route {
 
     // --- Message Routes ---
 
+    /** GET request to retrieve a page of messages from a channel's history. */
+    public static final Route GET_MESSAGES = new Route(Method.GET, "/channels/{channel_id}/messages");
+
     /** POST request to send a message to a text channel. */
     public static final Route SEND_MESSAGE = new Route(Method.POST, "/channels/{channel_id}/messages");
 
@@ -91,6 +96,9 @@ public class Route {
     /** PATCH request to update guild settings. */
     public static final Route MODIFY_GUILD = new Route(Method.PATCH, "/guilds/{guild_id}");
 
+    /** GET request to retrieve a page of members from a guild, ordered by user ID. */
+    public static final Route LIST_MEMBERS = new Route(Method.GET, "/guilds/{guild_id}/members");
+
     /** GET request to retrieve a specific member from a guild. */
     public static final Route GET_MEMBER = new Route(Method.GET, "/guilds/{guild_id}/members/{user_id}");
 
@@ -106,6 +114,26 @@ public class Route {
     /** GET request to retrieve a user's information. */
     public static final Route GET_USER = new Route(Method.GET, "/users/{user_id}");
 
+    // --- Webhook Routes ---
+
+    /** POST request to send a message through a webhook, authenticated by the webhook token in the path. */
+    public static final Route EXECUTE_WEBHOOK = new Route(Method.POST, "/webhooks/{webhook_id}/{webhook_token}");
+
+    /** PATCH request to edit a message previously sent by a webhook. */
+    public static final Route EDIT_WEBHOOK_MESSAGE = new Route(Method.PATCH, "/webhooks/{webhook_id}/{webhook_token}/messages/{message_id}");
+
+    /** DELETE request to remove a message previously sent by a webhook. */
+    public static final Route DELETE_WEBHOOK_MESSAGE = new Route(Method.DELETE, "/webhooks/{webhook_id}/{webhook_token}/messages/{message_id}");
+
+
+    /**
+     * Path parameters that get their own rate limit bucket. Routes that only differ in other
+     * parameters (e.g., the user or message ID) share a bucket.
+     */
+    private static final Set<String> MAJOR_PARAMETERS = Set.of("guild_id", "channel_id", "webhook_id");
+
+    /** Path parameters that are credentials and are kept out of {@link CompiledRoute#toString()}. */
+    private static final Set<String> SECRET_PARAMETERS = Set.of("webhook_token");
 
     /** The HTTP method required for this route. */
     private final Method method;
@@ -132,18 +160,43 @@ public class Route {
      * @return A {@link CompiledRoute} ready to be executed.
      */
     public CompiledRoute compile(String... args) {
-        String compiledPath = path;
-        for (String arg : args) {
-            compiledPath = compiledPath.replaceFirst("\\{[a-z_]+\\}", arg);
+        StringBuilder compiledPath = new StringBuilder(Constants.API_BASE);
+        StringBuilder loggablePath = new StringBuilder(Constants.API_BASE);
+        StringBuilder bucket = new StringBuilder(method.name()).append(' ');
+        int argIndex = 0;
+        int cursor = 0;
+        int open;
+        while ((open = path.indexOf('{', cursor)) != -1) {
+            int close = path.indexOf('}', open);
+            String segment = path.substring(cursor, open);
+            String name = path.substring(open + 1, close);
+            String value = argIndex < args.length ? args[argIndex++] : path.substring(open, close + 1);
+
+            compiledPath.append(segment).append(value);
+            loggablePath.append(segment).append(SECRET_PARAMETERS.contains(name) ? "{" + name + "}" : value);
+            bucket.append(segment).append(MAJOR_PARAMETERS.contains(name) ? value : "{" + name + "}");
+            cursor = close + 1;
         }
-        return new CompiledRoute(this.method, Constants.API_BASE + compiledPath);
+        compiledPath.append(path, cursor, path.length());
+        loggablePath.append(path, cursor, path.length());
+        bucket.append(path, cursor, path.length());
+        return new CompiledRoute(this.method, compiledPath.toString(), bucket.toString(), loggablePath.toString());
     }
 
     /**
      * Enumeration of supported HTTP methods for the Fluxer API.
      */
     public enum Method {
-        GET, POST, DELETE, PUT, PATCH
+        GET, POST, DELETE, PUT, PATCH;
+
+        /**
+         * Checks whether sending a request with this method twice has the same effect as sending it once.
+         *
+         * @return {@code true} for {@code GET}, {@code PUT} and {@code DELETE}.
+         */
+        public boolean isIdempotent() {
+            return this == GET || this == PUT || this == DELETE;
+        }
     }
 
     /**
@@ -154,16 +207,71 @@ public class Route {
         public final Method method;
         /** The complete URL including the base API endpoint and resolved parameters. */
         public final String url;
+        /** The rate limit bucket key this route is tracked under. */
+        public final String bucket;
+        /** The URL with secret path parameters, such as webhook tokens, replaced by their placeholder. */
+        private final String loggableUrl;
 
         /**
-         * Constructs a {@code CompiledRoute}.
+         * Constructs a {@code CompiledRoute} that is rate limited by its own URL.
          *
          * @param method The HTTP method.
          * @param url    The final resolved URL.
          */
         public CompiledRoute(Method method, String url) {
+            this(method, url, method.name() + " " + stripQuery(url));
+        }
+
+        /**
+         * Constructs a {@code CompiledRoute} tracked under the given rate limit bucket.
+         *
+         * @param method The HTTP method.
+         * @param url    The final resolved URL.
+         * @param bucket The rate limit bucket key.
+         */
+        public CompiledRoute(Method method, String url, String bucket) {
+            this(method, url, bucket, url);
+        }
+
+        private CompiledRoute(Method method, String url, String bucket, String loggableUrl) {
             this.method = method;
             this.url = url;
+            this.bucket = bucket;
+            this.loggableUrl = loggableUrl;
+        }
+
+        private static String stripQuery(String url) {
+            int query = url.indexOf('?');
+            return query == -1 ? url : url.substring(0, query);
+        }
+
+        /**
+         * Returns a copy of this route with the given query parameters appended to the URL.
+         * <p>Parameters are supplied as alternating key/value pairs. Pairs with a {@code null}
+         * value are skipped.</p>
+         *
+         * @param params The query parameters as {@code key, value, key, value, ...}.
+         * @return A new {@link CompiledRoute} with the query string attached.
+         */
+        public CompiledRoute withQueryParams(String... params) {
+            StringBuilder query = new StringBuilder();
+            char separator = url.indexOf('?') == -1 ? '?' : '&';
+            for (int i = 0; i + 1 < params.length; i += 2) {
+                if (params[i + 1] == null) continue;
+                query.append(separator).append(params[i]).append('=').append(params[i + 1]);
+                separator = '&';
+            }
+            return new CompiledRoute(method, url + query, bucket, loggableUrl + query);
+        }
+
+        /**
+         * Describes this route for logs and error messages, without secret path parameters.
+         *
+         * @return The method and the redacted URL, e.g. {@code POST .../webhooks/123/{webhook_token}}.
+         */
+        @Override
+        public String toString() {
+            return method + " " + loggableUrl;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.j4fluxer.internal.utils;
+
+import com.j4fluxer.entities.Permission;
+import com.j4fluxer.entities.PermissionOverwrite;
+import com.j4fluxer.entities.channel.GuildChannel;
+import com.j4fluxer.entities.guild.Guild;
+import com.j4fluxer.entities.guild.Role;
+import com.j4fluxer.entities.member.Member;
+
+import java.util.List;
+
+/**
+ * Computes the effective permissions of a member from the cached roles and channel overwrites.
+ *
+ * <p>Guild permissions are the {@code @everyone} role combined with every role of the member. The guild owner
+ * and members with {@link Permission#ADMINISTRATOR} get every permission. Channel permissions start from the
+ * guild permissions and apply the channel's overwrites in order: the {@code @everyone} overwrite, the
+ * overwrites of the member's roles (denies first, then allows) and finally the overwrite of the member.
+ * A member who cannot view a channel has no permissions in it at all.</p>
+ *
+ * <p>The results are only as accurate as the cache: roles or channels that are not cached are ignored.</p>
+ */
+public final class PermissionUtil {
+
+    private PermissionUtil() {
+    }
+
+    /**
+     * Computes the guild-wide permissions of a member.
+     *
+     * @param guild  The guild.
+     * @param member The member.
+     * @return The permission bitmask.
+     */
+    public static long computeGuildPermissions(Guild guild, Member member) {
+        long userId = member.getUser().getIdLong();
+        if (userId == guild.getOwnerIdLong()) {
+            return Permission.ALL_PERMISSIONS;
+        }
+        Role everyone = guild.getRoleById(guild.getIdLong());
+        long permissions = everyone != null ? everyone.getPermissionsRaw() : 0;
+        for (long roleId : member.getRoleIdsLong()) {
+            Role role = guild.getRoleById(roleId);
+            if (role != null) {
+                permissions |= role.getPermissionsRaw();
+            }
+        }
+        if ((permissions & Permission.ADMINISTRATOR.getRawValue()) != 0) {
+            return Permission.ALL_PERMISSIONS;
+        }
+        return permissions;
+    }
+
+    /**
+     * Applies the overwrites of a channel to the guild-wide permissions of a member.
+     *
+     * @param guildPermissions The guild-wide permissions, as computed by
+     *                         {@link #computeGuildPermissions(Guild, Member)}.
+     * @param guild            The guild.
+     * @param member           The member.
+     * @param channel          The channel.
+     * @return The permission bitmask in the channel.
+     */
+    public static long applyOverwrites(long guildPermissions, Guild guild, Member member, GuildChannel channel) {
+        if ((guildPermissions & Permission.ADMINISTRATOR.getRawValue()) != 0) {
+            return Permission.ALL_PERMISSIONS;
+        }
+        List<PermissionOverwrite> overwrites = channel.getPermissionOverwrites();
+        if (overwrites.isEmpty()) {
+            return requireView(guildPermissions);
+        }
+
+        long guildId = guild.getIdLong();
+        long userId = member.getUser().getIdLong();
+        long[] roleIds = member.getRoleIdsLong();
+
+        long permissions = guildPermissions;
+        long roleAllow = 0;
+        long roleDeny = 0;
+        PermissionOverwrite everyone = null;
+        PermissionOverwrite own = null;
+        for (PermissionOverwrite overwrite : overwrites) {
+            long targetId = overwrite.getIdLong();
+            if (overwrite.isMember()) {
+                if (targetId == userId) own = overwrite;
+            } else if (targetId == guildId) {
+                everyone = overwrite;
+            } else if (contains(roleIds, targetId)) {
+                roleAllow |= overwrite.getAllowedRaw();
+                roleDeny |= overwrite.getDeniedRaw();
+            }
+        }
+        if (everyone != null) {
+            permissions = (permissions & ~everyone.getDeniedRaw()) | everyone.getAllowedRaw();
+        }
+        permissions = (permissions & ~roleDeny) | roleAllow;
+        if (own != null) {
+            permissions = (permissions & ~own.getDeniedRaw()) | own.getAllowedRaw();
+        }
+        return requireView(permissions);
+    }
+
+    /** Everything else in a channel depends on being able to see it. */
+    private static long requireView(long permissions) {
+        return (permissions & Permission.VIEW_CHANNEL.getRawValue()) != 0 ? permissions : 0;
+    }
+
+    private static boolean contains(long[] ids, long id) {
+        for (long candidate : ids) {
+            if (candidate == id) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a permission bitmask contains a permission.
+     *
+     * @param permissions The permission bitmask.
+     * @param permission  The permission to look for.
+     * @return {@code true} if it is present; always {@code false} for {@link Permission#UNKNOWN}.
+     */
+    public static boolean has(long permissions, Permission permission) {
+        return permission != Permission.UNKNOWN && (permissions & permission.getRawValue()) != 0;
+    }
+
+    /**
+     * Checks whether a permission bitmask contains every given permission.
+     *
+     * @param permissions The permission bitmask.
+     * @param required    The permissions to look for.
+     * @return {@code true} if all of them are present.
+     */
+    public static boolean hasAll(long permissions, Permission... required) {
+        for (Permission permission : required) {
+            if (!has(permissions, permission)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,88 @@
+package com.j4fluxer.internal.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Helpers for converting Fluxer snowflake IDs between their {@code String} and {@code long} forms.
+ *
+ * <p>Entities store IDs as unsigned 64-bit {@code long}s. IDs are parsed once, when an entity is decoded,
+ * and turned back into strings only when they are shown or sent to the API.</p>
+ */
+public final class Snowflake {
+
+    /** The value used for IDs that are missing or contain no digits. Fluxer never assigns it. */
+    public static final long NONE = 0L;
+
+    private Snowflake() {
+    }
+
+    /**
+     * Parses an ID, ignoring every character that is not a digit.
+     * <p>This accepts raw IDs as well as mentions such as {@code <@123>} or {@code <#456>}.</p>
+     *
+     * @param raw The text to parse.
+     * @return The ID, or {@link #NONE} if the text is {@code null} or contains no digits.
+     */
+    public static long parse(String raw) {
+        if (raw == null) return NONE;
+        long value = 0;
+        for (int i = 0, length = raw.length(); i < length; i++) {
+            char c = raw.charAt(i);
+            if (isDigit(c)) {
+                value = value * 10 + (c - '0');
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Strips every character that is not a digit from an ID, turning mentions into plain IDs.
+     * <p>Unlike {@link #parse(String)}, this keeps the {@code String} form and returns the input unchanged
+     * (without allocating) if it already is a plain ID.</p>
+     *
+     * @param raw The text to clean.
+     * @return The digits of the text, or {@code null} if the text is {@code null}.
+     */
+    public static String clean(String raw) {
+        if (raw == null) return null;
+        int length = raw.length();
+        int firstInvalid = 0;
+        while (firstInvalid < length && isDigit(raw.charAt(firstInvalid))) {
+            firstInvalid++;
+        }
+        if (firstInvalid == length) return raw;
+
+        StringBuilder digits = new StringBuilder(length);
+        digits.append(raw, 0, firstInvalid);
+        for (int i = firstInvalid + 1; i < length; i++) {
+            char c = raw.charAt(i);
+            if (isDigit(c)) digits.append(c);
+        }
+        return digits.toString();
+    }
+
+    /**
+     * Parses an ID field of a JSON payload, which may be encoded either as a string or as a number.
+     *
+     * @param node The ID node.
+     * @return The ID, or {@link #NONE} if the node is {@code null} or JSON {@code null}.
+     */
+    public static long parse(JsonNode node) {
+        if (node == null || node.isNull()) return NONE;
+        return node.isNumber() ? node.asLong() : parse(node.asText());
+    }
+
+    /**
+     * Formats an ID as it is shown and sent to the API.
+     *
+     * @param id The ID.
+     * @return The unsigned decimal representation of the ID.
+     */
+    public static String toString(long id) {
+        return Long.toUnsignedString(id);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,71 @@
+package com.j4fluxer.requests;
+
+import com.j4fluxer.exceptions.ErrorResponseException;
+import com.j4fluxer.internal.requests.RateLimiter;
+import com.j4fluxer.internal.requests.Route;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether, and after how long, a failed REST request is sent again.
+ *
+ * <p>Rate limits ({@code 429}) are handled separately by the {@link RateLimiter} and never reach the policy.
+ * A policy is consulted for every other failure: non-successful responses arrive as an
+ * {@link ErrorResponseException}, connectivity problems as an {@link IOException}.</p>
+ */
+@FunctionalInterface
+public interface RetryPolicy {
+
+    /** A policy that never retries. */
+    RetryPolicy NONE = (route, attempt, failure) -> -1;
+
+    /**
+     * Computes the delay before the next attempt.
+     *
+     * @param route   The route that failed.
+     * @param attempt The number of attempts made so far (starting at 1).
+     * @param failure The failure of the last attempt.
+     * @return The delay in milliseconds before retrying, or a negative value to give up.
+     */
+    long getRetryDelay(Route.CompiledRoute route, int attempt, Exception failure);
+
+    /**
+     * Returns the policy used when none is configured: up to 3 retries with jittered
+     * exponential backoff between 500ms and 8s.
+     *
+     * @return The default {@link RetryPolicy}.
+     * @see #exponentialBackoff(int, long, long)
+     */
+    static RetryPolicy defaultPolicy() {
+        return exponentialBackoff(3, 500, 8000);
+    }
+
+    /**
+     * Creates a policy with bounded, jittered exponential backoff.
+     *
+     * <p>Only idempotent requests ({@code GET}, {@code PUT}, {@code DELETE}) are retried, and only when
+     * the failure is a server error (5xx) or an I/O problem. Client errors (4xx) are never retried.
+     * The delay before attempt {@code n + 1} is a random value between zero and
+     * {@code min(maxDelayMillis, baseDelayMillis * 2^(n - 1))}.</p>
+     *
+     * @param maxRetries      The maximum number of retries after the first attempt.
+     * @param baseDelayMillis The upper bound of the first delay.
+     * @param maxDelayMillis  The upper bound of any delay.
+     * @return A new {@link RetryPolicy}.
+     */
+    static RetryPolicy exponentialBackoff(int maxRetries, long baseDelayMillis, long maxDelayMillis) {
+        return (route, attempt, failure) -> {
+            if (attempt > maxRetries || !route.method.isIdempotent()) return -1;
+
+            boolean retryable = failure instanceof ErrorResponseException
+                    ? ((ErrorResponseException) failure).isServerError()
+                    : failure instanceof IOException && !(failure instanceof InterruptedIOException);
+            if (!retryable) return -1;
+
+            long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 30));
+            return ThreadLocalRandom.current().nextLong(ceiling + 1);
+        };
+    }
+}
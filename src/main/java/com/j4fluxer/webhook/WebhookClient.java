@@ -0,0 +1,290 @@
+package com.j4fluxer.webhook;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.j4fluxer.entities.message.Message;
+import com.j4fluxer.entities.message.MessageEmbed;
+import com.j4fluxer.entities.message.MessageImpl;
+import com.j4fluxer.internal.requests.Requester;
+import com.j4fluxer.internal.requests.RestAction;
+import com.j4fluxer.internal.requests.Route;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A lightweight client that sends messages through a single Fluxer webhook.
+ *
+ * <p>A webhook is authenticated by the token in its URL, so the client needs no bot token and can be
+ * used without a {@link com.j4fluxer.fluxer.Fluxer} instance. Every client owns its own
+ * {@link Requester} and therefore its own rate limit buckets: webhook traffic never waits on, or slows down,
+ * requests made with a bot token.</p>
+ *
+ * <p>For high-volume logging, {@link #queueEmbed(MessageEmbed)} collects embeds and sends them in batches of
+ * up to {@value MessageEmbed#MAX_EMBEDS_PER_MESSAGE} per message. A batch is sent as soon as it is full, or
+ * once the linger time has passed since its first embed was queued.</p>
+ *
+ * <pre>{@code
+ * WebhookClient audit = WebhookClient.fromUrl("https://api.fluxer.app/v1/webhooks/123/abc");
+ * audit.queueEmbed(new MessageEmbed().setTitle("Member kicked").setDescription("..."));
+ * // ...
+ * audit.close(); // sends whatever is still pending
+ * }</pre>
+ */
+public class WebhookClient implements AutoCloseable {
+
+    /** The default time a partial batch waits for more embeds before it is sent. */
+    public static final long DEFAULT_LINGER_MILLIS = 2000;
+
+    private final String id;
+    private final String token;
+    private final Requester requester;
+    private final long lingerMillis;
+
+    /** Embeds waiting to be sent by {@link #queueEmbed(MessageEmbed)}. Guarded by {@code this}. */
+    private final List<MessageEmbed> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private ScheduledExecutorService scheduler;
+    private boolean closed;
+
+    private String username;
+    private String avatarUrl;
+
+    /**
+     * Creates a client for the webhook with the given ID and token.
+     *
+     * @param id           The webhook ID.
+     * @param token        The webhook token.
+     * @param lingerMillis How long a partial embed batch waits before it is sent.
+     */
+    public WebhookClient(String id, String token, long lingerMillis) {
+        if (id == null || id.isEmpty() || token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("Webhook ID and token cannot be empty");
+        }
+        this.id = id;
+        this.token = token;
+        this.lingerMillis = Math.max(0, lingerMillis);
+        this.requester = new Requester(null);
+    }
+
+    /**
+     * Creates a client for the webhook with the given ID and token, using the default linger time.
+     *
+     * @param id    The webhook ID.
+     * @param token The webhook token.
+     * @return A new {@link WebhookClient}.
+     */
+    public static WebhookClient of(String id, String token) {
+        return new WebhookClient(id, token, DEFAULT_LINGER_MILLIS);
+    }
+
+    /**
+     * Creates a client from a webhook URL such as {@code https://api.fluxer.app/v1/webhooks/{id}/{token}}.
+     *
+     * @param url The full webhook URL.
+     * @return A new {@link WebhookClient}.
+     * @throws IllegalArgumentException If the URL does not contain a webhook ID and token.
+     */
+    public static WebhookClient fromUrl(String url) {
+        String[] parts = url != null ? url.split("[?#]", 2)[0].split("/") : new String[0];
+        for (int i = 0; i + 2 < parts.length; i++) {
+            if (parts[i].equals("webhooks")) {
+                return of(parts[i + 1], parts[i + 2]);
+            }
+        }
+        throw new IllegalArgumentException("Not a valid webhook URL: " + url);
+    }
+
+    /**
+     * Returns the ID of the webhook.
+     *
+     * @return The webhook ID.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Overrides the name shown as the author of messages sent by this client.
+     *
+     * @param username The name to show, or {@code null} to use the webhook's default.
+     * @return This client for chaining.
+     */
+    public WebhookClient setUsername(String username) {
+        this.username = username;
+        return this;
+    }
+
+    /**
+     * Overrides the avatar shown next to messages sent by this client.
+     *
+     * @param avatarUrl The avatar URL, or {@code null} to use the webhook's default.
+     * @return This client for chaining.
+     */
+    public WebhookClient setAvatarUrl(String avatarUrl) {
+        this.avatarUrl = avatarUrl;
+        return this;
+    }
+
+    /**
+     * Sends a plain text message through the webhook.
+     *
+     * @param content The text content of the message.
+     * @return A {@link RestAction} providing the sent {@link Message}.
+     */
+    public RestAction<Message> sendMessage(String content) {
+        return execute(new WebhookPayload(content, null, username, avatarUrl));
+    }
+
+    /**
+     * Sends a single message carrying the given embeds.
+     *
+     * @param embeds The embeds to send; at most {@value MessageEmbed#MAX_EMBEDS_PER_MESSAGE}.
+     * @return A {@link RestAction} providing the sent {@link Message}.
+     * @throws IllegalArgumentException If no embeds or too many embeds are given.
+     */
+    public RestAction<Message> sendEmbeds(MessageEmbed... embeds) {
+        return sendEmbeds(Arrays.asList(embeds));
+    }
+
+    /**
+     * Sends a single message carrying the given embeds.
+     *
+     * @param embeds The embeds to send; at most {@value MessageEmbed#MAX_EMBEDS_PER_MESSAGE}.
+     * @return A {@link RestAction} providing the sent {@link Message}.
+     * @throws IllegalArgumentException If no embeds or too many embeds are given.
+     */
+    public RestAction<Message> sendEmbeds(List<MessageEmbed> embeds) {
+        if (embeds.isEmpty() || embeds.size() > MessageEmbed.MAX_EMBEDS_PER_MESSAGE) {
+            throw new IllegalArgumentException("A message must carry between 1 and "
+                    + MessageEmbed.MAX_EMBEDS_PER_MESSAGE + " embeds, got " + embeds.size());
+        }
+        return execute(new WebhookPayload(null, new ArrayList<>(embeds), username, avatarUrl));
+    }
+
+    /**
+     * Replaces the content of a message previously sent through this webhook.
+     *
+     * @param messageId The ID of the message.
+     * @param content   The new text content.
+     * @return A {@link RestAction} providing the edited {@link Message}.
+     */
+    public RestAction<Message> editMessage(String messageId, String content) {
+        Route.CompiledRoute route = Route.EDIT_WEBHOOK_MESSAGE.compile(id, token, messageId);
+
+        return new RestAction<Message>(requester, route) {
+            @Override
+            protected Message handleResponse(String responseJson) throws Exception {
+                return new MessageImpl(mapper.readTree(responseJson), requester);
+            }
+        }.setBody(new WebhookPayload(content, null, null, null));
+    }
+
+    /**
+     * Deletes a message previously sent through this webhook.
+     *
+     * @param messageId The ID of the message.
+     * @return A {@link RestAction} representing the deletion.
+     */
+    public RestAction<Void> deleteMessage(String messageId) {
+        Route.CompiledRoute route = Route.DELETE_WEBHOOK_MESSAGE.compile(id, token, messageId);
+        return new RestAction<Void>(requester, route) {
+            @Override protected Void handleResponse(String json) { return null; }
+        };
+    }
+
+    /**
+     * Queues an embed to be sent in the next batch.
+     * <p>The batch is sent once it holds {@value MessageEmbed#MAX_EMBEDS_PER_MESSAGE} embeds, or when the
+     * linger time has passed since the first embed of the batch was queued. Failures are printed to the
+     * standard error stream.</p>
+     *
+     * @param embed The embed to send.
+     * @throws IllegalStateException If the client has been closed.
+     */
+    public synchronized void queueEmbed(MessageEmbed embed) {
+        if (closed) throw new IllegalStateException("WebhookClient has been closed");
+        pending.add(embed);
+        if (pending.size() >= MessageEmbed.MAX_EMBEDS_PER_MESSAGE) {
+            flush();
+        } else if (scheduledFlush == null) {
+            scheduledFlush = scheduler().schedule(this::flush, lingerMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Immediately sends all embeds queued through {@link #queueEmbed(MessageEmbed)}.
+     */
+    public synchronized void flush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        while (!pending.isEmpty()) {
+            int size = Math.min(pending.size(), MessageEmbed.MAX_EMBEDS_PER_MESSAGE);
+            List<MessageEmbed> batch = new ArrayList<>(pending.subList(0, size));
+            pending.subList(0, size).clear();
+            sendEmbeds(batch).queue(null, error ->
+                    System.err.println("[WebhookClient] Failed to send " + batch.size() + " embed(s): " + error.getMessage()));
+        }
+    }
+
+    /**
+     * Sends any queued embeds and stops the batching timer. Messages already handed to the requester
+     * are still delivered.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        flush();
+        closed = true;
+        if (scheduler != null) scheduler.shutdown();
+    }
+
+    private ScheduledExecutorService scheduler() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "J4Fluxer-Webhook-" + id);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return scheduler;
+    }
+
+    private RestAction<Message> execute(WebhookPayload payload) {
+        // wait=true makes the API return the created message instead of 204 No Content
+        Route.CompiledRoute route = Route.EXECUTE_WEBHOOK.compile(id, token).withQueryParams("wait", "true");
+
+        return new RestAction<Message>(requester, route) {
+            @Override
+            protected Message handleResponse(String responseJson) throws Exception {
+                return new MessageImpl(mapper.readTree(responseJson), requester);
+            }
+        }.setBody(payload);
+    }
+
+    /**
+     * Internal DTO used to encapsulate the body of a webhook execution.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private static class WebhookPayload {
+        public String content;
+        public List<MessageEmbed> embeds;
+        public String username;
+        @JsonProperty("avatar_url")
+        public String avatarUrl;
+
+        public WebhookPayload(String content, List<MessageEmbed> embeds, String username, String avatarUrl) {
+            this.content = content;
+            this.embeds = embeds;
+            this.username = username;
+            this.avatarUrl = avatarUrl;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.j4fluxer.internal.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.j4fluxer.entities.channel.GuildChannel;
+import com.j4fluxer.entities.channel.TextChannelImpl;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures the heap a cached channel retains, before and after channel payloads were decoded into typed fields.
+ *
+ * <p>Before, every channel kept its whole Jackson tree. After, it keeps only the decoded state. Both sides are
+ * measured with JOL over a batch of channels, so shared objects such as enum constants hardly affect the result.</p>
+ */
+class ChannelFootprintTest {
+
+    private static final int CHANNELS = 1_000;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static JsonNode[] payloads;
+    private static GuildChannel[] channels;
+
+    @BeforeAll
+    static void decode() throws Exception {
+        payloads = new JsonNode[CHANNELS];
+        channels = new GuildChannel[CHANNELS];
+        for (int i = 0; i < CHANNELS; i++) {
+            payloads[i] = MAPPER.readTree(payload(1_400_000_000_000_000_000L + i));
+            channels[i] = new TextChannelImpl(payloads[i], null, null);
+        }
+    }
+
+    private static String payload(long id) {
+        return """
+                {"id": "%d", "type": 0, "guild_id": "1399999999999999999", "name": "general-%d",
+                 "parent_id": "1399999999999999998", "position": 3, "topic": "Talk about anything here",
+                 "nsfw": false, "last_message_id": null, "rate_limit_per_user": 0,
+                 "permission_overwrites": [
+                   {"id": "1399999999999999999", "type": 0, "allow": "0", "deny": "2048"},
+                   {"id": "1399999999999999997", "type": 0, "allow": "3072", "deny": "0"}
+                 ]}""".formatted(id, id % 100);
+    }
+
+    private static double bytesPerEntry(Object[] entries) {
+        long total = GraphLayout.parseInstance((Object) entries).totalSize();
+        long array = GraphLayout.parseInstance((Object) new Object[entries.length]).totalSize();
+        return (double) (total - array) / entries.length;
+    }
+
+    @Test
+    void decodedChannelIsSmallerThanRetainedTree() {
+        double before = bytesPerEntry(payloads);
+        double after = bytesPerEntry(channels);
+
+        assertTrue(after * 2 < before, String.format(
+                "decoded fields retain %.1f B/channel, the retained tree %.1f B/channel", after, before));
+    }
+
+    @Test
+    void estimateCoversMeasuredSize() {
+        // MemoryEstimator assumes compressed references and class pointers, which large heaps turn off
+        assumeTrue(VM.current().sizeOfField("java.lang.Object") == MemoryEstimator.REFERENCE
+                && VM.current().objectHeaderSize() == MemoryEstimator.OBJECT_HEADER,
+                "the JVM does not use compressed references");
+        double measured = bytesPerEntry(channels);
+        long estimated = MemoryEstimator.channel(channels[0]) - MemoryEstimator.MAP_SLOT;
+
+        assertTrue(estimated >= measured * 0.8 && estimated <= measured * 1.5, String.format(
+                "estimate of %d B/channel is far from the measured %.1f B/channel", estimated, measured));
+    }
+}
@@ -0,0 +1,234 @@
+package com.j4fluxer.internal.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.j4fluxer.entities.member.Member;
+import com.j4fluxer.entities.member.MemberImpl;
+import com.j4fluxer.entities.user.UserImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactMemberStoreTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** The index mask of an empty store: its index starts with 32 slots. */
+    private static final int INITIAL_MASK = 31;
+
+    private final CompactMemberStore store = new CompactMemberStore(null, null);
+
+    static Member member(long userId, String username, String nickname, long... roleIds) {
+        ObjectNode user = MAPPER.createObjectNode()
+                .put("id", Long.toString(userId))
+                .put("username", username)
+                .put("discriminator", "0001")
+                .put("avatar", "a" + userId);
+        ObjectNode member = MAPPER.createObjectNode();
+        member.put("nick", nickname);
+        ArrayNode roles = member.putArray("roles");
+        for (long roleId : roleIds) {
+            roles.add(Long.toString(roleId));
+        }
+        return new MemberImpl(new UserImpl(user), member);
+    }
+
+    private static JsonNode json(String json) throws Exception {
+        return MAPPER.readTree(json);
+    }
+
+    /** Returns {@code count} user IDs that all start probing at the same index slot. */
+    private static long[] collidingIds(int count) {
+        long[] ids = new long[count];
+        int home = CompactMemberStore.slot(1, INITIAL_MASK);
+        int found = 0;
+        for (long id = 1; found < count; id++) {
+            if (CompactMemberStore.slot(id, INITIAL_MASK) == home) {
+                ids[found++] = id;
+            }
+        }
+        return ids;
+    }
+
+    @Test
+    void putStoresEveryColumn() {
+        store.put(member(10, "alice", "Al", 30, 20));
+
+        Member view = store.get(10);
+        assertNotNull(view);
+        assertEquals(10, view.getUser().getIdLong());
+        assertEquals("alice", view.getUser().getUsername());
+        assertEquals("0001", view.getUser().getDiscriminator());
+        assertEquals("a10", view.getUser().getAvatarHash());
+        assertEquals("Al", view.getNickname());
+        assertArrayEquals(new long[]{20, 30}, view.getRoleIdsLong());
+        assertEquals(List.of("20", "30"), view.getRoleIds());
+        assertEquals(1, store.size());
+        assertNull(store.get(11));
+        assertNull(store.get(0));
+    }
+
+    @Test
+    void putOverwritesTheExistingRow() {
+        store.put(member(10, "alice", "Al", 20));
+        Member live = store.get(10);
+
+        store.put(member(10, "alice", null, 20, 40));
+
+        assertEquals(1, store.size());
+        // A live view always reads the current row
+        assertNull(live.getNickname());
+        assertEquals("alice", live.getEffectiveName());
+        assertArrayEquals(new long[]{20, 40}, live.getRoleIdsLong());
+    }
+
+    @Test
+    void removeDetachesTheRowAndKeepsOthersReachable() {
+        for (long id = 1; id <= 5; id++) {
+            store.put(member(id, "user" + id, null, id));
+        }
+
+        // Removing a middle row moves the last row into the gap
+        Member removed = store.remove(2);
+        assertNotNull(removed);
+        assertEquals("user2", removed.getUser().getUsername());
+        assertArrayEquals(new long[]{2}, removed.getRoleIdsLong());
+        assertNull(store.get(2));
+        assertNull(store.remove(2));
+        assertEquals(4, store.size());
+        for (long id : new long[]{1, 3, 4, 5}) {
+            Member member = store.get(id);
+            assertNotNull(member, "member " + id);
+            assertEquals("user" + id, member.getUser().getUsername());
+            assertArrayEquals(new long[]{id}, member.getRoleIdsLong());
+        }
+    }
+
+    @Test
+    void removeKeepsCollidingProbeChainsIntact() {
+        long[] ids = collidingIds(6);
+        for (long id : ids) {
+            store.put(member(id, "user" + id, null));
+        }
+
+        // Backward-shift deletion must pull the rest of the chain forward, from the front, middle and end
+        assertNotNull(store.remove(ids[0]));
+        assertNotNull(store.remove(ids[3]));
+        assertNotNull(store.remove(ids[5]));
+        for (int i : new int[]{1, 2, 4}) {
+            assertEquals("user" + ids[i], store.get(ids[i]).getUser().getUsername());
+        }
+        for (int i : new int[]{0, 3, 5}) {
+            assertNull(store.get(ids[i]));
+        }
+
+        store.put(member(ids[3], "again", null));
+        assertEquals("again", store.get(ids[3]).getUser().getUsername());
+        assertEquals(4, store.size());
+    }
+
+    @Test
+    void survivesGrowthAndRehashing() {
+        int count = 10_000;
+        for (long id = 1; id <= count; id++) {
+            store.put(member(id * 7919, "user" + id, null, id % 3));
+        }
+        for (long id = 1; id <= count; id += 2) {
+            assertNotNull(store.remove(id * 7919));
+        }
+
+        assertEquals(count / 2, store.size());
+        for (long id = 1; id <= count; id++) {
+            Member member = store.get(id * 7919);
+            if (id % 2 == 1) {
+                assertNull(member, "member " + id);
+            } else {
+                assertNotNull(member, "member " + id);
+                assertEquals("user" + id, member.getUser().getUsername());
+            }
+        }
+        assertEquals(count / 2, store.userIds().length);
+    }
+
+    @Test
+    void identicalRoleSetsShareOneArray() {
+        store.put(member(1, "a", null, 5, 3));
+        store.put(member(2, "b", null, 3, 5));
+
+        assertSame(store.get(1).getRoleIdsLong(), store.get(2).getRoleIdsLong());
+    }
+
+    @Test
+    void rolePoolIsCompactedOnceItOutgrowsTheStore() {
+        for (long id = 1; id <= 100; id++) {
+            store.put(member(id, "u", null, 1000 + id));
+        }
+        for (long id = 1; id <= 100; id++) {
+            store.remove(id);
+        }
+        long withStalePool = store.estimateBytes();
+
+        store.put(member(1, "u", null, 1));
+
+        // The pooled role sets of the 100 removed members are dropped; the new member adds a little back
+        long perRoleSet = MemoryEstimator.array(1, 8) + 48;
+        long freed = withStalePool - store.estimateBytes();
+        assertTrue(freed >= 90 * perRoleSet, "only " + freed + " bytes were freed");
+    }
+
+    @Test
+    void matchesComparesOnlyThePresentFields() throws Exception {
+        store.put(member(10, "alice", "Al", 30, 20));
+
+        assertTrue(store.matches(10, null, json("{\"roles\": [\"20\", \"30\"]}")));
+        assertTrue(store.matches(10, json("{\"username\": \"alice\"}"), json("{\"nick\": \"Al\"}")));
+        assertFalse(store.matches(10, null, json("{\"roles\": [\"20\"]}")));
+        assertFalse(store.matches(10, json("{\"username\": \"bob\"}"), json("{}")));
+        assertFalse(store.matches(10, null, json("{\"nick\": null}")));
+        assertFalse(store.matches(11, null, json("{}")));
+    }
+
+    @Test
+    void holdsOnlyLiveViewsOfThisStore() {
+        Member original = member(10, "alice", null, 20);
+        store.put(original);
+        Member live = store.get(10);
+
+        assertTrue(store.holds(live));
+        assertFalse(store.holds(original));
+
+        CompactMemberStore other = new CompactMemberStore(null, null);
+        other.put(original);
+        assertFalse(store.holds(other.get(10)));
+
+        Member detached = store.remove(10);
+        assertFalse(store.holds(detached));
+        assertFalse(store.holds(live));
+    }
+
+    @Test
+    void putOfItsOwnLiveViewIsANoOp() {
+        store.put(member(10, "alice", null, 20));
+        Member live = store.get(10);
+
+        store.put(live);
+
+        assertEquals(1, store.size());
+        assertEquals("alice", store.get(10).getUser().getUsername());
+
+        List<Long> seen = new ArrayList<>();
+        store.forEach(member -> seen.add(member.getUser().getIdLong()));
+        assertEquals(List.of(10L), seen);
+    }
+}
@@ -0,0 +1,45 @@
+package com.j4fluxer.internal.cache;
+
+import com.j4fluxer.entities.member.Member;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the heap a cached member retains in the compact store against the default object store.
+ *
+ * <p>Both stores are filled with the same members and measured with JOL, so the figures include the index,
+ * the columns or member objects, and every name and role array the store keeps reachable.</p>
+ */
+class MemberFootprintTest {
+
+    private static final int MEMBERS = 10_000;
+
+    private static final long[][] ROLE_SETS = {{}, {101}, {101, 102}, {101, 102, 103, 104}};
+
+    private static GraphLayout fill(MemberStore store) {
+        for (long id = 1; id <= MEMBERS; id++) {
+            long userId = 1_400_000_000_000_000_000L + id;
+            String nickname = id % 2 == 0 ? "Nick " + id : null;
+            Member member = CompactMemberStoreTest.member(userId, "member" + id, nickname,
+                    ROLE_SETS[(int) (id % ROLE_SETS.length)]);
+            store.put(member);
+        }
+        return GraphLayout.parseInstance(store);
+    }
+
+    @Test
+    void compactStoreRetainsFewerBytesAndObjects() {
+        GraphLayout objects = fill(new ObjectMemberStore());
+        GraphLayout compact = fill(new CompactMemberStore(null, null));
+        String figures = String.format("compact store: %.1f B and %.1f objects per member, "
+                        + "object store: %.1f B and %.1f objects per member",
+                (double) compact.totalSize() / MEMBERS, (double) compact.totalCount() / MEMBERS,
+                (double) objects.totalSize() / MEMBERS, (double) objects.totalCount() / MEMBERS);
+
+        assertTrue(compact.totalSize() * 4 < objects.totalSize() * 3, figures);
+        // Fewer objects is what shortens the garbage collector's marking of a large guild
+        assertTrue(compact.totalCount() * 2 < objects.totalCount(), figures);
+    }
+}